@@ -2,9 +2,10 @@ module org.example.eiscuno {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.sql;
+    requires org.example.eiscuno.core;
 
 
     opens org.example.eiscuno to javafx.fxml;
     opens org.example.eiscuno.controller to javafx.fxml;
     exports org.example.eiscuno;
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package org.example.eiscuno.controller;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -10,32 +11,47 @@ import javafx.scene.control.Label;
 import javafx.scene.control.ProgressBar;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.GridPane;
-import javafx.scene.layout.HBox;
 import javafx.stage.Stage;
 import org.example.eiscuno.model.card.Card;
-import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.clock.AcceleratedClock;
+import org.example.eiscuno.model.engine.EngineCommand;
+import org.example.eiscuno.model.engine.GameEngine;
+import org.example.eiscuno.model.event.GameEvent;
+import org.example.eiscuno.model.event.GameEventListener;
+import org.example.eiscuno.model.game.GameSnapshot;
 import org.example.eiscuno.model.game.GameUnoModel;
-import org.example.eiscuno.model.machine.ThreadMachinePlayer;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.game.MoveResult;
+import org.example.eiscuno.model.game.TurnResult;
 import org.example.eiscuno.model.player.Player;
-import org.example.eiscuno.model.table.Table;
-import org.example.eiscuno.model.exceptions.PlayerEliminatedException;
-import org.example.eiscuno.model.exceptions.InvalidCardException;
+import org.example.eiscuno.model.rules.CompiledRules;
+import org.example.eiscuno.model.session.GameSession;
+import org.example.eiscuno.view.CardImages;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Observable;
-import java.util.Observer;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
 
 /**
  * Main controller for the Cincuentazo game.
  * Manages game flow, UI updates and user interactions following the MVC pattern.
+ * The game model is owned by a {@link GameEngine}: the controller submits the human player's
+ * moves as engine commands and renders only the snapshots and hand copies the engine posts back.
+ * Game time comes from an accelerated clock that runs at normal speed while the human plays and
+ * fast-forwards the rest of the game once the human player is eliminated.
+ * The model, engine, clock, machine players, timer and listener all belong to one {@link GameSession}:
+ * restarting deals a new game in the same session and leaving the table closes it.
  *
  * @author Jairo Andrés Tegue
  * @version 1.0
  * @since 2025
  */
-public class GameUnoController implements Observer {
+public class GameUnoController {
+
+    private static final double FAST_FORWARD_SPEED = 8.0;
+    private static final int COMPACT_LABELS_FROM = 8;
 
     @FXML private GridPane gridPaneCardsPlayer;
     @FXML private ImageView tableImageView;
@@ -48,13 +64,16 @@ public class GameUnoController implements Observer {
     @FXML private Label lblHumanCards;
     @FXML private Label lblActivePlayers;
     @FXML private ProgressBar progressSum;
-    @FXML private HBox machinePlayersContainer;
+    @FXML private FlowPane machinePlayersContainer;
 
-    private GameUnoModel gameModel;
+    private GameSession session;
+    private GameSnapshot snapshot;
+    private boolean awaitingNewGame;
+    private Card[] humanHand;
+    private boolean gameOverHandled;
     private GameTimer gameTimer;
     private int posInitCardToShow;
     private int numberOfMachinePlayers;
-    private List<ThreadMachinePlayer> machineThreads;
     private boolean isHumanTurn;
 
     /**
@@ -64,10 +83,9 @@ public class GameUnoController implements Observer {
     @FXML
     public void initialize() {
         this.posInitCardToShow = 0;
-        this.machineThreads = new ArrayList<>();
         this.gameTimer = new GameTimer();
-        this.gameTimer.addObserver(this);
         this.isHumanTurn = false;
+        this.humanHand = new Card[0];
 
         initializeUI();
     }
@@ -88,7 +106,7 @@ public class GameUnoController implements Observer {
     /**
      * Sets the number of machine players and initializes the game.
      *
-     * @param numberOfMachinePlayers the number of machine players (1-3)
+     * @param numberOfMachinePlayers the number of machine players
      */
     public void setNumberOfMachinePlayers(int numberOfMachinePlayers) {
         this.numberOfMachinePlayers = numberOfMachinePlayers;
@@ -96,27 +114,37 @@ public class GameUnoController implements Observer {
     }
 
     /**
-     * Initializes the game with players, deck, and table.
-     * Starts the game timer and machine player threads.
+     * Opens the game session with its players, deck, and table.
+     * Starts the game engine, the game timer and the machine player scheduler.
      */
     private void initializeGame() {
         try {
-            Player humanPlayer = new Player("JUGADOR_HUMANO");
-            Deck deck = new Deck();
-            Table table = new Table();
+            closeSession();
+
+            GameSession newSession = new GameSession(new Player("JUGADOR_HUMANO"), numberOfMachinePlayers);
+            newSession.getGame().getEventBus().setBatchPerAction(true);
+            newSession.addGameEventListener(new GameEventListener() {
+                @Override
+                public void onEvent(GameEvent event) {
+                    postUpdate(newSession, event);
+                }
 
-            this.gameModel = new GameUnoModel(humanPlayer, numberOfMachinePlayers, deck, table);
-            this.gameModel.addObserver(this);
-            this.gameModel.startGame();
+                @Override
+                public void onEvents(List<GameEvent> events) {
+                    postUpdate(newSession, events.get(events.size() - 1));
+                }
+            });
+            this.session = newSession;
+            clearGameView();
 
             gameTimer.startTimer();
-
-            this.isHumanTurn = gameModel.getCurrentPlayer().getTypePlayer().startsWith("JUGADOR_HUMANO");
             gameTimer.startTurnTimer("Jugador Humano");
 
-            updateUI();
-            startMachineThreads();
-            updateCurrentPlayerIndicator();
+            session.start().whenComplete((result, error) -> {
+                if (error != null) {
+                    Platform.runLater(() -> showErrorAlert("Error al inicializar el juego", causeOf(error).getMessage()));
+                }
+            });
 
         } catch (Exception e) {
             showErrorAlert("Error al inicializar el juego", e.getMessage());
@@ -124,17 +152,68 @@ public class GameUnoController implements Observer {
     }
 
     /**
-     * Starts the threads for all machine players.
+     * Forgets the state rendered for the previous game.
      */
-    private void startMachineThreads() {
-        for (int i = 0; i < numberOfMachinePlayers; i++) {
-            ThreadMachinePlayer machineThread = new ThreadMachinePlayer(
-                    gameModel.getMachinePlayers().get(i),
-                    gameModel,
-                    tableImageView
-            );
-            machineThreads.add(machineThread);
-            machineThread.start();
+    private void clearGameView() {
+        this.snapshot = null;
+        this.humanHand = new Card[0];
+        this.posInitCardToShow = 0;
+        this.gameOverHandled = false;
+    }
+
+    /**
+     * Posts the result of a game action to the JavaFX thread.
+     * Runs on the engine thread, where the human player's hand can be copied safely.
+     *
+     * @param owner the session whose game published the event
+     * @param event the last event of the action
+     */
+    private void postUpdate(GameSession owner, GameEvent event) {
+        Card[] hand = owner.getGame().getHumanPlayer().getCardsPlayer().toArray(new Card[0]);
+        Platform.runLater(() -> {
+            if (owner == session) {
+                applyUpdate(event, hand);
+            }
+        });
+    }
+
+    /**
+     * Applies the state posted by the engine to the user interface.
+     * After a restart, updates still queued from the previous game are skipped until the new game starts.
+     *
+     * @param event the last event of the action
+     * @param hand the human player's hand after the action
+     */
+    private void applyUpdate(GameEvent event, Card[] hand) {
+        if (awaitingNewGame) {
+            if (event.getType() != GameEvent.Type.GAME_STARTED) return;
+            awaitingNewGame = false;
+        }
+        if (event.getSnapshot() == null) return;
+
+        GameSnapshot previous = this.snapshot;
+        this.snapshot = event.getSnapshot();
+        this.humanHand = hand;
+        if (posInitCardToShow > Math.max(0, hand.length - 4)) {
+            posInitCardToShow = Math.max(0, hand.length - 4);
+        }
+
+        updateUI();
+        lblGameStatus.setText(event.describe());
+
+        if (previous == null || previous.getCurrentPlayerIndex() != snapshot.getCurrentPlayerIndex()) {
+            updateCurrentPlayerIndicator();
+            gameTimer.startTurnTimer(getGameModel().getPlayerAt(snapshot.getCurrentPlayerIndex()).getTypePlayer());
+        }
+
+        AcceleratedClock clock = session.getClock();
+        if (!snapshot.isPlayerActive(0) && clock.getSpeed() < FAST_FORWARD_SPEED) {
+            clock.setSpeed(FAST_FORWARD_SPEED);
+        }
+
+        if (snapshot.isGameOver() && !gameOverHandled) {
+            gameOverHandled = true;
+            handleGameOver();
         }
     }
 
@@ -142,18 +221,17 @@ public class GameUnoController implements Observer {
      * Updates all UI components with current game state.
      */
     private void updateUI() {
+        if (snapshot == null) return;
+
+        this.isHumanTurn = snapshot.getCurrentPlayerIndex() == 0 && snapshot.isPlayerActive(0);
+
         printCardsHumanPlayer();
         updateTableInfo();
         updateMachinePlayersDisplay();
         updatePlayerInfo();
         updateProgressBar();
-        lblGameStatus.setText(gameModel.getGameStatus());
 
         ensureTableCardDisplayed();
-
-        if (gameModel != null && gameModel.getCurrentPlayer() != null) {
-            this.isHumanTurn = gameModel.getCurrentPlayer().getTypePlayer().startsWith("JUGADOR_HUMANO");
-        }
     }
 
     /**
@@ -163,22 +241,24 @@ public class GameUnoController implements Observer {
     private void printCardsHumanPlayer() {
         this.gridPaneCardsPlayer.getChildren().clear();
 
-        if (gameModel.isPlayerEliminated(gameModel.getHumanPlayer())) {
+        if (snapshot == null) return;
+
+        if (!snapshot.isPlayerActive(0)) {
             Label eliminatedLabel = new Label("ELIMINADO - No puedes jugar más cartas");
             eliminatedLabel.setStyle("-fx-text-fill: red; -fx-font-size: 16px; -fx-font-weight: bold;");
             this.gridPaneCardsPlayer.add(eliminatedLabel, 0, 0);
             return;
         }
 
-        Card[] currentVisibleCards = this.gameModel.getCurrentVisibleCardsHumanPlayer(this.posInitCardToShow);
+        int numVisibleCards = Math.min(4, humanHand.length - posInitCardToShow);
 
-        for (int i = 0; i < currentVisibleCards.length; i++) {
-            Card card = currentVisibleCards[i];
-            ImageView cardImageView = card.getCard();
+        for (int i = 0; i < numVisibleCards; i++) {
+            Card card = humanHand[posInitCardToShow + i];
+            ImageView cardImageView = CardImages.getImageView(card);
 
-            boolean canPlayCard = card.canBePlayed(gameModel.getCurrentSum());
+            boolean canPlayCard = getRules().isPlayable(card.getId(), snapshot.getCurrentSum());
 
-            if (isHumanTurn && canPlayCard && !gameModel.isPlayerEliminated(gameModel.getHumanPlayer())) {
+            if (isHumanTurn && canPlayCard) {
                 cardImageView.setStyle("-fx-effect: dropshadow(gaussian, #00ff00, 15, 0.7, 0, 0); -fx-cursor: hand;");
                 cardImageView.setOnMouseClicked((MouseEvent event) -> {
                     handleCardPlay(card);
@@ -206,62 +286,31 @@ public class GameUnoController implements Observer {
 
     /**
      * Handles the card play action when a player clicks on a card.
+     * The play, the draw that follows it and the turn change run as one turn in the engine.
      *
      * @param card the card to be played
      */
     private void handleCardPlay(Card card) {
-        try {
-            if (gameModel == null) {
-                showErrorAlert("Juego no inicializado", "El juego no se ha inicializado correctamente.");
-                return;
-            }
-
-            if (!isHumanTurn) {
-                showWarningAlert("No es tu turno", "Espera tu turno para jugar una carta.");
-                return;
-            }
-
-            if (card.canBePlayed(gameModel.getCurrentSum())) {
-                gameModel.playCard(card, gameModel.getHumanPlayer());
-                tableImageView.setImage(card.getImage());
-
-                updateUI();
-
-                try {
-                    gameModel.takeCardFromDeck(gameModel.getHumanPlayer());
-                    updateUI();
-
-                    if (!gameModel.canPlayerPlay(gameModel.getHumanPlayer())) {
-                        showInformationAlert("Jugador Eliminado", "¡No puedes jugar ninguna carta. Has sido eliminado!");
-                        gameModel.eliminatePlayer(gameModel.getHumanPlayer());
-                        updateUI();
-                    }
-
-                } catch (Exception e) {
-                    System.err.println("Error al tomar carta después de jugar: " + e.getMessage());
-                }
-
-                if (!gameModel.isPlayerEliminated(gameModel.getHumanPlayer())) {
-                    gameModel.nextTurn();
-                    updateCurrentPlayerIndicator();
-                    gameTimer.startTurnTimer(gameModel.getCurrentPlayer().getTypePlayer());
-                }
+        if (session == null || snapshot == null) {
+            showErrorAlert("Juego no inicializado", "El juego no se ha inicializado correctamente.");
+            return;
+        }
 
-                if (gameModel.isGameOver()) {
-                    handleGameOver();
-                }
+        if (!isHumanTurn) {
+            showWarningAlert("No es tu turno", "Espera tu turno para jugar una carta.");
+            return;
+        }
 
-            } else {
-                showWarningAlert("Movimiento inválido", "Esta carta haría que la suma exceda 50.");
-            }
-        } catch (PlayerEliminatedException e) {
-            showErrorAlert("Jugador Eliminado", e.getMessage());
-            updateUI();
-        } catch (InvalidCardException e) {
-            showErrorAlert("Carta Inválida", e.getMessage());
-        } catch (Exception e) {
-            showErrorAlert("Error al jugar carta", e.getMessage());
+        if (!getRules().isPlayable(card.getId(), snapshot.getCurrentSum())) {
+            showWarningAlert("Movimiento inválido", exceedsLimitMessage());
+            return;
         }
+
+        this.isHumanTurn = false;
+        Player humanPlayer = getGameModel().getHumanPlayer();
+        submitHumanTurn(game -> game.executeTurn(humanPlayer,
+                        Move.optimal(card.getId(), game.getCurrentSum(), game.getRules())),
+                "Error al jugar carta", false);
     }
 
     /**
@@ -272,45 +321,93 @@ public class GameUnoController implements Observer {
      */
     @FXML
     void onHandleTakeCard(ActionEvent event) {
-        if (gameModel == null) {
+        if (session == null || snapshot == null) {
             showErrorAlert("Juego no inicializado", "El juego no se ha inicializado correctamente.");
             return;
         }
 
-        try {
-            if (!isHumanTurn) {
-                showWarningAlert("No es tu turno", "Solo puedes tomar cartas en tu turno.");
+        if (!isHumanTurn) {
+            showWarningAlert("No es tu turno", "Solo puedes tomar cartas en tu turno.");
+            return;
+        }
+
+        this.isHumanTurn = false;
+        Player humanPlayer = getGameModel().getHumanPlayer();
+        submitHumanTurn(game -> game.executeTurn(humanPlayer, Move.NONE), "Error al tomar carta", true);
+    }
+
+    /**
+     * Submits a turn of the human player to the engine and reports its outcome on the JavaFX thread.
+     *
+     * @param turn the command that executes the turn
+     * @param errorTitle the title of the alert shown if the command fails
+     * @param cardTaken whether the turn only takes a card from the deck
+     */
+    private void submitHumanTurn(EngineCommand<TurnResult> turn, String errorTitle, boolean cardTaken) {
+        session.getEngine().submit(turn).whenComplete((result, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                showErrorAlert(errorTitle, causeOf(error).getMessage());
+                updateUI();
                 return;
             }
 
-            Card newCard = gameModel.takeCardFromDeck(gameModel.getHumanPlayer());
-            printCardsHumanPlayer();
-            showInformationAlert("Carta Tomada", "Has tomado una carta del mazo.");
+            if (!result.isOk()) {
+                showRejectedTurn(result.getResult());
+                updateUI();
+                return;
+            }
 
-            if (!gameModel.canPlayerPlay(gameModel.getHumanPlayer())) {
+            if (cardTaken) {
+                showInformationAlert("Carta Tomada", "Has tomado una carta del mazo.");
+            }
+            if (result.isEliminated()) {
                 showInformationAlert("Jugador Eliminado", "¡No puedes jugar ninguna carta. Has sido eliminado!");
-                gameModel.eliminatePlayer(gameModel.getHumanPlayer());
-                updateUI();
-            } else {
-                gameModel.nextTurn();
-                updateCurrentPlayerIndicator();
             }
+        }));
+    }
 
-        } catch (Exception e) {
-            showErrorAlert("Error al tomar carta", e.getMessage());
+    /**
+     * Explains to the human player why a turn was rejected.
+     *
+     * @param result the reason the turn was rejected
+     */
+    private void showRejectedTurn(MoveResult result) {
+        switch (result) {
+            case PLAYER_ELIMINATED:
+                showErrorAlert("Jugador Eliminado", "Has sido eliminado y no puedes jugar más.");
+                break;
+            case NOT_YOUR_TURN:
+                showWarningAlert("No es tu turno", "Espera tu turno para jugar.");
+                break;
+            case EXCEEDS_LIMIT:
+                showWarningAlert("Movimiento inválido", exceedsLimitMessage());
+                break;
+            default:
+                showErrorAlert("Carta Inválida", "No se puede jugar esta carta.");
+                break;
         }
     }
 
+    /**
+     * Unwraps the failure of an engine command.
+     *
+     * @param error the failure reported by the command's future
+     * @return the exception thrown by the command
+     */
+    private static Throwable causeOf(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
     /**
      * Updates the table information labels (sum, cards on table, cards remaining).
      */
     private void updateTableInfo() {
-        if (gameModel == null) return;
+        if (snapshot == null) return;
 
-        int currentSum = gameModel.getCurrentSum();
+        int currentSum = snapshot.getCurrentSum();
         lblTableSum.setText("Suma: " + currentSum + "/50");
-        lblCardsOnTable.setText(String.valueOf(gameModel.getTable().getNumberOfCards()));
-        lblCardsRemaining.setText(String.valueOf(gameModel.getDeck().size()));
+        lblCardsOnTable.setText(String.valueOf(snapshot.getTableSize()));
+        lblCardsRemaining.setText(String.valueOf(snapshot.getDeckSize()));
     }
 
     /**
@@ -318,9 +415,9 @@ public class GameUnoController implements Observer {
      * Changes color based on proximity to the limit.
      */
     private void updateProgressBar() {
-        if (gameModel == null) return;
+        if (snapshot == null) return;
 
-        double progress = gameModel.getCurrentSum() / 50.0;
+        double progress = snapshot.getCurrentSum() / 50.0;
         progressSum.setProgress(progress);
 
         if (progress > 0.8) {
@@ -336,9 +433,9 @@ public class GameUnoController implements Observer {
      * Updates player information labels (human cards count, active players count).
      */
     private void updatePlayerInfo() {
-        if (gameModel == null) return;
+        if (snapshot == null) return;
 
-        lblHumanCards.setText("Tus cartas: " + gameModel.getHumanPlayer().getCardsPlayer().size());
+        lblHumanCards.setText("Tus cartas: " + snapshot.getHandSize(0));
         int activePlayers = countActivePlayers();
         lblActivePlayers.setText("Jugadores activos: " + activePlayers);
     }
@@ -349,49 +446,40 @@ public class GameUnoController implements Observer {
      * @return the number of active players
      */
     private int countActivePlayers() {
-        if (gameModel == null) return 0;
-
-        int activePlayers = 0;
-
-        if (!gameModel.isPlayerEliminated(gameModel.getHumanPlayer())) {
-            activePlayers++;
-        }
+        if (snapshot == null) return 0;
 
-        for (Player machine : gameModel.getMachinePlayers()) {
-            if (!gameModel.isPlayerEliminated(machine)) {
-                activePlayers++;
-            }
-        }
-
-        return activePlayers;
+        return snapshot.getActivePlayerCount();
     }
 
     /**
      * Updates the display of machine players with their current status.
+     * Large tables use short labels so every machine fits in a few rows.
      */
     private void updateMachinePlayersDisplay() {
         machinePlayersContainer.getChildren().clear();
 
-        if (gameModel == null) return;
+        if (snapshot == null) return;
 
-        for (int i = 0; i < gameModel.getMachinePlayers().size(); i++) {
-            Player machine = gameModel.getMachinePlayers().get(i);
-            boolean isEliminated = gameModel.isPlayerEliminated(machine);
+        boolean compact = snapshot.getTotalPlayers() - 1 >= COMPACT_LABELS_FROM;
+        for (int i = 0; i < snapshot.getTotalPlayers() - 1; i++) {
+            int seat = i + 1;
+            boolean isEliminated = !snapshot.isPlayerActive(seat);
+            boolean isCurrent = snapshot.getCurrentPlayerIndex() == seat;
 
             String status;
             if (isEliminated) {
                 status = "ELIMINADO";
-            } else if (machine.equals(gameModel.getCurrentPlayer())) {
-                status = "TURNO - " + machine.getCardsPlayer().size() + " cartas";
+            } else if (isCurrent) {
+                status = "TURNO - " + snapshot.getHandSize(seat) + " cartas";
             } else {
-                status = machine.getCardsPlayer().size() + " cartas";
+                status = snapshot.getHandSize(seat) + " cartas";
             }
 
-            Label machineLabel = new Label("Máquina " + (i + 1) + ": " + status);
+            Label machineLabel = new Label((compact ? "M" : "Máquina ") + (i + 1) + ": " + status);
 
             if (isEliminated) {
                 machineLabel.setStyle("-fx-text-fill: #FF6B6B; -fx-font-weight: bold; -fx-padding: 5px;");
-            } else if (machine.equals(gameModel.getCurrentPlayer())) {
+            } else if (isCurrent) {
                 machineLabel.setStyle("-fx-text-fill: #FFD700; -fx-font-weight: bold; -fx-padding: 5px;");
             } else {
                 machineLabel.setStyle("-fx-text-fill: #4ECDC4; -fx-font-weight: bold; -fx-padding: 5px;");
@@ -405,9 +493,9 @@ public class GameUnoController implements Observer {
      * Updates the current player indicator label.
      */
     private void updateCurrentPlayerIndicator() {
-        if (gameModel == null) return;
+        if (snapshot == null) return;
 
-        Player currentPlayer = gameModel.getCurrentPlayer();
+        Player currentPlayer = getGameModel().getPlayerAt(snapshot.getCurrentPlayerIndex());
         if (currentPlayer.getTypePlayer().startsWith("JUGADOR_HUMANO")) {
             lblCurrentPlayer.setText("Turno: Jugador Humano");
             lblCurrentPlayer.setStyle("-fx-text-fill: #4ECDC4; -fx-font-weight: bold; -fx-font-size: 14px;");
@@ -421,16 +509,17 @@ public class GameUnoController implements Observer {
 
     /**
      * Handles game over state.
-     * Stops all threads and displays the winner.
+     * Stops the timer and displays the winner; the machine players have nothing left to play.
      */
     private void handleGameOver() {
-        for (ThreadMachinePlayer thread : machineThreads) {
-            thread.stopThread();
-        }
-
         gameTimer.stopTimer();
 
-        Player winner = gameModel.determineWinner();
+        Player winner = null;
+        for (int seat = 0; seat < snapshot.getTotalPlayers(); seat++) {
+            if (snapshot.isPlayerActive(seat)) {
+                winner = getGameModel().getPlayerAt(seat);
+            }
+        }
         String winnerName = winner != null ?
                 (winner.getTypePlayer().startsWith("JUGADOR_HUMANO") ? "¡Jugador Humano!" : winner.getTypePlayer()) :
                 "Sin ganador";
@@ -496,28 +585,6 @@ public class GameUnoController implements Observer {
         alert.showAndWait();
     }
 
-    /**
-     * Updates the observer with changes from Observable objects.
-     *
-     * @param o the observable object
-     * @param arg the argument passed by the observable
-     */
-    @Override
-    public void update(Observable o, Object arg) {
-        if (o instanceof GameUnoModel && arg instanceof String) {
-            String message = (String) arg;
-            javafx.application.Platform.runLater(() -> {
-                updateUI();
-                lblGameStatus.setText(gameModel.getGameStatus());
-            });
-        } else if (o instanceof GameTimer && arg instanceof String) {
-            String timerInfo = (String) arg;
-            javafx.application.Platform.runLater(() -> {
-                lblTimer.setText(timerInfo);
-            });
-        }
-    }
-
     /**
      * Handles the back button action to show previous cards.
      *
@@ -525,7 +592,7 @@ public class GameUnoController implements Observer {
      */
     @FXML
     void onHandleBack(ActionEvent event) {
-        if (gameModel != null && this.posInitCardToShow > 0) {
+        if (session != null && this.posInitCardToShow > 0) {
             this.posInitCardToShow--;
             printCardsHumanPlayer();
         }
@@ -538,7 +605,7 @@ public class GameUnoController implements Observer {
      */
     @FXML
     void onHandleNext(ActionEvent event) {
-        if (gameModel != null && this.posInitCardToShow < this.gameModel.getHumanPlayer().getCardsPlayer().size() - 4) {
+        if (session != null && this.posInitCardToShow < this.humanHand.length - 4) {
             this.posInitCardToShow++;
             printCardsHumanPlayer();
         }
@@ -546,23 +613,28 @@ public class GameUnoController implements Observer {
 
     /**
      * Handles the restart button action to restart the game.
+     * The new game is dealt in the same session, reusing its model, cards and images.
      *
      * @param event the action event
      */
     @FXML
     void onHandleRestart(ActionEvent event) {
-        if (gameModel == null) {
+        if (session == null) {
             showErrorAlert("Juego no inicializado", "El juego no se ha inicializado correctamente.");
             return;
         }
 
         try {
-            if (gameTimer != null) gameTimer.stopTimer();
-            for (ThreadMachinePlayer thread : machineThreads) {
-                thread.stopThread();
-            }
+            clearGameView();
+            this.awaitingNewGame = true;
+            gameTimer.startTimer();
+            gameTimer.startTurnTimer("Jugador Humano");
 
-            initializeGame();
+            session.reset().whenComplete((result, error) -> {
+                if (error != null) {
+                    Platform.runLater(() -> showErrorAlert("Error al reiniciar", causeOf(error).getMessage()));
+                }
+            });
             showInformationAlert("Juego Reiniciado", "El juego ha sido reiniciado.");
 
         } catch (Exception e) {
@@ -578,10 +650,7 @@ public class GameUnoController implements Observer {
     @FXML
     void onHandleExit(ActionEvent event) {
         try {
-            if (gameTimer != null) gameTimer.stopTimer();
-            for (ThreadMachinePlayer thread : machineThreads) {
-                thread.stopThread();
-            }
+            closeSession();
 
             Stage currentStage = (Stage) lblTableSum.getScene().getWindow();
             currentStage.close();
@@ -599,37 +668,62 @@ public class GameUnoController implements Observer {
         }
     }
 
+    /**
+     * Closes the game session, which stops the machine players, the game timer and the game engine.
+     */
+    private void closeSession() {
+        if (gameTimer != null) gameTimer.stopTimer();
+        if (session != null) session.close();
+    }
+
     /**
      * Gets the game model.
      *
-     * @return the current game model
+     * @return the current game model, or null if no game was started
      */
     public GameUnoModel getGameModel() {
-        return gameModel;
+        return session != null ? session.getGame() : null;
+    }
+
+    /**
+     * Gets the rules of the current game. Compiled rules are immutable, so the UI thread may read them.
+     *
+     * @return the rules the game is played by
+     */
+    private CompiledRules getRules() {
+        return getGameModel().getRules();
+    }
+
+    /**
+     * Builds the message shown when a card would take the sum past the rules' limit.
+     *
+     * @return the warning message
+     */
+    private String exceedsLimitMessage() {
+        return "Esta carta haría que la suma exceda " + getRules().getTargetSum() + ".";
     }
 
     /**
      * Ensures the current table card is always displayed.
      */
     private void ensureTableCardDisplayed() {
-        if (gameModel == null || gameModel.getTable() == null) return;
+        if (snapshot == null) return;
 
-        try {
-            Card currentCard = gameModel.getTable().getCurrentCardOnTheTable();
-            if (currentCard != null && tableImageView.getImage() == null) {
-                tableImageView.setImage(currentCard.getImage());
-            }
-        } catch (Exception e) {
-            // Table might be empty, which is normal
+        int topCardId = snapshot.getTopCardId();
+        if (topCardId >= 0) {
+            tableImageView.setImage(CardImages.getImage(topCardId));
         }
     }
 
     /**
      * Inner class for managing game and turn timers.
-     * Extends Observable to notify observers of time updates.
+     * Shows time updates directly on the timer label, ticking once per second as a timer of the
+     * game session rather than on a thread of its own. Durations are read from the game clock,
+     * so they stay correct while the game is fast-forwarded.
      */
-    private class GameTimer extends Observable implements Runnable {
+    private class GameTimer implements Runnable {
         private volatile boolean running;
+        private ScheduledFuture<?> ticks;
         private long startTime;
         private long currentTime;
         private long turnStartTime;
@@ -647,13 +741,15 @@ public class GameUnoController implements Observer {
         }
 
         /**
-         * Starts the game timer.
+         * Starts the game timer, or restarts it from zero if it is already ticking.
          */
         public void startTimer() {
             this.running = true;
-            this.startTime = System.currentTimeMillis();
+            this.startTime = session.getClock().currentTimeMillis();
             this.turnStartTime = startTime;
-            new Thread(this, "GameTimer").start();
+            if (ticks == null) {
+                this.ticks = session.scheduleAtFixedRate(this, 1000);
+            }
         }
 
         /**
@@ -661,6 +757,10 @@ public class GameUnoController implements Observer {
          */
         public void stopTimer() {
             this.running = false;
+            if (ticks != null) {
+                ticks.cancel(false);
+                ticks = null;
+            }
         }
 
         /**
@@ -669,25 +769,19 @@ public class GameUnoController implements Observer {
          * @param playerName the name of the player whose turn is starting
          */
         public void startTurnTimer(String playerName) {
-            this.turnStartTime = System.currentTimeMillis();
+            this.turnStartTime = session.getClock().currentTimeMillis();
             this.currentPlayer = playerName;
-            notifyObservers("Turno iniciado para: " + playerName);
+            display("Turno iniciado para: " + playerName);
         }
 
         /**
-         * Main execution loop for the timer thread.
+         * Timer tick, run once per second by the scheduler.
          */
         @Override
         public void run() {
-            while (running) {
-                try {
-                    currentTime = System.currentTimeMillis();
-                    updateDisplay();
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    System.out.println("Temporizador del juego interrumpido: " + e.getMessage());
-                    break;
-                }
+            if (running) {
+                currentTime = session.getClock().currentTimeMillis();
+                updateDisplay();
             }
         }
 
@@ -703,10 +797,7 @@ public class GameUnoController implements Observer {
                     gameDuration / 60, gameDuration % 60, turnDuration
             );
 
-            javafx.application.Platform.runLater(() -> {
-                setChanged();
-                notifyObservers(timerInfo);
-            });
+            display(timerInfo);
         }
 
         /**
@@ -746,13 +837,12 @@ public class GameUnoController implements Observer {
         }
 
         /**
-         * Notifies observers of timer updates.
+         * Shows a timer message on the timer label.
          *
-         * @param message the message to send to observers
+         * @param message the message to display
          */
-        private void notifyObservers(String message) {
-            setChanged();
-            super.notifyObservers(message);
+        private void display(String message) {
+            Platform.runLater(() -> lblTimer.setText(message));
         }
     }
 }
\ No newline at end of file
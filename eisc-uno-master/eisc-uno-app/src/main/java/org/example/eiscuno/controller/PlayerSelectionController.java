@@ -6,12 +6,16 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.scene.control.Button;
+import javafx.scene.control.Spinner;
+import javafx.scene.control.SpinnerValueFactory;
 import javafx.stage.Stage;
+import org.example.eiscuno.model.game.GameUnoModel;
 import java.io.IOException;
 
 /**
  * Controller for the player selection screen in Cincuentazo game.
- * Allows the user to select the number of machine players (1-3) before starting the game.
+ * Allows the user to select the number of machine players before starting the game: 1-3 with the
+ * quick buttons, or any table size the game supports with the spinner.
  *
  * @author Jairo Andrés Tegue
  * @version 1.0
@@ -28,6 +32,12 @@ public class PlayerSelectionController {
     @FXML
     private Button btnThreeMachines;
 
+    @FXML
+    private Spinner<Integer> spinnerMachines;
+
+    @FXML
+    private Button btnCustomMachines;
+
     /**
      * Initializes the controller and sets up button actions.
      * Called automatically after the FXML file has been loaded.
@@ -44,12 +54,23 @@ public class PlayerSelectionController {
         btnOneMachine.setOnAction(event -> startGameWithMachines(1));
         btnTwoMachines.setOnAction(event -> startGameWithMachines(2));
         btnThreeMachines.setOnAction(event -> startGameWithMachines(3));
+
+        spinnerMachines.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(
+                GameUnoModel.MIN_PLAYERS - 1, GameUnoModel.MAX_PLAYERS - 1, 4));
+        btnCustomMachines.setOnAction(event -> {
+            try {
+                spinnerMachines.commitValue();
+            } catch (NumberFormatException e) {
+                spinnerMachines.cancelEdit();
+            }
+            startGameWithMachines(spinnerMachines.getValue());
+        });
     }
 
     /**
      * Starts the game with the selected number of machine players.
      *
-     * @param numberOfMachines the number of machine players (1-3)
+     * @param numberOfMachines the number of machine players
      */
     private void startGameWithMachines(int numberOfMachines) {
         try {
@@ -0,0 +1,79 @@
+package org.example.eiscuno.view;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Attaches JavaFX visuals to the headless {@link Card} model.
+ * Each card image is decoded once per application and shared by every card with the same path,
+ * while each card instance gets its own ImageView node for display in the scene graph.
+ * All methods must be called from the JavaFX application thread.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class CardImages {
+
+    private static final Map<String, Image> IMAGES = new HashMap<>();
+    private static final Map<Card, ImageView> IMAGE_VIEWS = new WeakHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private CardImages() {
+    }
+
+    /**
+     * Gets the Image of a card, decoding it on first use.
+     *
+     * @param card the card whose image is requested
+     * @return the shared Image for the card's resource path
+     */
+    public static Image getImage(Card card) {
+        return IMAGES.computeIfAbsent(card.getUrl(),
+                url -> new Image(String.valueOf(CardImages.class.getResource(url))));
+    }
+
+    /**
+     * Gets the Image of a card from its id, decoding it on first use.
+     *
+     * @param cardId the id of the card whose image is requested
+     * @return the shared Image for the card's resource path
+     */
+    public static Image getImage(int cardId) {
+        return IMAGES.computeIfAbsent(EISCUnoEnum.fromId(cardId).getFilePath(),
+                url -> new Image(String.valueOf(CardImages.class.getResource(url))));
+    }
+
+    /**
+     * Gets the ImageView representation of a card for GUI display.
+     * The same node is returned for the same card instance.
+     *
+     * @param card the card to display
+     * @return the ImageView of this card
+     */
+    public static ImageView getImageView(Card card) {
+        return IMAGE_VIEWS.computeIfAbsent(card, CardImages::createCardImageView);
+    }
+
+    /**
+     * Creates and configures the ImageView for the card display.
+     *
+     * @param card the card to display
+     * @return a configured ImageView for this card
+     */
+    private static ImageView createCardImageView(Card card) {
+        ImageView cardImageView = new ImageView(getImage(card));
+        cardImageView.setY(16);
+        cardImageView.setFitHeight(90);
+        cardImageView.setFitWidth(70);
+        return cardImageView;
+    }
+}
@@ -0,0 +1,16 @@
+module org.example.eiscuno.core {
+    exports org.example.eiscuno.model.card;
+    exports org.example.eiscuno.model.clock;
+    exports org.example.eiscuno.model.deck;
+    exports org.example.eiscuno.model.engine;
+    exports org.example.eiscuno.model.event;
+    exports org.example.eiscuno.model.exceptions;
+    exports org.example.eiscuno.model.game;
+    exports org.example.eiscuno.model.machine;
+    exports org.example.eiscuno.model.player;
+    exports org.example.eiscuno.model.rules;
+    exports org.example.eiscuno.model.session;
+    exports org.example.eiscuno.model.simulation;
+    exports org.example.eiscuno.model.table;
+    exports org.example.eiscuno.model.unoenum;
+}
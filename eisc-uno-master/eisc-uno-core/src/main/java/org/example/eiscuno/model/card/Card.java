@@ -1,49 +1,33 @@
 package org.example.eiscuno.model.card;
 
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
 
 /**
  * Represents a playing card in the Cincuentazo game.
- * Each card has an image, value, color, and game-specific behavior.
+ * Each card has an image path, value, color, and game-specific behavior.
+ * The card itself holds no JavaFX resources; the UI resolves its image from {@link #getUrl()}.
  *
  * @author Jairo Andrés Tegue
  * @version 1.0
  * @since 2025
  */
 public class Card {
+    private final int id;
     private String url;
     private String value;
     private String color;
-    private Image image;
-    private ImageView cardImageView;
 
     /**
-     * Constructs a Card with the specified image URL, value, and color.
+     * Constructs the Card with the specified id.
+     * The image URL, value and color are taken from the EISCUnoEnum lookup tables.
      *
-     * @param url the path to the card image resource
-     * @param value the value of the card (2-10, J, Q, K, A)
-     * @param color the suit/color of the card (HEARTS, DIAMONDS, SPADES, CLUBS)
+     * @param id the card id (0..51)
      */
-    public Card(String url, String value, String color) {
-        this.url = url;
-        this.value = value;
-        this.color = color;
-        this.image = new Image(String.valueOf(getClass().getResource(url)));
-        this.cardImageView = createCardImageView();
-    }
-
-    /**
-     * Creates and configures the ImageView for the card display.
-     *
-     * @return a configured ImageView for this card
-     */
-    private ImageView createCardImageView() {
-        ImageView card = new ImageView(this.image);
-        card.setY(16);
-        card.setFitHeight(90);
-        card.setFitWidth(70);
-        return card;
+    public Card(int id) {
+        this.id = id;
+        this.url = EISCUnoEnum.fromId(id).getFilePath();
+        this.value = EISCUnoEnum.rankLabelOf(id);
+        this.color = EISCUnoEnum.suitNameOf(id);
     }
 
     /**
@@ -54,10 +38,7 @@ public class Card {
      * @return the calculated value of this card
      */
     public int getGameValue(int currentTableSum) {
-        if ("A".equals(this.value)) {
-            return CardValueCalculator.calculateOptimalAValue(currentTableSum);
-        }
-        return CardValueCalculator.calculateValue(this.value);
+        return CardValueCalculator.calculateGameValue(this.id, currentTableSum);
     }
 
     /**
@@ -67,25 +48,16 @@ public class Card {
      * @return true if the card can be played, false otherwise
      */
     public boolean canBePlayed(int currentTableSum) {
-        return CardValueCalculator.isValidPlay(this.value, currentTableSum);
-    }
-
-    /**
-     * Gets the ImageView representation of this card for GUI display.
-     *
-     * @return the ImageView of this card
-     */
-    public ImageView getCard() {
-        return cardImageView;
+        return CardValueCalculator.isValidPlay(this.id, currentTableSum);
     }
 
     /**
-     * Gets the Image object of this card.
+     * Gets the compact id of this card.
      *
-     * @return the Image of this card
+     * @return the card id (0..51)
      */
-    public Image getImage() {
-        return image;
+    public int getId() {
+        return id;
     }
 
     /**
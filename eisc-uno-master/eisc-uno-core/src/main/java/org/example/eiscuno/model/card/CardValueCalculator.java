@@ -0,0 +1,159 @@
+package org.example.eiscuno.model.card;
+
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+/**
+ * Utility class for calculating card values according to Cincuentazo game rules.
+ * Handles special card values and validation for game moves.
+ * The id-based methods are the hot path: they only read the EISCUnoEnum lookup tables.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public class CardValueCalculator {
+
+    /** Maximum sum allowed on the table. */
+    public static final int MAX_SUM = 50;
+
+    /** Bitmask of legal card ids for every table sum from 0 to MAX_SUM. */
+    private static final long[] PLAYABLE_MASKS = new long[MAX_SUM + 1];
+
+    static {
+        for (int sum = 0; sum <= MAX_SUM; sum++) {
+            PLAYABLE_MASKS[sum] = computePlayableMask(sum);
+        }
+    }
+
+    /**
+     * Calculates the numeric value of a card according to Cincuentazo rules.
+     * - Number cards (2-8, 10): face value
+     * - 9: 0 points
+     * - J, Q, K: -10 points
+     * - A: 1 point (base value, can be 10 with optimal calculation)
+     *
+     * @param cardValue the string value of the card
+     * @return the calculated numeric value
+     */
+    public static int calculateValue(String cardValue) {
+        if (cardValue == null) return 0;
+
+        switch (cardValue) {
+            case "2": case "3": case "4": case "5":
+            case "6": case "7": case "8": case "10":
+                return Integer.parseInt(cardValue);
+
+            case "9":
+                return 0;
+
+            case "J": case "Q": case "K":
+                return -10;
+
+            case "A":
+                return 1;
+
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Calculates the optimal value for an Ace card (1 or 10) based on the current sum.
+     * The Ace will be valued at 10 if it doesn't cause the sum to exceed 50,
+     * otherwise it will be valued at 1.
+     *
+     * @param currentSum the current sum on the table
+     * @return 10 if currentSum + 10 <= 50, otherwise 1
+     */
+    public static int calculateOptimalAValue(int currentSum) {
+        if (currentSum <= 40) {
+            return 10;
+        } else if (currentSum <= 49) {
+            return 1;
+        } else {
+            return 1;
+        }
+    }
+
+    /**
+     * Validates if a card can be played without exceeding the maximum sum of 50.
+     *
+     * @param cardValue the value of the card to validate
+     * @param currentSum the current sum on the table
+     * @return true if playing the card won't exceed 50, false otherwise
+     */
+    public static boolean isValidPlay(String cardValue, int currentSum) {
+        int value = calculateValue(cardValue);
+        if ("A".equals(cardValue)) {
+            return (currentSum + 1 <= 50) || (currentSum + 10 <= 50);
+        }
+        return currentSum + value <= 50;
+    }
+
+    /**
+     * Gets the base numeric value of a card by id (an Ace counts as 1).
+     *
+     * @param cardId the card id (0..51)
+     * @return the base value of the card
+     */
+    public static int calculateValue(int cardId) {
+        return EISCUnoEnum.baseValueOf(cardId);
+    }
+
+    /**
+     * Calculates the value a card adds to the table, choosing the optimal Ace value.
+     *
+     * @param cardId the card id (0..51)
+     * @param currentSum the current sum on the table
+     * @return the value the card adds when played
+     */
+    public static int calculateGameValue(int cardId, int currentSum) {
+        if (EISCUnoEnum.isAce(cardId)) {
+            return calculateOptimalAValue(currentSum);
+        }
+        return EISCUnoEnum.baseValueOf(cardId);
+    }
+
+    /**
+     * Validates if a card can be played without exceeding the maximum sum of 50.
+     * An Ace is playable whenever its lowest value (1) fits.
+     *
+     * @param cardId the card id (0..51)
+     * @param currentSum the current sum on the table
+     * @return true if playing the card won't exceed 50, false otherwise
+     */
+    public static boolean isValidPlay(int cardId, int currentSum) {
+        return currentSum + EISCUnoEnum.baseValueOf(cardId) <= MAX_SUM;
+    }
+
+    /**
+     * Gets the bitmask of card ids that can be played on the given sum.
+     * Bit {@code id} is set when the card with that id is a legal play, so
+     * {@code handMask & playableMask(sum)} yields the legal cards of a hand.
+     *
+     * @param currentSum the current sum on the table
+     * @return the bitmask of playable card ids
+     */
+    public static long playableMask(int currentSum) {
+        if (currentSum >= 0 && currentSum <= MAX_SUM) {
+            return PLAYABLE_MASKS[currentSum];
+        }
+        return computePlayableMask(currentSum);
+    }
+
+    /**
+     * Builds the bitmask of playable card ids for a sum by checking every card.
+     *
+     * @param currentSum the current sum on the table
+     * @return the bitmask of playable card ids
+     */
+    private static long computePlayableMask(int currentSum) {
+        long mask = 0L;
+        for (int id = 0; id < EISCUnoEnum.CARD_COUNT; id++) {
+            if (isValidPlay(id, currentSum)) {
+                mask |= 1L << id;
+            }
+        }
+        return mask;
+    }
+}
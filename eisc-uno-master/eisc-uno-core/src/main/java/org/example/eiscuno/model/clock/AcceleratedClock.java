@@ -0,0 +1,87 @@
+package org.example.eiscuno.model.clock;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clock whose game time runs a fixed factor faster than real time.
+ * The speed can change while the game runs; game time stays continuous across the change,
+ * and delays scheduled afterwards are shortened by the new factor.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public class AcceleratedClock implements GameClock {
+    private final ScheduledExecutorService scheduler;
+    private long originMillis;
+    private long originNanos;
+    private double speed;
+
+    /**
+     * Constructs an accelerated clock that starts at the current wall-clock time.
+     *
+     * @param scheduler the scheduler that runs delayed tasks
+     * @param speed the number of game milliseconds per real millisecond
+     * @throws IllegalArgumentException if the speed is not positive
+     */
+    public AcceleratedClock(ScheduledExecutorService scheduler, double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("Clock speed must be positive: " + speed);
+        }
+        this.scheduler = scheduler;
+        this.originMillis = System.currentTimeMillis();
+        this.originNanos = System.nanoTime();
+        this.speed = speed;
+    }
+
+    /**
+     * Gets the current game time.
+     *
+     * @return the game time in milliseconds
+     */
+    @Override
+    public synchronized long currentTimeMillis() {
+        return originMillis + (long) ((System.nanoTime() - originNanos) / 1_000_000.0 * speed);
+    }
+
+    /**
+     * Runs a task after a game-time delay, which is shortened by the current speed.
+     *
+     * @param task the task to run
+     * @param delayMillis the delay in game milliseconds
+     * @return a handle that cancels the task
+     */
+    @Override
+    public ScheduledTask schedule(Runnable task, long delayMillis) {
+        long realDelayMicros = (long) (delayMillis * 1000.0 / getSpeed());
+        ScheduledFuture<?> future = scheduler.schedule(task, realDelayMicros, TimeUnit.MICROSECONDS);
+        return () -> future.cancel(false);
+    }
+
+    /**
+     * Changes the speed of the clock from now on.
+     *
+     * @param speed the number of game milliseconds per real millisecond
+     * @throws IllegalArgumentException if the speed is not positive
+     */
+    public synchronized void setSpeed(double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("Clock speed must be positive: " + speed);
+        }
+        long now = System.nanoTime();
+        this.originMillis += (long) ((now - originNanos) / 1_000_000.0 * this.speed);
+        this.originNanos = now;
+        this.speed = speed;
+    }
+
+    /**
+     * Gets the speed of the clock.
+     *
+     * @return the number of game milliseconds per real millisecond
+     */
+    public synchronized double getSpeed() {
+        return speed;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.eiscuno.model.clock;
+
+/**
+ * Source of game time and of delayed execution.
+ * Everything in a game that waits (machine players thinking, timers) goes through a clock,
+ * so the same game can run in real time, faster than real time, or in virtual time with no
+ * waiting at all, while durations measured with {@link #currentTimeMillis()} stay consistent.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public interface GameClock {
+
+    /**
+     * Gets the current game time.
+     *
+     * @return the game time in milliseconds
+     */
+    long currentTimeMillis();
+
+    /**
+     * Runs a task once the given amount of game time has elapsed.
+     *
+     * @param task the task to run
+     * @param delayMillis the delay in game milliseconds
+     * @return a handle that cancels the task
+     */
+    ScheduledTask schedule(Runnable task, long delayMillis);
+
+    /**
+     * Handle of a task scheduled on a {@link GameClock}.
+     */
+    @FunctionalInterface
+    interface ScheduledTask {
+
+        /**
+         * Cancels the task if it has not run yet.
+         *
+         * @return true if the task was cancelled, false if it already ran or was cancelled
+         */
+        boolean cancel();
+    }
+}
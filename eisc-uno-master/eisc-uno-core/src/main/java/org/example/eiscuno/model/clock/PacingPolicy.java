@@ -0,0 +1,105 @@
+package org.example.eiscuno.model.clock;
+
+import java.util.SplittableRandom;
+
+/**
+ * How long machine players take to move, in game time.
+ * A move waits for the animation delay (the pause that lets the last card be seen) plus a
+ * thinking time drawn uniformly from {@code [minThinkTime, minThinkTime + thinkTimeSpread)}.
+ * Combined with a {@link GameClock}, the policy decides how a game feels, while the clock
+ * decides how long it really takes.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class PacingPolicy {
+    private static final PacingPolicy STANDARD = new PacingPolicy(2000, 2000, 0);
+    private static final PacingPolicy INSTANT = new PacingPolicy(0, 0, 0);
+
+    private final long minThinkTimeMillis;
+    private final int thinkTimeSpreadMillis;
+    private final long animationDelayMillis;
+
+    /**
+     * Constructs a pacing policy.
+     *
+     * @param minThinkTimeMillis the shortest thinking time in milliseconds
+     * @param thinkTimeSpreadMillis the width of the random thinking-time range in milliseconds
+     * @param animationDelayMillis the pause before a machine player starts thinking, in milliseconds
+     * @throws IllegalArgumentException if any value is negative
+     */
+    public PacingPolicy(long minThinkTimeMillis, int thinkTimeSpreadMillis, long animationDelayMillis) {
+        if (minThinkTimeMillis < 0 || thinkTimeSpreadMillis < 0 || animationDelayMillis < 0) {
+            throw new IllegalArgumentException("Pacing delays cannot be negative");
+        }
+        this.minThinkTimeMillis = minThinkTimeMillis;
+        this.thinkTimeSpreadMillis = thinkTimeSpreadMillis;
+        this.animationDelayMillis = animationDelayMillis;
+    }
+
+    /**
+     * Gets the pacing of the desktop game: 2 to 4 seconds of thinking and no animation delay.
+     *
+     * @return the standard pacing policy
+     */
+    public static PacingPolicy standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Gets a pacing policy in which machine players move immediately.
+     *
+     * @return the instant pacing policy
+     */
+    public static PacingPolicy instant() {
+        return INSTANT;
+    }
+
+    /**
+     * Draws the thinking time of one move.
+     *
+     * @param random the random generator of the machine players
+     * @return the thinking time in milliseconds
+     */
+    public long thinkTimeMillis(SplittableRandom random) {
+        return thinkTimeSpreadMillis > 0 ? minThinkTimeMillis + random.nextInt(thinkTimeSpreadMillis) : minThinkTimeMillis;
+    }
+
+    /**
+     * Draws the total delay before a machine player's move: animation delay plus thinking time.
+     *
+     * @param random the random generator of the machine players
+     * @return the delay in milliseconds
+     */
+    public long moveDelayMillis(SplittableRandom random) {
+        return animationDelayMillis + thinkTimeMillis(random);
+    }
+
+    /**
+     * Gets the shortest thinking time.
+     *
+     * @return the minimum thinking time in milliseconds
+     */
+    public long getMinThinkTimeMillis() {
+        return minThinkTimeMillis;
+    }
+
+    /**
+     * Gets the width of the thinking-time range.
+     *
+     * @return the thinking-time spread in milliseconds
+     */
+    public int getThinkTimeSpreadMillis() {
+        return thinkTimeSpreadMillis;
+    }
+
+    /**
+     * Gets the pause before a machine player starts thinking.
+     *
+     * @return the animation delay in milliseconds
+     */
+    public long getAnimationDelayMillis() {
+        return animationDelayMillis;
+    }
+}
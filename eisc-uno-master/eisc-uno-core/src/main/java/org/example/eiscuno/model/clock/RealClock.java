@@ -0,0 +1,48 @@
+package org.example.eiscuno.model.clock;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clock that follows the wall clock and waits on a scheduler.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public class RealClock implements GameClock {
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a real-time clock.
+     *
+     * @param scheduler the scheduler that runs delayed tasks
+     */
+    public RealClock(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Gets the wall-clock time.
+     *
+     * @return the current time in milliseconds
+     */
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Runs a task after a real-time delay.
+     *
+     * @param task the task to run
+     * @param delayMillis the delay in milliseconds
+     * @return a handle that cancels the task
+     */
+    @Override
+    public ScheduledTask schedule(Runnable task, long delayMillis) {
+        ScheduledFuture<?> future = scheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        return () -> future.cancel(false);
+    }
+}
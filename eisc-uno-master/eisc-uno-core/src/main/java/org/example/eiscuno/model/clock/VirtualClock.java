@@ -0,0 +1,169 @@
+package org.example.eiscuno.model.clock;
+
+import java.util.PriorityQueue;
+
+/**
+ * Discrete-event clock: time only moves when the next scheduled task is run.
+ * Nothing ever waits; the caller drives the clock with {@link #runNext()} or
+ * {@link #runUntilIdle()}, which jump straight to each task's due time, so a game paced for
+ * minutes of play finishes as fast as the CPU allows and still reports its game-time durations.
+ * Tasks due at the same time run in the order they were scheduled.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public class VirtualClock implements GameClock {
+    private final PriorityQueue<VirtualTask> tasks;
+    private long now;
+    private long sequence;
+
+    /**
+     * Constructs a virtual clock starting at time zero.
+     */
+    public VirtualClock() {
+        this(0);
+    }
+
+    /**
+     * Constructs a virtual clock starting at a given time.
+     *
+     * @param startMillis the initial game time in milliseconds
+     */
+    public VirtualClock(long startMillis) {
+        this.tasks = new PriorityQueue<>();
+        this.now = startMillis;
+    }
+
+    /**
+     * Gets the current virtual time.
+     *
+     * @return the game time in milliseconds
+     */
+    @Override
+    public synchronized long currentTimeMillis() {
+        return now;
+    }
+
+    /**
+     * Queues a task to run when the virtual time reaches its due time.
+     *
+     * @param task the task to run
+     * @param delayMillis the delay in game milliseconds
+     * @return a handle that cancels the task
+     */
+    @Override
+    public synchronized ScheduledTask schedule(Runnable task, long delayMillis) {
+        VirtualTask scheduled = new VirtualTask(now + Math.max(0, delayMillis), sequence++, task);
+        tasks.add(scheduled);
+        return scheduled;
+    }
+
+    /**
+     * Advances the time to the next pending task and runs it.
+     *
+     * @return true if a task was run, false if none is pending
+     */
+    public boolean runNext() {
+        return runNext(Long.MAX_VALUE);
+    }
+
+    /**
+     * Runs pending tasks, including the ones they schedule, until none is left.
+     *
+     * @return the number of tasks run
+     */
+    public int runUntilIdle() {
+        int count = 0;
+        while (runNext()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Runs every task due up to a given time, then moves the time there.
+     *
+     * @param timeMillis the game time to advance to
+     * @return the number of tasks run
+     */
+    public int advanceTo(long timeMillis) {
+        int count = 0;
+        while (runNext(timeMillis)) {
+            count++;
+        }
+        synchronized (this) {
+            now = Math.max(now, timeMillis);
+        }
+        return count;
+    }
+
+    /**
+     * Advances the time to the next pending task and runs it, unless that task is due after a deadline.
+     * Cancelled tasks are discarded first, so a cancelled task never lets a later one run early.
+     *
+     * @param deadlineMillis the latest due time of a task to run
+     * @return true if a task was run, false if none is pending up to the deadline
+     */
+    private boolean runNext(long deadlineMillis) {
+        VirtualTask next;
+        synchronized (this) {
+            next = tasks.peek();
+            while (next != null && next.cancelled) {
+                tasks.poll();
+                next = tasks.peek();
+            }
+            if (next == null || next.dueMillis > deadlineMillis) {
+                return false;
+            }
+            tasks.poll();
+            now = next.dueMillis;
+            next.started = true;
+        }
+        next.task.run();
+        return true;
+    }
+
+    /**
+     * Gets the number of tasks waiting to run, including cancelled ones not yet discarded.
+     *
+     * @return the number of pending tasks
+     */
+    public synchronized int getPendingTasks() {
+        return tasks.size();
+    }
+
+    /**
+     * Task queued on a virtual clock.
+     */
+    private final class VirtualTask implements ScheduledTask, Comparable<VirtualTask> {
+        private final long dueMillis;
+        private final long order;
+        private final Runnable task;
+        private boolean cancelled;
+        private boolean started;
+
+        VirtualTask(long dueMillis, long order, Runnable task) {
+            this.dueMillis = dueMillis;
+            this.order = order;
+            this.task = task;
+        }
+
+        @Override
+        public boolean cancel() {
+            synchronized (VirtualClock.this) {
+                if (cancelled || started) {
+                    return false;
+                }
+                cancelled = true;
+                return true;
+            }
+        }
+
+        @Override
+        public int compareTo(VirtualTask other) {
+            int byTime = Long.compare(dueMillis, other.dueMillis);
+            return byTime != 0 ? byTime : Long.compare(order, other.order);
+        }
+    }
+}
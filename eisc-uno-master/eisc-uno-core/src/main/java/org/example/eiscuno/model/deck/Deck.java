@@ -0,0 +1,345 @@
+package org.example.eiscuno.model.deck;
+
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.example.eiscuno.model.card.Card;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Represents a deck of playing cards for Cincuentazo game.
+ * Manages a shoe of one or more standard 52-card French decks with shuffling and card distribution;
+ * every deck of the shoe contributes one card object per card id.
+ * Cards are kept in a fixed-capacity, unsynchronized ring buffer: the top of the deck is
+ * its tail and the bottom is its head, so cards are taken from the top and returned to the
+ * bottom in O(1) without shifting or allocating.
+ * Shuffling uses the deck's own SplittableRandom, so a deck built from a seed always deals
+ * the same sequence and decks of different games never contend on a shared generator.
+ * In {@link DrawMode#LAZY_RANDOM} mode the deck is never reshuffled: each draw picks a uniformly
+ * random remaining card instead, so recycling cards costs only the append.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public class Deck {
+    private final Card[] deckOfCards;
+    private final int capacity;
+    private final int mask;
+    private final int numberOfDecks;
+    private final SplittableRandom random;
+    private final DrawMode drawMode;
+    private int head;
+    private int size;
+
+    /**
+     * Constructs a new deck of playing cards and initializes it with 52 cards.
+     * The shuffle order is not reproducible.
+     */
+    public Deck() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new deck of playing cards shuffled from the given seed.
+     *
+     * @param seed the seed of the deck's random generator
+     */
+    public Deck(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructs a new deck of playing cards shuffled with the given random generator.
+     * The deck takes ownership of the generator; it must not be used elsewhere.
+     *
+     * @param random the random generator used for every shuffle of this deck
+     */
+    public Deck(SplittableRandom random) {
+        this(random, DrawMode.SHUFFLED);
+    }
+
+    /**
+     * Constructs a new deck of playing cards with the given random generator and draw mode.
+     * The deck takes ownership of the generator; it must not be used elsewhere.
+     *
+     * @param random the random generator used for every shuffle or draw of this deck
+     * @param drawMode how the order of drawn cards is randomized
+     */
+    public Deck(SplittableRandom random, DrawMode drawMode) {
+        this(random, drawMode, 1);
+    }
+
+    /**
+     * Constructs a shoe of several decks with the given random generator and draw mode.
+     * The deck takes ownership of the generator; it must not be used elsewhere.
+     *
+     * @param random the random generator used for every shuffle or draw of this deck
+     * @param drawMode how the order of drawn cards is randomized
+     * @param numberOfDecks the number of 52-card decks in the shoe
+     * @throws IllegalArgumentException if the number of decks is less than one
+     */
+    public Deck(SplittableRandom random, DrawMode drawMode, int numberOfDecks) {
+        if (numberOfDecks < 1) {
+            throw new IllegalArgumentException("A deck needs at least one set of cards");
+        }
+        this.random = random;
+        this.drawMode = drawMode;
+        this.numberOfDecks = numberOfDecks;
+        this.capacity = Integer.highestOneBit(EISCUnoEnum.CARD_COUNT * numberOfDecks - 1) << 1;
+        this.mask = capacity - 1;
+        deckOfCards = new Card[capacity];
+        head = 0;
+        size = 0;
+        initializeDeck();
+    }
+
+    /**
+     * Initializes the deck with one card per EISCUnoEnum card id and deck of the shoe.
+     * Creates all 52 cards of each standard French deck (hearts, diamonds, spades, clubs)
+     * and shuffles them, unless cards are drawn lazily.
+     */
+    private void initializeDeck() {
+        for (int deck = 0; deck < numberOfDecks; deck++) {
+            for (int id = 0; id < EISCUnoEnum.CARD_COUNT; id++) {
+                deckOfCards[size++] = new Card(id);
+            }
+        }
+
+        if (drawMode == DrawMode.SHUFFLED) {
+            shuffle();
+        }
+    }
+
+    /**
+     * Takes a card from the top of the deck.
+     * In lazy mode a uniformly random remaining card is first swapped onto the top.
+     *
+     * @return the card from the top of the deck
+     * @throws IllegalStateException if the deck is empty
+     */
+    public Card takeCard() {
+        if (size == 0) {
+            throw new IllegalStateException("No hay más cartas en el mazo.");
+        }
+        if (drawMode == DrawMode.LAZY_RANDOM) {
+            swap(random.nextInt(size), size - 1);
+        }
+        int top = (head + --size) & mask;
+        Card card = deckOfCards[top];
+        deckOfCards[top] = null;
+        return card;
+    }
+
+    /**
+     * Takes several cards from the top of the deck in one pass, as the opening deal does.
+     * The cards are written in the order {@link #takeCard()} would return them.
+     *
+     * @param buffer the array that receives the cards
+     * @param count the number of cards to take
+     * @throws IllegalStateException if the deck holds fewer cards than requested
+     */
+    public void takeCards(Card[] buffer, int count) {
+        if (count > size) {
+            throw new IllegalStateException("No hay más cartas en el mazo.");
+        }
+        for (int i = 0; i < count; i++) {
+            if (drawMode == DrawMode.LAZY_RANDOM) {
+                swap(random.nextInt(size), size - 1);
+            }
+            int top = (head + --size) & mask;
+            buffer[i] = deckOfCards[top];
+            deckOfCards[top] = null;
+        }
+    }
+
+    /**
+     * Checks if the deck is empty.
+     *
+     * @return true if the deck is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of cards remaining in the deck.
+     *
+     * @return the number of cards in the deck
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a single card to the bottom of the deck.
+     *
+     * @param card the card to add to the deck
+     * @throws IllegalStateException if the deck is already full
+     */
+    public void addCardToBottom(Card card) {
+        if (size == capacity) {
+            throw new IllegalStateException("El mazo está lleno.");
+        }
+        head = (head - 1) & mask;
+        deckOfCards[head] = card;
+        size++;
+    }
+
+    /**
+     * Adds cards to the bottom of the deck.
+     * The first card of the list ends up as the bottom card of the deck.
+     *
+     * @param cards the cards to add to the deck
+     */
+    public void addCards(List<Card> cards) {
+        for (int i = cards.size() - 1; i >= 0; i--) {
+            addCardToBottom(cards.get(i));
+        }
+    }
+
+    /**
+     * Takes all cards from the deck except the last one for recycling.
+     * Used when the deck needs to be replenished during gameplay.
+     *
+     * @return a list containing all cards except the last one, taken from the top down
+     */
+    public List<Card> takeAllExceptLast() {
+        List<Card> recycledCards = new ArrayList<>(Math.max(size - 1, 0));
+        while (size > 1) {
+            recycledCards.add(takeCard());
+        }
+        return recycledCards;
+    }
+
+    /**
+     * Recycles cards by adding them to the deck and shuffling.
+     * Used when the deck runs out of cards during gameplay.
+     * In lazy mode the cards are only appended.
+     *
+     * @param cards the cards to recycle into the deck
+     */
+    public void recycleCards(List<Card> cards) {
+        addCards(cards);
+        if (drawMode == DrawMode.SHUFFLED) {
+            shuffle();
+        }
+    }
+
+    /**
+     * Recycles a range of cards by adding them to the bottom of the deck and shuffling.
+     * The first card of the range ends up as the bottom card, as with {@link #recycleCards(List)}.
+     * In lazy mode the cards are only appended.
+     *
+     * @param cards the array holding the cards to recycle
+     * @param from the index of the first card to recycle
+     * @param length the number of cards to recycle
+     */
+    public void recycleCards(Card[] cards, int from, int length) {
+        for (int i = from + length - 1; i >= from; i--) {
+            addCardToBottom(cards[i]);
+        }
+        if (drawMode == DrawMode.SHUFFLED) {
+            shuffle();
+        }
+    }
+
+    /**
+     * Gets a card of the deck given its position counted from the bottom, without removing it.
+     *
+     * @param position the position, from 0 (bottom) to {@code size() - 1} (top)
+     * @return the card at that position
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    public Card getCardAt(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of " + size);
+        }
+        return deckOfCards[(head + position) & mask];
+    }
+
+    /**
+     * Replaces the contents of the deck with the given cards, without shuffling.
+     * Used to restore a saved game state.
+     *
+     * @param cards the cards of the deck, bottom first
+     * @param count the number of cards to take from the array
+     * @throws IllegalStateException if the cards do not fit in the deck
+     */
+    public void restore(Card[] cards, int count) {
+        if (count > capacity) {
+            throw new IllegalStateException("El mazo está lleno.");
+        }
+        Arrays.fill(deckOfCards, null);
+        System.arraycopy(cards, 0, deckOfCards, 0, count);
+        head = 0;
+        size = count;
+    }
+
+    /**
+     * Replaces the contents of the deck with the given cards and shuffles them as a new deck would be,
+     * unless cards are drawn lazily. Used to start a new game with the same card objects.
+     *
+     * @param cards the cards of the new deck
+     * @param count the number of cards to take from the array
+     * @throws IllegalStateException if the cards do not fit in the deck
+     */
+    public void refill(Card[] cards, int count) {
+        restore(cards, count);
+        if (drawMode == DrawMode.SHUFFLED) {
+            shuffle();
+        }
+    }
+
+    /**
+     * Gets the number of 52-card decks in the shoe.
+     *
+     * @return the number of decks
+     */
+    public int getNumberOfDecks() {
+        return numberOfDecks;
+    }
+
+    /**
+     * Gets the number of cards the shoe was built with, wherever they are now.
+     *
+     * @return the total number of cards of the game
+     */
+    public int getTotalCards() {
+        return EISCUnoEnum.CARD_COUNT * numberOfDecks;
+    }
+
+    /**
+     * Gets the draw mode of this deck.
+     *
+     * @return the draw mode
+     */
+    public DrawMode getDrawMode() {
+        return drawMode;
+    }
+
+    /**
+     * Shuffles the cards currently in the deck in place (Fisher-Yates).
+     */
+    private void shuffle() {
+        for (int i = size - 1; i > 0; i--) {
+            swap(i, random.nextInt(i + 1));
+        }
+    }
+
+    /**
+     * Swaps two cards of the deck given their positions counted from the bottom.
+     *
+     * @param i the position of the first card
+     * @param j the position of the second card
+     */
+    private void swap(int i, int j) {
+        int a = (head + i) & mask;
+        int b = (head + j) & mask;
+        Card tmp = deckOfCards[a];
+        deckOfCards[a] = deckOfCards[b];
+        deckOfCards[b] = tmp;
+    }
+}
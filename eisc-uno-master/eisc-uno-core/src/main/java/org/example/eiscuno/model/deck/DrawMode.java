@@ -0,0 +1,23 @@
+package org.example.eiscuno.model.deck;
+
+/**
+ * Strategies a Deck can use to randomize the order in which cards are drawn.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public enum DrawMode {
+
+    /**
+     * The whole deck is shuffled when it is built and every time cards are recycled;
+     * cards are then drawn from the top.
+     */
+    SHUFFLED,
+
+    /**
+     * The deck is never shuffled; each draw picks a uniformly random remaining card,
+     * which is a Fisher-Yates shuffle performed on demand. Recycling is a plain append.
+     */
+    LAZY_RANDOM
+}
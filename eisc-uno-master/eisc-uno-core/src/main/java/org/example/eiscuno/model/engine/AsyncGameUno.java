@@ -0,0 +1,190 @@
+package org.example.eiscuno.model.engine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.exceptions.PlayerEliminatedException;
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.game.IGameUno;
+import org.example.eiscuno.model.game.TurnResult;
+import org.example.eiscuno.model.player.Player;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * {@link IGameUno} served by a {@link GameEngine}: every operation becomes a command on the engine's
+ * queue, so callers on any thread can issue several requests in a row and react to their futures,
+ * which complete in submission order.
+ * The synchronous operations wait for their command and rethrow its failure; called from within an
+ * engine command they run in place instead, since waiting there would block the engine on itself.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public class AsyncGameUno implements IGameUno {
+    private final GameEngine engine;
+
+    /**
+     * Constructs the facade of an engine.
+     *
+     * @param engine the engine that owns the game
+     */
+    public AsyncGameUno(GameEngine engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public CompletableFuture<Void> startGameAsync() {
+        return engine.submit(game -> {
+            game.startGame();
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> eatCardAsync(Player player, int numberOfCards) {
+        return engine.submit(game -> {
+            game.eatCard(player, numberOfCards);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Card> playCardAsync(Card card, Player player) {
+        return engine.play(player, card);
+    }
+
+    @Override
+    public CompletableFuture<TurnResult> executeTurnAsync(Player player, int move) {
+        return engine.submit(game -> game.executeTurn(player, move));
+    }
+
+    @Override
+    public CompletableFuture<Card[]> getCurrentVisibleCardsHumanPlayerAsync(int posInitCardToShow) {
+        return engine.submit(game -> game.getCurrentVisibleCardsHumanPlayer(posInitCardToShow));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isGameOverAsync() {
+        return engine.submit(GameUnoModel::isGameOver);
+    }
+
+    @Override
+    public void startGame() {
+        if (engine.isEngineThread()) {
+            engine.getGame().startGame();
+        } else {
+            join(startGameAsync());
+        }
+    }
+
+    @Override
+    public void eatCard(Player player, int numberOfCards) throws PlayerEliminatedException {
+        if (engine.isEngineThread()) {
+            engine.getGame().eatCard(player, numberOfCards);
+        } else {
+            await(eatCardAsync(player, numberOfCards));
+        }
+    }
+
+    @Override
+    public void playCard(Card card, Player player) throws PlayerEliminatedException {
+        if (engine.isEngineThread()) {
+            engine.getGame().playCard(card, player);
+        } else {
+            await(playCardAsync(card, player));
+        }
+    }
+
+    @Override
+    public TurnResult executeTurn(Player player, int move) {
+        if (engine.isEngineThread()) {
+            return engine.getGame().executeTurn(player, move);
+        }
+        return join(executeTurnAsync(player, move));
+    }
+
+    @Override
+    public void haveSungOne(String playerWhoSang) {
+        if (engine.isEngineThread()) {
+            engine.getGame().haveSungOne(playerWhoSang);
+        } else {
+            join(engine.submit(game -> {
+                game.haveSungOne(playerWhoSang);
+                return null;
+            }));
+        }
+    }
+
+    @Override
+    public Card[] getCurrentVisibleCardsHumanPlayer(int posInitCardToShow) {
+        if (engine.isEngineThread()) {
+            return engine.getGame().getCurrentVisibleCardsHumanPlayer(posInitCardToShow);
+        }
+        return join(getCurrentVisibleCardsHumanPlayerAsync(posInitCardToShow));
+    }
+
+    @Override
+    public Boolean isGameOver() {
+        if (engine.isEngineThread()) {
+            return engine.getGame().isGameOver();
+        }
+        return join(isGameOverAsync());
+    }
+
+    /**
+     * Gets the engine behind this facade.
+     *
+     * @return the engine
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Waits for a command that may fail with a player elimination, rethrowing its failure.
+     *
+     * @param future the command's future
+     * @param <T> the type of the command's result
+     * @return the command's result
+     * @throws PlayerEliminatedException if the command failed because the player is eliminated
+     */
+    private static <T> T await(CompletableFuture<T> future) throws PlayerEliminatedException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof PlayerEliminatedException) {
+                throw (PlayerEliminatedException) e.getCause();
+            }
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Waits for a command, rethrowing its unchecked failure.
+     *
+     * @param future the command's future
+     * @param <T> the type of the command's result
+     * @return the command's result
+     */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Gets the unchecked exception to rethrow for a failed command.
+     *
+     * @param e the completion failure
+     * @return the command's own exception if unchecked, otherwise the completion failure itself
+     */
+    private static RuntimeException unwrap(CompletionException e) {
+        if (e.getCause() instanceof Error) {
+            throw (Error) e.getCause();
+        }
+        return e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.eiscuno.model.engine;
+
+import org.example.eiscuno.model.game.GameUnoModel;
+
+/**
+ * Command executed by a {@link GameEngine} on its own thread against the game it owns.
+ *
+ * @param <T> the type of the command's result
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+@FunctionalInterface
+public interface EngineCommand<T> {
+
+    /**
+     * Executes the command.
+     *
+     * @param game the game owned by the engine
+     * @return the result of the command
+     * @throws Exception if the command fails; the failure completes the command's future
+     */
+    T execute(GameUnoModel game) throws Exception;
+}
@@ -0,0 +1,288 @@
+package org.example.eiscuno.model.engine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.player.Player;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single-threaded actor that owns a {@link GameUnoModel}.
+ * Any thread may submit commands; they are queued on a lock-free multi-producer queue and
+ * executed one at a time, in submission order, and nothing else touches the model. Each command
+ * replies through a CompletableFuture, and state changes reach other threads only as the model's
+ * events and snapshots.
+ * An engine either runs on its own dedicated thread or, for hosts running many tables, borrows a
+ * thread of a shared executor only while it has commands to drain (see {@link GameRuntime}).
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public class GameEngine {
+    private static final int DRAIN_BATCH = 64;
+
+    private final GameUnoModel game;
+    private final ConcurrentLinkedQueue<PendingCommand<?>> commands;
+    private final Thread engineThread;
+    private final Executor executor;
+    private final AtomicInteger pendingSignals;
+    private volatile Thread drainingThread;
+    private volatile boolean running;
+
+    /**
+     * Constructs an engine for a game that runs on its own thread. The engine thread is not started yet.
+     *
+     * @param game the game the engine will own
+     */
+    public GameEngine(GameUnoModel game) {
+        this.game = game;
+        this.commands = new ConcurrentLinkedQueue<>();
+        this.engineThread = new Thread(this::run, "GameEngine");
+        this.engineThread.setDaemon(true);
+        this.executor = null;
+        this.pendingSignals = null;
+    }
+
+    /**
+     * Constructs an engine for a game that drains its commands on a shared executor.
+     * At most one executor thread runs the engine at a time, so commands stay serialized.
+     *
+     * @param game the game the engine will own
+     * @param executor the executor that runs the engine's commands
+     */
+    public GameEngine(GameUnoModel game, Executor executor) {
+        this.game = game;
+        this.commands = new ConcurrentLinkedQueue<>();
+        this.engineThread = null;
+        this.executor = executor;
+        this.pendingSignals = new AtomicInteger();
+    }
+
+    /**
+     * Starts the engine.
+     */
+    public void start() {
+        running = true;
+        if (engineThread != null) {
+            engineThread.start();
+        }
+    }
+
+    /**
+     * Stops the engine once the command being executed finishes.
+     * Commands still queued are completed exceptionally.
+     */
+    public void shutdown() {
+        running = false;
+        if (engineThread != null) {
+            LockSupport.unpark(engineThread);
+        } else {
+            rejectPending();
+        }
+    }
+
+    /**
+     * Submits a command to be executed on the engine thread.
+     *
+     * @param command the command to execute
+     * @param <T> the type of the command's result
+     * @return a future completed with the command's result or failure
+     */
+    public <T> CompletableFuture<T> submit(EngineCommand<T> command) {
+        PendingCommand<T> pending = new PendingCommand<>(command);
+        if (!running) {
+            pending.reject();
+            return pending.result;
+        }
+        commands.offer(pending);
+        if (!running) {
+            rejectPending();
+        } else if (engineThread != null) {
+            LockSupport.unpark(engineThread);
+        } else if (pendingSignals.getAndIncrement() == 0) {
+            scheduleDrain();
+        }
+        return pending.result;
+    }
+
+    /**
+     * Submits a card play.
+     *
+     * @param player the player playing the card
+     * @param card the card to play
+     * @return a future completed with the played card
+     */
+    public CompletableFuture<Card> play(Player player, Card card) {
+        return submit(game -> {
+            game.playCard(card, player);
+            return card;
+        });
+    }
+
+    /**
+     * Submits a card draw.
+     *
+     * @param player the player taking a card
+     * @return a future completed with the card taken from the deck
+     */
+    public CompletableFuture<Card> draw(Player player) {
+        return submit(game -> game.takeCardFromDeck(player));
+    }
+
+    /**
+     * Submits the elimination of a player.
+     *
+     * @param player the player to eliminate
+     * @return a future completed once the player is eliminated
+     */
+    public CompletableFuture<Void> eliminate(Player player) {
+        return submit(game -> {
+            game.eliminatePlayer(player);
+            return null;
+        });
+    }
+
+    /**
+     * Submits a turn advance.
+     *
+     * @return a future completed once the turn has passed
+     */
+    public CompletableFuture<Void> nextTurn() {
+        return submit(game -> {
+            game.nextTurn();
+            return null;
+        });
+    }
+
+    /**
+     * Gets the game owned by the engine.
+     * Other threads may only read its snapshots or register listeners on it.
+     *
+     * @return the game
+     */
+    public GameUnoModel getGame() {
+        return game;
+    }
+
+    /**
+     * Checks whether the calling thread is the one currently running the engine.
+     *
+     * @return true when called from within an engine command, false otherwise
+     */
+    public boolean isEngineThread() {
+        Thread current = Thread.currentThread();
+        return engineThread != null ? current == engineThread : current == drainingThread;
+    }
+
+    /**
+     * Checks if the engine is running.
+     *
+     * @return true if the engine accepts commands, false otherwise
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Main loop of the engine thread: executes queued commands and parks when idle.
+     */
+    private void run() {
+        while (running) {
+            PendingCommand<?> command = commands.poll();
+            if (command == null) {
+                LockSupport.park(this);
+            } else {
+                command.execute(game);
+            }
+        }
+        rejectPending();
+    }
+
+    /**
+     * Executes queued commands on an executor thread.
+     * Runs at most {@link #DRAIN_BATCH} commands before yielding the thread to other engines;
+     * the signals not yet accounted for keep the engine scheduled until its queue is empty.
+     */
+    private void drain() {
+        drainingThread = Thread.currentThread();
+        int missed = 1;
+        int budget = DRAIN_BATCH;
+        for (;;) {
+            PendingCommand<?> command;
+            while ((command = commands.poll()) != null) {
+                if (running) {
+                    command.execute(game);
+                } else {
+                    command.reject();
+                }
+                if (--budget == 0) {
+                    drainingThread = null;
+                    scheduleDrain();
+                    return;
+                }
+            }
+            drainingThread = null;
+            missed = pendingSignals.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+            drainingThread = Thread.currentThread();
+        }
+    }
+
+    /**
+     * Hands the drain to the executor. If the executor refuses it (for instance after
+     * {@link GameRuntime#shutdown()}), nothing would ever drain the queue, so the signals are
+     * cleared and every queued command is completed exceptionally instead.
+     */
+    private void scheduleDrain() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            pendingSignals.set(0);
+            rejectPending();
+        }
+    }
+
+    /**
+     * Completes every queued command exceptionally.
+     */
+    private void rejectPending() {
+        PendingCommand<?> command;
+        while ((command = commands.poll()) != null) {
+            command.reject();
+        }
+    }
+
+    /**
+     * Queued command together with the future that carries its reply.
+     *
+     * @param <T> the type of the command's result
+     */
+    private static final class PendingCommand<T> {
+        private final EngineCommand<T> command;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        PendingCommand(EngineCommand<T> command) {
+            this.command = command;
+        }
+
+        void execute(GameUnoModel game) {
+            try {
+                result.complete(command.execute(game));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        void reject() {
+            result.completeExceptionally(new IllegalStateException("Game engine is not running"));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.eiscuno.model.engine;
+
+import org.example.eiscuno.model.game.GameUnoModel;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lightweight task runtime shared by many concurrent games.
+ * Engines created by the runtime drain their commands on a small fixed pool instead of owning a
+ * thread, and machine players and timers run as tasks on one scheduler, so the number of threads
+ * does not grow with the number of tables.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class GameRuntime {
+    private final ExecutorService engineExecutor;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a runtime with its own daemon threads.
+     *
+     * @param engineThreads the number of threads that run engine commands
+     * @param schedulerThreads the number of threads that fire timed tasks
+     */
+    public GameRuntime(int engineThreads, int schedulerThreads) {
+        this.engineExecutor = Executors.newFixedThreadPool(engineThreads, daemonThreads("GameEngine-"));
+        this.scheduler = Executors.newScheduledThreadPool(schedulerThreads, daemonThreads("GameScheduler-"));
+    }
+
+    /**
+     * Gets the runtime shared by every game of the application, created on first use with one
+     * engine thread per available processor and a single scheduler thread.
+     *
+     * @return the shared runtime
+     */
+    public static GameRuntime shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Creates an engine for a game that runs on this runtime. The engine is not started yet.
+     *
+     * @param game the game the engine will own
+     * @return the new engine
+     */
+    public GameEngine newEngine(GameUnoModel game) {
+        return new GameEngine(game, engineExecutor);
+    }
+
+    /**
+     * Gets the scheduler that fires the runtime's timed tasks.
+     * Tasks must be short; long work belongs on an engine.
+     *
+     * @return the shared scheduler
+     */
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Stops the runtime's threads. Engines created by it stop accepting work.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+        engineExecutor.shutdown();
+    }
+
+    /**
+     * Creates a factory of named daemon threads.
+     *
+     * @param prefix the prefix of the thread names
+     * @return the thread factory
+     */
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Holder of the lazily created shared runtime.
+     */
+    private static final class Shared {
+        private static final GameRuntime INSTANCE =
+                new GameRuntime(Runtime.getRuntime().availableProcessors(), 1);
+    }
+}
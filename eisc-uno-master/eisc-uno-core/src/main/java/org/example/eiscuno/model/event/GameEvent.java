@@ -0,0 +1,331 @@
+package org.example.eiscuno.model.event;
+
+import org.example.eiscuno.model.game.GameSnapshot;
+import org.example.eiscuno.model.game.TurnResult;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+/**
+ * Immutable, typed notification of a state change in a Cincuentazo game.
+ * Events carry only primitive fields, the name of the player involved, the snapshot
+ * published with them and, for whole turns, the {@link TurnResult}; the human-readable text is
+ * built only when {@link #describe()} is called.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class GameEvent {
+
+    /**
+     * Kinds of game events.
+     */
+    public enum Type {
+        /** Cards were dealt and the initial card was placed on the table. */
+        GAME_STARTED,
+        /** A player played a card onto the table. */
+        CARD_PLAYED,
+        /** A player took a card from the deck. */
+        CARD_DRAWN,
+        /** The table cards were recycled into the deck. */
+        DECK_RECYCLED,
+        /** A player was eliminated and returned their cards to the deck. */
+        PLAYER_ELIMINATED,
+        /** The turn passed to another player. */
+        TURN_CHANGED,
+        /** A player completed a whole turn; the details are in the event's {@link TurnResult}. */
+        TURN_PLAYED,
+        /** A saved state was restored, for example by undo or redo. */
+        STATE_RESTORED,
+        /** The game ended. */
+        GAME_OVER
+    }
+
+    private final Type type;
+    private final int seat;
+    private final String playerName;
+    private final int cardId;
+    private final int count;
+    private final int currentSum;
+    private final GameSnapshot snapshot;
+    private final TurnResult turnResult;
+
+    /**
+     * Constructs a game event.
+     *
+     * @param type the kind of event
+     * @param seat the seat involved, or -1 if none
+     * @param playerName the name of the player involved, or null if none
+     * @param cardId the id of the card involved, or -1 if none
+     * @param count the event-specific count (players, recycled cards or returned cards)
+     * @param currentSum the sum on the table after the event
+     * @param snapshot the snapshot published with the event
+     * @param turnResult the result of the turn, or null if the event is not a TURN_PLAYED event
+     */
+    private GameEvent(Type type, int seat, String playerName, int cardId, int count, int currentSum,
+                      GameSnapshot snapshot, TurnResult turnResult) {
+        this.type = type;
+        this.seat = seat;
+        this.playerName = playerName;
+        this.cardId = cardId;
+        this.count = count;
+        this.currentSum = currentSum;
+        this.snapshot = snapshot;
+        this.turnResult = turnResult;
+    }
+
+    /**
+     * Creates a GAME_STARTED event.
+     *
+     * @param players the number of players at the table
+     * @param initialCardId the id of the initial table card, or -1 if none
+     * @param currentSum the sum on the table
+     * @param snapshot the published snapshot
+     * @return the event
+     */
+    public static GameEvent gameStarted(int players, int initialCardId, int currentSum, GameSnapshot snapshot) {
+        return new GameEvent(Type.GAME_STARTED, -1, null, initialCardId, players, currentSum, snapshot, null);
+    }
+
+    /**
+     * Creates a CARD_PLAYED event.
+     *
+     * @param seat the seat of the player
+     * @param playerName the name of the player
+     * @param cardId the id of the played card
+     * @param currentSum the new sum on the table
+     * @param snapshot the published snapshot
+     * @return the event
+     */
+    public static GameEvent cardPlayed(int seat, String playerName, int cardId, int currentSum, GameSnapshot snapshot) {
+        return new GameEvent(Type.CARD_PLAYED, seat, playerName, cardId, 1, currentSum, snapshot, null);
+    }
+
+    /**
+     * Creates a CARD_DRAWN event.
+     *
+     * @param seat the seat of the player
+     * @param playerName the name of the player
+     * @param cardId the id of the drawn card
+     * @param currentSum the sum on the table
+     * @param snapshot the published snapshot
+     * @return the event
+     */
+    public static GameEvent cardDrawn(int seat, String playerName, int cardId, int currentSum, GameSnapshot snapshot) {
+        return new GameEvent(Type.CARD_DRAWN, seat, playerName, cardId, 1, currentSum, snapshot, null);
+    }
+
+    /**
+     * Creates a DECK_RECYCLED event.
+     *
+     * @param recycledCards the number of cards moved from the table into the deck
+     * @param currentSum the sum on the table
+     * @param snapshot the published snapshot
+     * @return the event
+     */
+    public static GameEvent deckRecycled(int recycledCards, int currentSum, GameSnapshot snapshot) {
+        return new GameEvent(Type.DECK_RECYCLED, -1, null, -1, recycledCards, currentSum, snapshot, null);
+    }
+
+    /**
+     * Creates a PLAYER_ELIMINATED event.
+     *
+     * @param seat the seat of the eliminated player
+     * @param playerName the name of the eliminated player
+     * @param returnedCards the number of cards returned to the deck
+     * @param currentSum the sum on the table
+     * @param snapshot the published snapshot
+     * @return the event
+     */
+    public static GameEvent playerEliminated(int seat, String playerName, int returnedCards, int currentSum,
+                                             GameSnapshot snapshot) {
+        return new GameEvent(Type.PLAYER_ELIMINATED, seat, playerName, -1, returnedCards, currentSum, snapshot, null);
+    }
+
+    /**
+     * Creates a TURN_CHANGED event.
+     *
+     * @param seat the seat whose turn starts
+     * @param playerName the name of that player
+     * @param currentSum the sum on the table
+     * @param snapshot the published snapshot
+     * @return the event
+     */
+    public static GameEvent turnChanged(int seat, String playerName, int currentSum, GameSnapshot snapshot) {
+        return new GameEvent(Type.TURN_CHANGED, seat, playerName, -1, 0, currentSum, snapshot, null);
+    }
+
+    /**
+     * Creates a TURN_PLAYED event, which replaces the individual events of a whole turn.
+     *
+     * @param seat the seat that played the turn
+     * @param playerName the name of that player
+     * @param turnResult the result of the turn
+     * @param snapshot the published snapshot
+     * @return the event
+     */
+    public static GameEvent turnPlayed(int seat, String playerName, TurnResult turnResult, GameSnapshot snapshot) {
+        return new GameEvent(Type.TURN_PLAYED, seat, playerName, turnResult.getPlayedCardId(),
+                turnResult.getDrawnCards(), turnResult.getCurrentSum(), snapshot, turnResult);
+    }
+
+    /**
+     * Creates a STATE_RESTORED event.
+     *
+     * @param seat the seat whose turn it is in the restored state
+     * @param playerName the name of that player
+     * @param currentSum the sum on the table
+     * @param snapshot the published snapshot
+     * @return the event
+     */
+    public static GameEvent stateRestored(int seat, String playerName, int currentSum, GameSnapshot snapshot) {
+        return new GameEvent(Type.STATE_RESTORED, seat, playerName, -1, 0, currentSum, snapshot, null);
+    }
+
+    /**
+     * Creates a GAME_OVER event.
+     *
+     * @param winnerSeat the seat of the winner, or -1 if there is no winner
+     * @param winnerName the name of the winner, or null if there is no winner
+     * @param currentSum the sum on the table
+     * @param snapshot the published snapshot
+     * @return the event
+     */
+    public static GameEvent gameOver(int winnerSeat, String winnerName, int currentSum, GameSnapshot snapshot) {
+        return new GameEvent(Type.GAME_OVER, winnerSeat, winnerName, -1, 0, currentSum, snapshot, null);
+    }
+
+    /**
+     * Gets the kind of this event.
+     *
+     * @return the event type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the seat involved in the event (the winner for GAME_OVER).
+     *
+     * @return the seat index, or -1 if none
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * Gets the name of the player involved in the event.
+     *
+     * @return the player name, or null if none
+     */
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    /**
+     * Gets the id of the card involved in the event.
+     *
+     * @return the card id, or -1 if none
+     */
+    public int getCardId() {
+        return cardId;
+    }
+
+    /**
+     * Gets the event-specific count: players for GAME_STARTED, recycled cards for DECK_RECYCLED,
+     * returned cards for PLAYER_ELIMINATED and drawn cards for TURN_PLAYED.
+     *
+     * @return the count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the sum on the table after the event.
+     *
+     * @return the current sum
+     */
+    public int getCurrentSum() {
+        return currentSum;
+    }
+
+    /**
+     * Gets the snapshot published together with this event.
+     *
+     * @return the game snapshot
+     */
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Gets the result of the turn of a TURN_PLAYED event.
+     *
+     * @return the turn result, or null for other events
+     */
+    public TurnResult getTurnResult() {
+        return turnResult;
+    }
+
+    /**
+     * Builds a human-readable description of the event.
+     *
+     * @return the event description
+     */
+    public String describe() {
+        switch (type) {
+            case GAME_STARTED:
+                return "Game started with " + count + " players";
+            case CARD_PLAYED:
+                return playerName + " played " + EISCUnoEnum.rankLabelOf(cardId) + ". Sum: " + currentSum;
+            case CARD_DRAWN:
+                return playerName + " took a card from deck";
+            case DECK_RECYCLED:
+                return "Deck recycled with " + count + " cards";
+            case PLAYER_ELIMINATED:
+                return playerName + " eliminated with " + count + " cards. Sum: " + currentSum;
+            case TURN_CHANGED:
+                return "Turn: " + playerName;
+            case TURN_PLAYED:
+                return describeTurn();
+            case STATE_RESTORED:
+                return "State restored. Turn: " + playerName;
+            case GAME_OVER:
+                return playerName != null ? "Game Over - Winner: " + playerName : "Game Over - No winners";
+            default:
+                return type.name();
+        }
+    }
+
+    /**
+     * Builds the description of a TURN_PLAYED event.
+     *
+     * @return the turn description
+     */
+    private String describeTurn() {
+        StringBuilder description = new StringBuilder(playerName);
+        if (turnResult.getPlayedCardId() >= 0) {
+            description.append(" played ").append(EISCUnoEnum.rankLabelOf(turnResult.getPlayedCardId()))
+                    .append(". Sum: ").append(currentSum);
+        } else {
+            description.append(" took a card from deck");
+        }
+        if (turnResult.isEliminated()) {
+            description.append(" - eliminated");
+        }
+        if (turnResult.isGameOver()) {
+            description.append(" - Game Over");
+        }
+        return description.toString();
+    }
+
+    /**
+     * Returns a string representation of the event for debugging purposes.
+     *
+     * @return the event description
+     */
+    @Override
+    public String toString() {
+        return describe();
+    }
+}
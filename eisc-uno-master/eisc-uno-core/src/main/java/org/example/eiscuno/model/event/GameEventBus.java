@@ -0,0 +1,136 @@
+package org.example.eiscuno.model.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Delivers typed game events to registered listeners.
+ * The listener array is copy-on-write: registering or removing a listener replaces the array,
+ * while publishing reads it with no locking. With per-action batching enabled, the events of one
+ * game action are collected in a buffer and delivered together when the action ends. The buffer is
+ * swapped for a spare one before delivery and cleared afterwards even if a listener throws, so a
+ * listener may start actions of its own and a failed delivery never repeats its events.
+ * Publishing must happen on the single thread that owns the game.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class GameEventBus {
+    private static final GameEventListener[] NO_LISTENERS = new GameEventListener[0];
+
+    private volatile GameEventListener[] listeners = NO_LISTENERS;
+    private ArrayList<GameEvent> batch = new ArrayList<>();
+    private ArrayList<GameEvent> spare = new ArrayList<>();
+    private boolean batchPerAction;
+    private int actionDepth;
+
+    /**
+     * Constructs a bus with no listeners and per-action batching disabled.
+     */
+    public GameEventBus() {
+    }
+
+    /**
+     * Registers a listener.
+     *
+     * @param listener the listener to add
+     */
+    public synchronized void addListener(GameEventListener listener) {
+        GameEventListener[] current = listeners;
+        GameEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener to remove
+     */
+    public synchronized void removeListener(GameEventListener listener) {
+        GameEventListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                GameEventListener[] updated = new GameEventListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes every registered listener.
+     */
+    public synchronized void clearListeners() {
+        listeners = NO_LISTENERS;
+    }
+
+    /**
+     * Checks whether any listener is registered.
+     *
+     * @return true if at least one listener is registered, false otherwise
+     */
+    public boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Enables or disables per-action batching.
+     *
+     * @param batchPerAction true to deliver the events of each action together
+     */
+    public void setBatchPerAction(boolean batchPerAction) {
+        this.batchPerAction = batchPerAction;
+    }
+
+    /**
+     * Marks the beginning of a game action. Actions may nest; only the outermost one is batched.
+     */
+    public void beginAction() {
+        actionDepth++;
+    }
+
+    /**
+     * Marks the end of a game action and delivers its batched events, if any.
+     */
+    public void endAction() {
+        if (--actionDepth == 0 && !batch.isEmpty()) {
+            ArrayList<GameEvent> delivered = batch;
+            batch = spare != null ? spare : new ArrayList<>();
+            spare = null;
+            try {
+                GameEventListener[] current = listeners;
+                for (GameEventListener listener : current) {
+                    listener.onEvents(delivered);
+                }
+            } finally {
+                delivered.clear();
+                if (spare == null) {
+                    spare = delivered;
+                }
+            }
+        }
+    }
+
+    /**
+     * Publishes an event, either immediately or into the current action's batch.
+     *
+     * @param event the event to publish
+     */
+    public void publish(GameEvent event) {
+        GameEventListener[] current = listeners;
+        if (current.length == 0) {
+            return;
+        }
+        if (batchPerAction && actionDepth > 0) {
+            batch.add(event);
+            return;
+        }
+        for (GameEventListener listener : current) {
+            listener.onEvent(event);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.eiscuno.model.event;
+
+import java.util.List;
+
+/**
+ * Listener of typed Cincuentazo game events.
+ * Listeners are called on the thread that mutates the game and must return quickly.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+    /**
+     * Called for every event published by the game.
+     *
+     * @param event the event
+     */
+    void onEvent(GameEvent event);
+
+    /**
+     * Called with all the events of one game action when per-action batching is enabled.
+     * The list is reused by the bus and is only valid during the call.
+     *
+     * @param events the events of the action, in order
+     */
+    default void onEvents(List<GameEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            onEvent(events.get(i));
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package org.example.eiscuno.model.event;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Live feed of a game's events as a {@link Flow.Publisher}.
+ * Register the publisher as a listener of a game; each subscriber then gets its own bounded
+ * buffer, is fed asynchronously on the given executor only as far as it has requested, and
+ * never runs on the game thread. When a buffer fills up, the configured {@link OverflowPolicy}
+ * decides whether the game waits or events are dropped or coalesced, so a slow subscriber
+ * cannot slow down turn processing unless it asks for {@link OverflowPolicy#BLOCK}.
+ * A subscriber whose {@code onNext} throws is cancelled and receives the exception through
+ * {@code onError}, so it can never stall the game or its own feed.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public class GameEventPublisher implements Flow.Publisher<GameEvent>, GameEventListener {
+
+    private final Executor executor;
+    private final int bufferCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final CopyOnWriteArrayList<EventSubscription> subscriptions;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a publisher that delivers on the common fork-join pool.
+     *
+     * @param bufferCapacity the maximum number of undelivered events per subscriber
+     * @param overflowPolicy what to do when a subscriber's buffer is full
+     */
+    public GameEventPublisher(int bufferCapacity, OverflowPolicy overflowPolicy) {
+        this(ForkJoinPool.commonPool(), bufferCapacity, overflowPolicy);
+    }
+
+    /**
+     * Constructs a publisher.
+     *
+     * @param executor the executor that runs subscriber callbacks
+     * @param bufferCapacity the maximum number of undelivered events per subscriber
+     * @param overflowPolicy what to do when a subscriber's buffer is full
+     * @throws IllegalArgumentException if the buffer capacity is not positive
+     */
+    public GameEventPublisher(Executor executor, int bufferCapacity, OverflowPolicy overflowPolicy) {
+        if (bufferCapacity <= 0) {
+            throw new IllegalArgumentException("Buffer capacity must be positive");
+        }
+        this.executor = Objects.requireNonNull(executor);
+        this.bufferCapacity = bufferCapacity;
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+        this.subscriptions = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Adds a subscriber. A subscriber added after {@link #close()} is completed immediately.
+     *
+     * @param subscriber the subscriber
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber) {
+        Objects.requireNonNull(subscriber);
+        EventSubscription subscription = new EventSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+        if (closed) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * Buffers a game event for every subscriber.
+     * Called on the game thread; only waits when a subscriber's buffer is full under BLOCK.
+     *
+     * @param event the event
+     */
+    @Override
+    public void onEvent(GameEvent event) {
+        if (closed) {
+            return;
+        }
+        for (EventSubscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /**
+     * Completes every subscriber once its buffered events have been delivered.
+     * Later events are ignored.
+     */
+    public void close() {
+        closed = true;
+        for (EventSubscription subscription : subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * Gets the number of current subscribers.
+     *
+     * @return the number of subscribers
+     */
+    public int getNumberOfSubscribers() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Gets the number of events dropped or coalesced across all current subscribers.
+     *
+     * @return the number of events not delivered because of overflow
+     */
+    public long getDroppedEvents() {
+        long dropped = 0;
+        for (EventSubscription subscription : subscriptions) {
+            dropped += subscription.dropped.get();
+        }
+        return dropped;
+    }
+
+    /**
+     * Subscription of one subscriber, holding its bounded buffer and outstanding demand.
+     */
+    private final class EventSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super GameEvent> subscriber;
+        private final ArrayDeque<GameEvent> buffer;
+        private final ReentrantLock lock;
+        private final Condition notFull;
+        private final AtomicLong demand;
+        private final AtomicInteger pendingDrains;
+        private final AtomicLong dropped;
+        private volatile boolean cancelled;
+        private volatile boolean completing;
+        private boolean terminated;
+
+        /**
+         * Constructs the subscription of a subscriber.
+         *
+         * @param subscriber the subscriber
+         */
+        EventSubscription(Flow.Subscriber<? super GameEvent> subscriber) {
+            this.subscriber = subscriber;
+            this.buffer = new ArrayDeque<>(bufferCapacity);
+            this.lock = new ReentrantLock();
+            this.notFull = lock.newCondition();
+            this.demand = new AtomicLong();
+            this.pendingDrains = new AtomicInteger();
+            this.dropped = new AtomicLong();
+        }
+
+        /**
+         * Adds demand for more events.
+         *
+         * @param n the number of additional events requested
+         */
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                executor.execute(() -> subscriber.onError(
+                        new IllegalArgumentException("Requested a non-positive number of events: " + n)));
+                return;
+            }
+            demand.getAndUpdate(current -> {
+                long updated = current + n;
+                return updated < 0 ? Long.MAX_VALUE : updated;
+            });
+            scheduleDrain();
+        }
+
+        /**
+         * Stops delivery and releases the buffer and a blocked game thread, if any.
+         */
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+            lock.lock();
+            try {
+                buffer.clear();
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Buffers an event according to the overflow policy.
+         *
+         * @param event the event
+         */
+        void offer(GameEvent event) {
+            lock.lock();
+            try {
+                if (buffer.size() == bufferCapacity) {
+                    makeRoom(event);
+                }
+                if (cancelled) {
+                    return;
+                }
+                buffer.addLast(event);
+            } finally {
+                lock.unlock();
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * Makes room for an event in a full buffer. Must be called holding the lock.
+         *
+         * @param event the event that needs room
+         */
+        private void makeRoom(GameEvent event) {
+            switch (overflowPolicy) {
+                case BLOCK:
+                    while (buffer.size() == bufferCapacity && !cancelled) {
+                        notFull.awaitUninterruptibly();
+                    }
+                    return;
+                case COALESCE:
+                    Iterator<GameEvent> newestFirst = buffer.descendingIterator();
+                    while (newestFirst.hasNext()) {
+                        if (newestFirst.next().getType() == event.getType()) {
+                            newestFirst.remove();
+                            dropped.incrementAndGet();
+                            return;
+                        }
+                    }
+                    buffer.pollFirst();
+                    dropped.incrementAndGet();
+                    return;
+                case DROP_OLDEST:
+                default:
+                    buffer.pollFirst();
+                    dropped.incrementAndGet();
+            }
+        }
+
+        /**
+         * Completes the subscriber once the buffer has been drained.
+         */
+        void complete() {
+            completing = true;
+            scheduleDrain();
+        }
+
+        /**
+         * Schedules a drain on the executor unless one is already running; a running drain
+         * loops again instead.
+         */
+        private void scheduleDrain() {
+            if (pendingDrains.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        /**
+         * Delivers buffered events while there is demand, then completes if requested.
+         * Runs on the executor, never concurrently with itself.
+         */
+        private void drain() {
+            int missed = 1;
+            do {
+                while (!cancelled && demand.get() > 0) {
+                    GameEvent event = poll();
+                    if (event == null) {
+                        break;
+                    }
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    try {
+                        subscriber.onNext(event);
+                    } catch (RuntimeException | Error failure) {
+                        fail(failure);
+                    }
+                }
+                if (completing && !cancelled && !terminated && isBufferEmpty()) {
+                    terminated = true;
+                    subscriptions.remove(this);
+                    subscriber.onComplete();
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Cancels the subscription after its subscriber failed and reports the failure to it.
+         * Runs within the drain.
+         *
+         * @param failure the exception thrown by the subscriber
+         */
+        private void fail(Throwable failure) {
+            cancel();
+            if (!terminated) {
+                terminated = true;
+                subscriber.onError(failure);
+            }
+        }
+
+        /**
+         * Takes the oldest buffered event and wakes a blocked game thread.
+         *
+         * @return the oldest event, or null if the buffer is empty
+         */
+        private GameEvent poll() {
+            lock.lock();
+            try {
+                GameEvent event = buffer.pollFirst();
+                if (event != null) {
+                    notFull.signal();
+                }
+                return event;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Checks whether the buffer is empty.
+         *
+         * @return true if no event is buffered, false otherwise
+         */
+        private boolean isBufferEmpty() {
+            lock.lock();
+            try {
+                return buffer.isEmpty();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
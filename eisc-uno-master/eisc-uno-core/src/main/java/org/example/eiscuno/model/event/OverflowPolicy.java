@@ -0,0 +1,27 @@
+package org.example.eiscuno.model.event;
+
+/**
+ * What a {@link GameEventPublisher} does when a subscriber's buffer is full.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public enum OverflowPolicy {
+
+    /**
+     * The game thread waits until the subscriber makes room; no event is lost.
+     */
+    BLOCK,
+
+    /**
+     * The oldest buffered event is discarded to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The most recent buffered event of the same type is replaced by the new one, since it carries
+     * the newer state; if there is none, the oldest buffered event is discarded.
+     */
+    COALESCE
+}
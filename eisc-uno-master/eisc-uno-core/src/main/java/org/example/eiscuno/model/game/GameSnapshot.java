@@ -0,0 +1,152 @@
+package org.example.eiscuno.model.game;
+
+/**
+ * Immutable view of a Cincuentazo game at the moment an action was committed.
+ * Published by {@link GameUnoModel} through a single volatile write, so any thread can
+ * read a consistent state without locks while the owning thread keeps mutating the model.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class GameSnapshot {
+    private final long version;
+    private final int currentSum;
+    private final int topCardId;
+    private final int currentPlayerIndex;
+    private final long[] activeSeats;
+    private final int activePlayers;
+    private final int[] handSizes;
+    private final int deckSize;
+    private final int tableSize;
+    private final boolean gameOver;
+
+    /**
+     * Constructs a snapshot. The arrays are owned by the snapshot and must not be modified afterwards.
+     *
+     * @param version the number of actions committed before this snapshot
+     * @param currentSum the current sum on the table
+     * @param topCardId the id of the card on top of the table, or -1 if the table is empty
+     * @param currentPlayerIndex the seat whose turn it is
+     * @param activeSeats the bitset of active seats, 64 seats per word
+     * @param activePlayers the number of active seats
+     * @param handSizes the number of cards held by each seat
+     * @param deckSize the number of cards left in the deck
+     * @param tableSize the number of cards on the table
+     * @param gameOver whether the game has ended
+     */
+    GameSnapshot(long version, int currentSum, int topCardId, int currentPlayerIndex, long[] activeSeats,
+                 int activePlayers, int[] handSizes, int deckSize, int tableSize, boolean gameOver) {
+        this.version = version;
+        this.currentSum = currentSum;
+        this.topCardId = topCardId;
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.activeSeats = activeSeats;
+        this.activePlayers = activePlayers;
+        this.handSizes = handSizes;
+        this.deckSize = deckSize;
+        this.tableSize = tableSize;
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * Gets the number of actions committed before this snapshot was published.
+     *
+     * @return the snapshot version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the sum on the table.
+     *
+     * @return the current sum
+     */
+    public int getCurrentSum() {
+        return currentSum;
+    }
+
+    /**
+     * Gets the id of the card on top of the table.
+     *
+     * @return the top card id, or -1 if the table is empty
+     */
+    public int getTopCardId() {
+        return topCardId;
+    }
+
+    /**
+     * Gets the seat whose turn it is (0 is the human player).
+     *
+     * @return the current seat index
+     */
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    /**
+     * Checks whether a seat is still active.
+     *
+     * @param seat the seat index
+     * @return true if the seat has not been eliminated, false otherwise
+     */
+    public boolean isPlayerActive(int seat) {
+        return (activeSeats[seat >>> 6] & (1L << seat)) != 0;
+    }
+
+    /**
+     * Gets the number of active seats.
+     *
+     * @return the number of active players
+     */
+    public int getActivePlayerCount() {
+        return activePlayers;
+    }
+
+    /**
+     * Gets the number of seats at the table.
+     *
+     * @return the number of seats
+     */
+    public int getTotalPlayers() {
+        return handSizes.length;
+    }
+
+    /**
+     * Gets the number of cards held by a seat.
+     *
+     * @param seat the seat index
+     * @return the hand size of that seat
+     */
+    public int getHandSize(int seat) {
+        return handSizes[seat];
+    }
+
+    /**
+     * Gets the number of cards left in the deck.
+     *
+     * @return the deck size
+     */
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Gets the number of cards on the table, including the top card.
+     *
+     * @return the table size
+     */
+    public int getTableSize() {
+        return tableSize;
+    }
+
+    /**
+     * Checks if the game is over (only one or zero active players remain).
+     *
+     * @return true if the game is over, false otherwise
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
@@ -0,0 +1,477 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.rules.CompiledRules;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compact, immutable and persistent state of a Cincuentazo game, meant for searchers and undo.
+ * Hands are bitsets of card ids (one long per seat), the deck and the table are card-id sequences
+ * stored bottom first, and the active seats are a bitmask, so a game of up to 64 seats fits in a few
+ * small arrays.
+ * Because a state never changes, forking it is just keeping the reference: O(1) and allocation-free.
+ * {@link #executeTurn(int)} returns a new state that shares every part the turn did not touch; drawing
+ * only shortens the shared deck, so a turn copies the hands and the table and nothing else.
+ * Unlike the live model, whose deck reshuffles with its own random stream, a state reshuffles recycled
+ * cards from a seed it carries, so replaying the same moves from the same state always gives the same
+ * result. Use {@link #withSeed(long)} to sample other shuffles.
+ * A state plays by the {@link CompiledRules} of the game it was captured from.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class GameState {
+
+    /** Maximum number of seats a state can represent. */
+    public static final int MAX_SEATS = Long.SIZE;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long[] hands;
+    private final byte[] deck;
+    private final int deckSize;
+    private final byte[] table;
+    private final int tableSize;
+    private final int currentSum;
+    private final long activeMask;
+    private final int currentSeat;
+    private final long seed;
+    private final CompiledRules rules;
+
+    /**
+     * Constructs a state from its parts, which it takes ownership of and never modifies.
+     *
+     * @param hands the hand bitset of every seat
+     * @param deck the deck card ids, bottom first
+     * @param deckSize the number of cards in the deck
+     * @param table the table card ids, bottom first
+     * @param tableSize the number of cards on the table
+     * @param currentSum the sum on the table
+     * @param activeMask the bitmask of active seats
+     * @param currentSeat the seat whose turn it is
+     * @param seed the seed of the next recycle shuffle
+     * @param rules the rules the state plays by
+     */
+    GameState(long[] hands, byte[] deck, int deckSize, byte[] table, int tableSize, int currentSum,
+              long activeMask, int currentSeat, long seed, CompiledRules rules) {
+        this.hands = hands;
+        this.deck = deck;
+        this.deckSize = deckSize;
+        this.table = table;
+        this.tableSize = tableSize;
+        this.currentSum = currentSum;
+        this.activeMask = activeMask;
+        this.currentSeat = currentSeat;
+        this.seed = seed;
+        this.rules = rules;
+    }
+
+    /**
+     * Executes a whole turn for the current seat, with the same rules as
+     * {@link GameUnoModel#executeTurn(org.example.eiscuno.model.player.Player, int)}: plays the move's card
+     * (or none for {@link Move#NONE}), draws the rules' number of cards, recycling the table whenever the deck
+     * runs out, and then
+     * eliminates the seat if no card in its hand is playable or passes the turn otherwise.
+     *
+     * @param move the encoded move to play, or {@link Move#NONE} to only draw
+     * @return the state after the turn, or null if the move is illegal or the game is over
+     */
+    public GameState executeTurn(int move) {
+        if (!isLegal(move)) {
+            return null;
+        }
+        int seat = currentSeat;
+        long[] nextHands = hands.clone();
+        byte[] nextTable = table;
+        int nextTableSize = tableSize;
+        int nextSum = currentSum;
+        if (move != Move.NONE) {
+            int cardId = Move.cardId(move);
+            nextHands[seat] &= ~(1L << cardId);
+            nextTable = Arrays.copyOf(table, tableSize + 1);
+            nextTable[nextTableSize++] = (byte) cardId;
+            nextSum = Math.max(0, nextSum + Move.value(move));
+        }
+
+        byte[] nextDeck = deck;
+        int nextDeckSize = deckSize;
+        long nextSeed = seed;
+        for (int draws = rules.getDrawCount(); draws > 0; draws--) {
+            if (nextDeckSize == 0 && nextTableSize > 1) {
+                nextDeckSize = nextTableSize - 1;
+                nextDeck = Arrays.copyOf(nextTable, nextDeckSize);
+                nextSeed = shuffle(nextDeck, nextDeckSize, nextSeed);
+                nextTable = new byte[] {nextTable[nextTableSize - 1]};
+                nextTableSize = 1;
+            }
+            if (nextDeckSize > 0) {
+                nextHands[seat] |= 1L << nextDeck[--nextDeckSize];
+            }
+        }
+
+        long nextActive = activeMask;
+        if ((nextHands[seat] & rules.playableMask(nextSum)) == 0L) {
+            long returned = nextHands[seat];
+            nextHands[seat] = 0L;
+            nextActive &= ~(1L << seat);
+            int count = Long.bitCount(returned);
+            byte[] grown = new byte[nextDeckSize + count];
+            for (int i = 0; returned != 0L; i++) {
+                grown[i] = (byte) Long.numberOfTrailingZeros(returned);
+                returned &= returned - 1;
+            }
+            System.arraycopy(nextDeck, 0, grown, count, nextDeckSize);
+            nextDeck = grown;
+            nextDeckSize = grown.length;
+        }
+
+        return new GameState(nextHands, nextDeck, nextDeckSize, nextTable, nextTableSize, nextSum, nextActive,
+                nextActiveSeat(nextActive, seat), nextSeed, rules);
+    }
+
+    /**
+     * Checks if the current seat may execute a turn with the given move.
+     *
+     * @param move the encoded move, or {@link Move#NONE} to only draw
+     * @return true if the move is legal, false otherwise
+     */
+    public boolean isLegal(int move) {
+        if (isGameOver()) {
+            return false;
+        }
+        if (move == Move.NONE) {
+            return true;
+        }
+        int cardId = Move.cardId(move);
+        int value = Move.value(move);
+        return move >= 0 && cardId < EISCUnoEnum.CARD_COUNT
+                && (hands[currentSeat] & (1L << cardId)) != 0L
+                && rules.isValidValue(cardId, value)
+                && currentSum + value <= rules.getTargetSum();
+    }
+
+    /**
+     * Writes the legal moves of the current seat into a caller-supplied buffer, in the same order as
+     * {@link GameUnoModel#legalMoves(org.example.eiscuno.model.player.Player, int[])}.
+     * Drawing without playing ({@link Move#NONE}) is not listed.
+     *
+     * @param moves the buffer that receives the encoded moves
+     * @return the number of moves written, at most {@code moves.length}
+     */
+    public int legalMoves(int[] moves) {
+        if (isGameOver()) {
+            return 0;
+        }
+        return writeLegalMoves(rules, hands[currentSeat], currentSum, moves);
+    }
+
+    /**
+     * Writes the moves a hand can play on a sum into a buffer, in card id order.
+     * A card with two values that fit yields two moves, the low one first.
+     *
+     * @param rules the rules to play by
+     * @param hand the hand bitset
+     * @param currentSum the sum on the table
+     * @param moves the buffer that receives the encoded moves
+     * @return the number of moves written, at most {@code moves.length}
+     */
+    static int writeLegalMoves(CompiledRules rules, long hand, int currentSum, int[] moves) {
+        long legalCards = hand & rules.playableMask(currentSum);
+        int count = 0;
+        while (legalCards != 0L && count < moves.length) {
+            int cardId = Long.numberOfTrailingZeros(legalCards);
+            legalCards &= legalCards - 1;
+            moves[count++] = Move.of(cardId, rules.getLowValue(cardId));
+            if (rules.hasTwoValues(cardId) && currentSum + rules.getHighValue(cardId) <= rules.getTargetSum()
+                    && count < moves.length) {
+                moves[count++] = Move.of(cardId, rules.getHighValue(cardId));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns this state with another seed for the recycle shuffles; every other part is shared.
+     *
+     * @param seed the new seed
+     * @return a state that differs from this one only in its seed
+     */
+    public GameState withSeed(long seed) {
+        return new GameState(hands, deck, deckSize, table, tableSize, currentSum, activeMask, currentSeat, seed,
+                rules);
+    }
+
+    /**
+     * Gets the hand of a seat as a bitset of card ids.
+     *
+     * @param seat the seat index
+     * @return the hand bitset, bit {@code id} set when the hand holds that card
+     */
+    public long getHand(int seat) {
+        return hands[seat];
+    }
+
+    /**
+     * Gets the number of seats.
+     *
+     * @return the total number of players
+     */
+    public int getTotalPlayers() {
+        return hands.length;
+    }
+
+    /**
+     * Gets the number of cards in the deck.
+     *
+     * @return the deck size
+     */
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Gets the id of a deck card given its position counted from the bottom.
+     *
+     * @param position the position, from 0 (bottom) to {@code getDeckSize() - 1} (top)
+     * @return the card id
+     */
+    public int getDeckCardId(int position) {
+        return deck[checkIndex(position, deckSize)];
+    }
+
+    /**
+     * Gets the number of cards on the table.
+     *
+     * @return the table size
+     */
+    public int getTableSize() {
+        return tableSize;
+    }
+
+    /**
+     * Gets the id of a table card given its position counted from the bottom.
+     *
+     * @param position the position, from 0 (bottom) to {@code getTableSize() - 1} (top)
+     * @return the card id
+     */
+    public int getTableCardId(int position) {
+        return table[checkIndex(position, tableSize)];
+    }
+
+    /**
+     * Gets the id of the card on top of the table.
+     *
+     * @return the top card id, or -1 if the table is empty
+     */
+    public int getTopCardId() {
+        return tableSize > 0 ? table[tableSize - 1] : -1;
+    }
+
+    /**
+     * Gets the sum on the table.
+     *
+     * @return the current sum
+     */
+    public int getCurrentSum() {
+        return currentSum;
+    }
+
+    /**
+     * Gets the bitmask of active seats.
+     *
+     * @return the active seats, bit {@code seat} set when the seat is still playing
+     */
+    public long getActiveMask() {
+        return activeMask;
+    }
+
+    /**
+     * Checks if a seat is still playing.
+     *
+     * @param seat the seat index
+     * @return true if the seat is active, false if it was eliminated
+     */
+    public boolean isActive(int seat) {
+        return (activeMask & (1L << seat)) != 0L;
+    }
+
+    /**
+     * Gets the number of active seats.
+     *
+     * @return the active player count
+     */
+    public int getActivePlayerCount() {
+        return Long.bitCount(activeMask);
+    }
+
+    /**
+     * Gets the seat whose turn it is.
+     *
+     * @return the current seat index
+     */
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    /**
+     * Gets the seed of the next recycle shuffle.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the rules the state plays by.
+     *
+     * @return the compiled rules
+     */
+    public CompiledRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Checks if the game is over (only one or zero active seats remain).
+     *
+     * @return true if the game is over, false otherwise
+     */
+    public boolean isGameOver() {
+        return Long.bitCount(activeMask) <= 1;
+    }
+
+    /**
+     * Gets the seat of the winner once the game is over.
+     *
+     * @return the winning seat, or -1 if the game is not over or nobody is left
+     */
+    public int getWinner() {
+        return Long.bitCount(activeMask) == 1 ? Long.numberOfTrailingZeros(activeMask) : -1;
+    }
+
+    /**
+     * Compares the cards, sum, seats and turn of two states. The shuffle seed is ignored, so states
+     * reached by different move orders compare equal, as a transposition table expects.
+     *
+     * @param o the object to compare with
+     * @return true if both states describe the same position
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GameState)) {
+            return false;
+        }
+        GameState other = (GameState) o;
+        return currentSum == other.currentSum && activeMask == other.activeMask
+                && currentSeat == other.currentSeat && Arrays.equals(hands, other.hands)
+                && Arrays.equals(deck, 0, deckSize, other.deck, 0, other.deckSize)
+                && Arrays.equals(table, 0, tableSize, other.table, 0, other.tableSize);
+    }
+
+    /**
+     * Computes a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(hands);
+        for (int i = 0; i < deckSize; i++) {
+            result = 31 * result + deck[i];
+        }
+        for (int i = 0; i < tableSize; i++) {
+            result = 31 * result + table[i];
+        }
+        result = 31 * result + currentSum;
+        result = 31 * result + Long.hashCode(activeMask);
+        return 31 * result + currentSeat;
+    }
+
+    /**
+     * Gets the first active seat after a seat, wrapping around.
+     *
+     * @param activeMask the active seats
+     * @param seat the seat to start from
+     * @return the next active seat, or the same seat if none is active
+     */
+    static int nextActiveSeat(long activeMask, int seat) {
+        if (activeMask == 0L) {
+            return seat;
+        }
+        long after = seat + 1 < Long.SIZE ? activeMask & (-1L << (seat + 1)) : 0L;
+        return Long.numberOfTrailingZeros(after != 0L ? after : activeMask);
+    }
+
+    /**
+     * Shuffles the first cards of an array in place (Fisher-Yates) with a SplitMix64 stream.
+     *
+     * @param cards the card ids to shuffle
+     * @param size the number of cards to shuffle
+     * @param seed the seed of the stream
+     * @return the seed after the shuffle
+     */
+    private static long shuffle(byte[] cards, int size, long seed) {
+        for (int i = size - 1; i > 0; i--) {
+            seed += GOLDEN_GAMMA;
+            int j = (int) (((mix64(seed) >>> 32) * (i + 1)) >>> 32);
+            byte tmp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = tmp;
+        }
+        return seed;
+    }
+
+    /**
+     * Shuffles consecutive card ids of a buffer in place exactly as {@link #shuffle(byte[], int, long)}
+     * shuffles an array, so a stored state recycles like the state it was stored from.
+     *
+     * @param cards the buffer holding the card ids
+     * @param offset the position of the first card in the buffer
+     * @param size the number of cards to shuffle
+     * @param seed the seed of the stream
+     * @return the seed after the shuffle
+     */
+    static long shuffle(ByteBuffer cards, int offset, int size, long seed) {
+        for (int i = size - 1; i > 0; i--) {
+            seed += GOLDEN_GAMMA;
+            int j = (int) (((mix64(seed) >>> 32) * (i + 1)) >>> 32);
+            byte tmp = cards.get(offset + i);
+            cards.put(offset + i, cards.get(offset + j));
+            cards.put(offset + j, tmp);
+        }
+        return seed;
+    }
+
+    /**
+     * Scrambles a value with the SplitMix64 finalizer.
+     *
+     * @param z the value to scramble
+     * @return the scrambled value
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Checks that a position lies within a sequence.
+     *
+     * @param position the position to check
+     * @param size the size of the sequence
+     * @return the position
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    private static int checkIndex(int position, int size) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of " + size);
+        }
+        return position;
+    }
+}
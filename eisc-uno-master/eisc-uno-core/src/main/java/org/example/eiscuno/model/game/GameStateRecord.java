@@ -0,0 +1,334 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Flyweight over one record of a {@link GameStateStore}: a reusable cursor that reads and writes the
+ * fields of the record it is on in place, without building a {@link GameState}.
+ * Move it with {@link #at(long)}; one accessor can walk millions of records without allocating.
+ * The mutators change only the fields they name and check nothing beyond the record's bounds, so
+ * keeping the position consistent (every card in exactly one hand, the deck or the table) is up to
+ * the caller, as when filling a record added with {@link GameStateStore#addEmpty()}.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class GameStateRecord {
+    private final GameStateStore store;
+    private final int cardsOffset;
+    private ByteBuffer page;
+    private int base;
+    private long index;
+
+    /**
+     * Constructs an accessor over a store, on no record until {@link #at(long)} places it.
+     *
+     * @param store the store to access
+     */
+    GameStateRecord(GameStateStore store) {
+        this.store = store;
+        this.cardsOffset = store.getCardsOffset();
+        this.index = -1;
+    }
+
+    /**
+     * Moves this accessor to a record.
+     *
+     * @param index the record index
+     * @return this accessor
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public GameStateRecord at(long index) {
+        this.page = store.page(index);
+        this.base = store.offset(index);
+        this.index = index;
+        return this;
+    }
+
+    /**
+     * Gets the index of the record this accessor is on.
+     *
+     * @return the record index, or -1 before the first {@link #at(long)}
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the hand of a seat as a bitset of card ids.
+     *
+     * @param seat the seat index
+     * @return the hand bitset
+     */
+    public long getHand(int seat) {
+        return page.getLong(handOffset(seat));
+    }
+
+    /**
+     * Replaces the hand of a seat.
+     *
+     * @param seat the seat index
+     * @param hand the hand bitset
+     */
+    public void setHand(int seat, long hand) {
+        page.putLong(handOffset(seat), hand);
+    }
+
+    /**
+     * Gets the sum on the table.
+     *
+     * @return the current sum
+     */
+    public int getCurrentSum() {
+        return page.getInt(base + GameStateStore.SUM_OFFSET);
+    }
+
+    /**
+     * Sets the sum on the table.
+     *
+     * @param currentSum the new sum
+     */
+    public void setCurrentSum(int currentSum) {
+        page.putInt(base + GameStateStore.SUM_OFFSET, currentSum);
+    }
+
+    /**
+     * Gets the bitmask of active seats.
+     *
+     * @return the active seats
+     */
+    public long getActiveMask() {
+        return page.getLong(base + GameStateStore.ACTIVE_MASK_OFFSET);
+    }
+
+    /**
+     * Sets the bitmask of active seats.
+     *
+     * @param activeMask the active seats
+     */
+    public void setActiveMask(long activeMask) {
+        page.putLong(base + GameStateStore.ACTIVE_MASK_OFFSET, activeMask);
+    }
+
+    /**
+     * Gets the seat whose turn it is.
+     *
+     * @return the current seat index
+     */
+    public int getCurrentSeat() {
+        return page.get(base + GameStateStore.SEAT_OFFSET);
+    }
+
+    /**
+     * Sets the seat whose turn it is.
+     *
+     * @param seat the current seat index
+     */
+    public void setCurrentSeat(int seat) {
+        page.put(base + GameStateStore.SEAT_OFFSET, (byte) checkSeat(seat));
+    }
+
+    /**
+     * Gets the seed of the next recycle shuffle.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return page.getLong(base + GameStateStore.SEED_OFFSET);
+    }
+
+    /**
+     * Sets the seed of the next recycle shuffle.
+     *
+     * @param seed the seed
+     */
+    public void setSeed(long seed) {
+        page.putLong(base + GameStateStore.SEED_OFFSET, seed);
+    }
+
+    /**
+     * Gets the number of cards in the deck.
+     *
+     * @return the deck size
+     */
+    public int getDeckSize() {
+        return page.get(base + GameStateStore.DECK_SIZE_OFFSET);
+    }
+
+    /**
+     * Gets the id of a deck card given its position counted from the bottom.
+     *
+     * @param position the position, from 0 (bottom) to {@code getDeckSize() - 1} (top)
+     * @return the card id
+     */
+    public int getDeckCardId(int position) {
+        return page.get(cards() + checkIndex(position, getDeckSize()));
+    }
+
+    /**
+     * Puts a card on top of the deck.
+     *
+     * @param cardId the card id
+     * @throws IllegalStateException if the deck and the table already hold every card
+     */
+    public void pushDeckCard(int cardId) {
+        int deckSize = getDeckSize();
+        checkRoom();
+        page.put(cards() + deckSize, (byte) cardId);
+        page.put(base + GameStateStore.DECK_SIZE_OFFSET, (byte) (deckSize + 1));
+    }
+
+    /**
+     * Removes the card on top of the deck.
+     *
+     * @return the removed card id, or -1 if the deck is empty
+     */
+    public int popDeckCard() {
+        int deckSize = getDeckSize();
+        if (deckSize == 0) {
+            return -1;
+        }
+        page.put(base + GameStateStore.DECK_SIZE_OFFSET, (byte) (deckSize - 1));
+        return page.get(cards() + deckSize - 1);
+    }
+
+    /**
+     * Gets the number of cards on the table.
+     *
+     * @return the table size
+     */
+    public int getTableSize() {
+        return page.get(base + GameStateStore.TABLE_SIZE_OFFSET);
+    }
+
+    /**
+     * Gets the id of a table card given its position counted from the bottom.
+     *
+     * @param position the position, from 0 (bottom) to {@code getTableSize() - 1} (top)
+     * @return the card id
+     */
+    public int getTableCardId(int position) {
+        return page.get(cards() + GameStateStore.LAST_CARD - checkIndex(position, getTableSize()));
+    }
+
+    /**
+     * Gets the id of the card on top of the table.
+     *
+     * @return the top card id, or -1 if the table is empty
+     */
+    public int getTopCardId() {
+        int tableSize = getTableSize();
+        return tableSize > 0 ? page.get(cards() + GameStateStore.LAST_CARD - (tableSize - 1)) : -1;
+    }
+
+    /**
+     * Puts a card on top of the table.
+     *
+     * @param cardId the card id
+     * @throws IllegalStateException if the deck and the table already hold every card
+     */
+    public void pushTableCard(int cardId) {
+        int tableSize = getTableSize();
+        checkRoom();
+        page.put(cards() + GameStateStore.LAST_CARD - tableSize, (byte) cardId);
+        page.put(base + GameStateStore.TABLE_SIZE_OFFSET, (byte) (tableSize + 1));
+    }
+
+    /**
+     * Executes a whole turn on the current record in place, as {@link GameStateStore#executeTurn(long, int)} does.
+     *
+     * @param move the encoded move to play, or {@link Move#NONE} to only draw
+     * @return true if the turn was executed, false if the move is illegal or the game is over
+     */
+    public boolean executeTurn(int move) {
+        return store.executeTurn(page, base, move);
+    }
+
+    /**
+     * Checks if a seat is still playing.
+     *
+     * @param seat the seat index
+     * @return true if the seat is active, false if it was eliminated
+     */
+    public boolean isActive(int seat) {
+        return (getActiveMask() & (1L << seat)) != 0L;
+    }
+
+    /**
+     * Checks if the game is over (only one or zero active seats remain).
+     *
+     * @return true if the game is over, false otherwise
+     */
+    public boolean isGameOver() {
+        return Long.bitCount(getActiveMask()) <= 1;
+    }
+
+    /**
+     * Gets the seat of the winner once the game is over.
+     *
+     * @return the winning seat, or -1 if the game is not over or nobody is left
+     */
+    public int getWinner() {
+        long activeMask = getActiveMask();
+        return Long.bitCount(activeMask) == 1 ? Long.numberOfTrailingZeros(activeMask) : -1;
+    }
+
+    /**
+     * Gets the offset of the card area of the current record.
+     *
+     * @return the byte offset of the deck's bottom card
+     */
+    private int cards() {
+        return base + cardsOffset;
+    }
+
+    /**
+     * Gets the offset of a seat's hand in the current record.
+     *
+     * @param seat the seat index
+     * @return the byte offset of the hand
+     */
+    private int handOffset(int seat) {
+        return base + GameStateStore.HANDS_OFFSET + Long.BYTES * checkSeat(seat);
+    }
+
+    /**
+     * Checks that a seat exists in the store's states.
+     *
+     * @param seat the seat index
+     * @return the seat index
+     * @throws IndexOutOfBoundsException if the seat is out of range
+     */
+    private int checkSeat(int seat) {
+        return checkIndex(seat, store.getTotalPlayers());
+    }
+
+    /**
+     * Checks that the card area has room for one more card.
+     *
+     * @throws IllegalStateException if the deck and the table already hold every card
+     */
+    private void checkRoom() {
+        if (getDeckSize() + getTableSize() >= EISCUnoEnum.CARD_COUNT) {
+            throw new IllegalStateException("Deck and table already hold " + EISCUnoEnum.CARD_COUNT + " cards");
+        }
+    }
+
+    /**
+     * Checks that a position lies within a sequence.
+     *
+     * @param position the position to check
+     * @param size the size of the sequence
+     * @return the position
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    private static int checkIndex(int position, int size) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of " + size);
+        }
+        return position;
+    }
+}
@@ -0,0 +1,377 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.rules.CompiledRules;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Off-heap store of many {@link GameState}s of the same table, each packed into a fixed-width record of
+ * direct memory, so millions of positions cost the garbage collector nothing but a few buffer objects.
+ * A record holds the active mask, the recycle seed, the sum, the current seat, the deck and table sizes,
+ * one hand bitset per seat and a 52-byte card area: the deck fills it from the front, bottom card first,
+ * and the table from the back, bottom card last, so drawing and playing never move other cards and a single
+ * deck always fits.
+ * Records live in direct {@link ByteBuffer} pages of up to 1 GiB that are allocated as the store grows,
+ * so the number of records is bounded by the direct memory limit
+ * ({@code -XX:MaxDirectMemorySize}, by default the maximum heap size) rather than by the heap.
+ * Positions are read and written either as whole states with {@link #get(long)} and {@link #set(long, GameState)},
+ * or field by field, without allocating, through a {@link GameStateRecord} flyweight.
+ * {@link #executeTurn(long, int)} plays a turn directly on the record's bytes, also without allocating.
+ * Like the model, a store is not thread-safe while it grows; threads may read and write distinct
+ * records of a filled store concurrently.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class GameStateStore {
+
+    static final int ACTIVE_MASK_OFFSET = 0;
+    static final int SEED_OFFSET = 8;
+    static final int SUM_OFFSET = 16;
+    static final int SEAT_OFFSET = 20;
+    static final int DECK_SIZE_OFFSET = 21;
+    static final int TABLE_SIZE_OFFSET = 22;
+    static final int HANDS_OFFSET = 24;
+
+    /** Position of the table's bottom card within the card area. */
+    static final int LAST_CARD = EISCUnoEnum.CARD_COUNT - 1;
+
+    /** Largest page of records, kept well below the 2 GiB limit of a buffer. */
+    private static final int MAX_PAGE_BYTES = 1 << 30;
+
+    private final int totalPlayers;
+    private final CompiledRules rules;
+    private final int cardsOffset;
+    private final int recordBytes;
+    private final int pageShift;
+    private final long pageMask;
+    private final long capacity;
+    private ByteBuffer[] pages;
+    private long size;
+
+    /**
+     * Constructs an empty store.
+     *
+     * @param totalPlayers the number of seats of every stored state
+     * @param rules the rules of every stored state
+     * @param capacity the maximum number of records
+     * @throws IllegalArgumentException if the seat count or the capacity is out of range
+     */
+    public GameStateStore(int totalPlayers, CompiledRules rules, long capacity) {
+        if (totalPlayers < 2 || totalPlayers > GameState.MAX_SEATS) {
+            throw new IllegalArgumentException("A state has 2 to " + GameState.MAX_SEATS + " seats");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
+        }
+        this.totalPlayers = totalPlayers;
+        this.rules = rules;
+        this.cardsOffset = HANDS_OFFSET + Long.BYTES * totalPlayers;
+        this.recordBytes = (cardsOffset + EISCUnoEnum.CARD_COUNT + Long.BYTES - 1) & -Long.BYTES;
+        this.pageShift = 31 - Integer.numberOfLeadingZeros(MAX_PAGE_BYTES / recordBytes);
+        this.pageMask = (1L << pageShift) - 1;
+        this.capacity = capacity;
+        this.pages = new ByteBuffer[0];
+    }
+
+    /**
+     * Appends a state as a new record.
+     *
+     * @param state the state to store
+     * @return the index of the new record
+     * @throws IllegalArgumentException if the state has another number of seats or other rules
+     * @throws IllegalStateException if the store is full
+     */
+    public long add(GameState state) {
+        long index = addEmpty();
+        set(index, state);
+        return index;
+    }
+
+    /**
+     * Appends a zeroed record (no cards, no active seats), to be filled through a {@link GameStateRecord}.
+     *
+     * @return the index of the new record
+     * @throws IllegalStateException if the store is full
+     */
+    public long addEmpty() {
+        if (size == capacity) {
+            throw new IllegalStateException("Store holds at most " + capacity + " states");
+        }
+        int page = (int) (size >>> pageShift);
+        if (page == pages.length) {
+            long records = Math.min(1L << pageShift, capacity - size);
+            pages = Arrays.copyOf(pages, page + 1);
+            pages[page] = ByteBuffer.allocateDirect((int) records * recordBytes).order(ByteOrder.nativeOrder());
+        }
+        long index = size++;
+        ByteBuffer buffer = page(index);
+        int base = offset(index);
+        for (int i = 0; i < recordBytes; i += Long.BYTES) {
+            buffer.putLong(base + i, 0L);
+        }
+        return index;
+    }
+
+    /**
+     * Overwrites a record with a state.
+     *
+     * @param index the record index
+     * @param state the state to store
+     * @throws IllegalArgumentException if the state has another number of seats or other rules
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void set(long index, GameState state) {
+        if (state.getTotalPlayers() != totalPlayers) {
+            throw new IllegalArgumentException("State has " + state.getTotalPlayers() + " seats, store has "
+                    + totalPlayers);
+        }
+        if (state.getRules() != rules && !state.getRules().getVariant().equals(rules.getVariant())) {
+            throw new IllegalArgumentException("State plays by other rules");
+        }
+        ByteBuffer page = page(index);
+        int base = offset(index);
+        page.putLong(base + ACTIVE_MASK_OFFSET, state.getActiveMask());
+        page.putLong(base + SEED_OFFSET, state.getSeed());
+        page.putInt(base + SUM_OFFSET, state.getCurrentSum());
+        page.put(base + SEAT_OFFSET, (byte) state.getCurrentSeat());
+        page.put(base + DECK_SIZE_OFFSET, (byte) state.getDeckSize());
+        page.put(base + TABLE_SIZE_OFFSET, (byte) state.getTableSize());
+        for (int seat = 0; seat < totalPlayers; seat++) {
+            page.putLong(base + HANDS_OFFSET + Long.BYTES * seat, state.getHand(seat));
+        }
+        int cards = base + cardsOffset;
+        for (int i = 0; i < state.getDeckSize(); i++) {
+            page.put(cards + i, (byte) state.getDeckCardId(i));
+        }
+        for (int i = 0; i < state.getTableSize(); i++) {
+            page.put(cards + LAST_CARD - i, (byte) state.getTableCardId(i));
+        }
+    }
+
+    /**
+     * Reads a record back as a state.
+     *
+     * @param index the record index
+     * @return a state equal to the one stored, with the same seed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public GameState get(long index) {
+        ByteBuffer page = page(index);
+        int base = offset(index);
+        long[] hands = new long[totalPlayers];
+        for (int seat = 0; seat < totalPlayers; seat++) {
+            hands[seat] = page.getLong(base + HANDS_OFFSET + Long.BYTES * seat);
+        }
+        int cards = base + cardsOffset;
+        byte[] deck = new byte[page.get(base + DECK_SIZE_OFFSET)];
+        page.get(cards, deck);
+        byte[] table = new byte[page.get(base + TABLE_SIZE_OFFSET)];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = page.get(cards + LAST_CARD - i);
+        }
+        return new GameState(hands, deck, deck.length, table, table.length, page.getInt(base + SUM_OFFSET),
+                page.getLong(base + ACTIVE_MASK_OFFSET), page.get(base + SEAT_OFFSET),
+                page.getLong(base + SEED_OFFSET), rules);
+    }
+
+    /**
+     * Executes a whole turn on a stored state in place, without building a {@link GameState} or allocating.
+     * The record ends up exactly as {@link #set(long, GameState)} would store the state returned by
+     * {@link GameState#executeTurn(int)}, recycle seed included.
+     *
+     * @param index the record index
+     * @param move the encoded move to play, or {@link Move#NONE} to only draw
+     * @return true if the turn was executed, false if the move is illegal or the game is over
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean executeTurn(long index, int move) {
+        return executeTurn(page(index), offset(index), move);
+    }
+
+    /**
+     * Executes a whole turn on the record at a given offset of a page; see {@link #executeTurn(long, int)}.
+     * An illegal move leaves the record untouched.
+     *
+     * @param page the page holding the record
+     * @param base the offset of the record within the page
+     * @param move the encoded move to play, or {@link Move#NONE} to only draw
+     * @return true if the turn was executed, false if the move is illegal or the game is over
+     */
+    boolean executeTurn(ByteBuffer page, int base, int move) {
+        long activeMask = page.getLong(base + ACTIVE_MASK_OFFSET);
+        if (Long.bitCount(activeMask) <= 1) {
+            return false;
+        }
+        int seat = page.get(base + SEAT_OFFSET);
+        int handOffset = base + HANDS_OFFSET + Long.BYTES * seat;
+        long hand = page.getLong(handOffset);
+        int sum = page.getInt(base + SUM_OFFSET);
+        int cards = base + cardsOffset;
+        int deckSize = page.get(base + DECK_SIZE_OFFSET);
+        int tableSize = page.get(base + TABLE_SIZE_OFFSET);
+
+        if (move != Move.NONE) {
+            int cardId = Move.cardId(move);
+            int value = Move.value(move);
+            if (move < 0 || cardId >= EISCUnoEnum.CARD_COUNT || (hand & (1L << cardId)) == 0L
+                    || !rules.isValidValue(cardId, value) || sum + value > rules.getTargetSum()) {
+                return false;
+            }
+            hand &= ~(1L << cardId);
+            page.put(cards + LAST_CARD - tableSize++, (byte) cardId);
+            sum = Math.max(0, sum + value);
+        }
+
+        long seed = page.getLong(base + SEED_OFFSET);
+        for (int draws = rules.getDrawCount(); draws > 0; draws--) {
+            if (deckSize == 0 && tableSize > 1) {
+                // Reversing the card area brings the table to the front, bottom first; all but its top become the deck.
+                for (int i = 0, j = LAST_CARD; i < j; i++, j--) {
+                    byte tmp = page.get(cards + i);
+                    page.put(cards + i, page.get(cards + j));
+                    page.put(cards + j, tmp);
+                }
+                deckSize = tableSize - 1;
+                page.put(cards + LAST_CARD, page.get(cards + deckSize));
+                tableSize = 1;
+                seed = GameState.shuffle(page, cards, deckSize, seed);
+            }
+            if (deckSize > 0) {
+                hand |= 1L << page.get(cards + --deckSize);
+            }
+        }
+
+        if ((hand & rules.playableMask(sum)) == 0L) {
+            int count = Long.bitCount(hand);
+            for (int i = deckSize - 1; i >= 0; i--) {
+                page.put(cards + count + i, page.get(cards + i));
+            }
+            for (int i = 0; hand != 0L; i++, hand &= hand - 1) {
+                page.put(cards + i, (byte) Long.numberOfTrailingZeros(hand));
+            }
+            deckSize += count;
+            activeMask &= ~(1L << seat);
+        }
+
+        page.putLong(handOffset, hand);
+        page.putLong(base + ACTIVE_MASK_OFFSET, activeMask);
+        page.putLong(base + SEED_OFFSET, seed);
+        page.putInt(base + SUM_OFFSET, sum);
+        page.put(base + SEAT_OFFSET, (byte) GameState.nextActiveSeat(activeMask, seat));
+        page.put(base + DECK_SIZE_OFFSET, (byte) deckSize);
+        page.put(base + TABLE_SIZE_OFFSET, (byte) tableSize);
+        return true;
+    }
+
+    /**
+     * Creates a flyweight over this store, initially on record 0.
+     *
+     * @return a new record accessor
+     */
+    public GameStateRecord record() {
+        return new GameStateRecord(this);
+    }
+
+    /**
+     * Discards every record, keeping the memory already allocated for reuse.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Gets the number of records.
+     *
+     * @return the store size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Gets the maximum number of records.
+     *
+     * @return the capacity
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the width of a record.
+     *
+     * @return the bytes taken by each state
+     */
+    public int getRecordBytes() {
+        return recordBytes;
+    }
+
+    /**
+     * Gets the direct memory allocated so far.
+     *
+     * @return the bytes of every page
+     */
+    public long getAllocatedBytes() {
+        long bytes = 0L;
+        for (ByteBuffer page : pages) {
+            bytes += page.capacity();
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets the number of seats of every stored state.
+     *
+     * @return the total number of players
+     */
+    public int getTotalPlayers() {
+        return totalPlayers;
+    }
+
+    /**
+     * Gets the rules of every stored state.
+     *
+     * @return the compiled rules
+     */
+    public CompiledRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Gets the offset of the card ids within a record.
+     *
+     * @return the offset of the first deck card
+     */
+    int getCardsOffset() {
+        return cardsOffset;
+    }
+
+    /**
+     * Gets the page holding a record.
+     *
+     * @param index the record index
+     * @return the page
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    ByteBuffer page(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Record " + index + " out of " + size);
+        }
+        return pages[(int) (index >>> pageShift)];
+    }
+
+    /**
+     * Gets the offset of a record within its page.
+     *
+     * @param index the record index
+     * @return the byte offset of the record
+     */
+    int offset(long index) {
+        return (int) (index & pageMask) * recordBytes;
+    }
+}
@@ -0,0 +1,1393 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.deck.DrawMode;
+import org.example.eiscuno.model.event.GameEvent;
+import org.example.eiscuno.model.event.GameEventBus;
+import org.example.eiscuno.model.event.GameEventListener;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rules.CompiledRules;
+import org.example.eiscuno.model.table.Table;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.example.eiscuno.model.exceptions.PlayerEliminatedException;
+import org.example.eiscuno.model.exceptions.InvalidCardException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Main model class for the Cincuentazo game following MVC pattern.
+ * Manages game state, player turns, card playing, and game rules enforcement.
+ * Active players form an index-based circular doubly linked ring over the seats, so advancing the
+ * turn, eliminating a player, counting active players and detecting game over are all O(1).
+ * The model is owned by a single thread; after each committed action it publishes an immutable
+ * {@link GameSnapshot} that other threads read through {@link #getSnapshot()}, and then
+ * publishes a typed {@link GameEvent} to the listeners registered on its {@link GameEventBus}.
+ * Tables seat from {@link #MIN_PLAYERS} to {@link #MAX_PLAYERS} players; games built by the model get a
+ * shoe of as many decks as {@link #decksFor(int)} gives, and the opening hands are dealt in one bulk take.
+ * The whole position can be captured as a persistent {@link GameState} and restored later; with history
+ * enabled, every committed turn, play or draw records the state it started from so it can be undone.
+ * The rules of the game (target sum, card values, hand size, cards drawn per turn) come from the
+ * {@link CompiledRules} given at construction, {@link CompiledRules#STANDARD} by default.
+ * As an {@link IGameUno} the model runs every operation in place, so its asynchronous variants return
+ * futures that are already complete; {@link org.example.eiscuno.model.engine.AsyncGameUno} serves the same
+ * interface from an engine thread.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public class GameUnoModel implements IGameUno {
+
+    /** Minimum number of players at a table. */
+    public static final int MIN_PLAYERS = 2;
+
+    /** Maximum number of players at a table; seats are tracked in 64-bit masks. */
+    public static final int MAX_PLAYERS = GameState.MAX_SEATS;
+
+    /** Number of cards dealt to every player at the start of a game under the standard rules. */
+    public static final int INITIAL_HAND_SIZE = 4;
+
+    /** Order in which an eliminated hand goes back to the deck, as {@link GameState} returns it. */
+    private static final Comparator<Card> BY_ID = Comparator.comparingInt(Card::getId);
+
+    private Player humanPlayer;
+    private List<Player> machinePlayers;
+    private Deck deck;
+    private Table table;
+    private int currentPlayerIndex;
+    private boolean gameOver;
+    private int numberOfMachinePlayers;
+    private GameEvent lastEvent;
+    private GameEvent.Type lastEventType;
+    private int lastEventSeat;
+    private int lastEventCardId;
+    private int lastEventCount;
+    private int lastEventSum;
+    private GameSnapshot lastEventSnapshot;
+    private TurnResult lastTurnResult;
+    private boolean turnInProgress;
+    private Player[] seats;
+    private int[] nextActive;
+    private int[] previousActive;
+    private boolean[] eliminated;
+    private int activePlayers;
+    private int anyActiveSeat;
+    private Card[] dealBuffer;
+    private final SplittableRandom random;
+    private final CompiledRules rules;
+    private volatile GameSnapshot snapshot;
+    private long version;
+    private boolean snapshotsEnabled = true;
+    private boolean historyEnabled;
+    private final ArrayDeque<GameState> undoHistory = new ArrayDeque<>();
+    private final ArrayDeque<GameState> redoHistory = new ArrayDeque<>();
+    private final GameEventBus events;
+
+    /**
+     * Constructs a new GameUnoModel with the specified players, deck, and table.
+     *
+     * @param humanPlayer the human player
+     * @param numberOfMachinePlayers the number of machine players (1 to MAX_PLAYERS - 1)
+     * @param deck the deck of cards
+     * @param table the game table
+     */
+    public GameUnoModel(Player humanPlayer, int numberOfMachinePlayers, Deck deck, Table table) {
+        this(humanPlayer, numberOfMachinePlayers, deck, table, new SplittableRandom(), CompiledRules.STANDARD);
+    }
+
+    /**
+     * Constructs a new reproducible GameUnoModel whose deck and child streams derive from a seed.
+     *
+     * @param humanPlayer the human player
+     * @param numberOfMachinePlayers the number of machine players (1 to MAX_PLAYERS - 1)
+     * @param seed the master seed of the game
+     */
+    public GameUnoModel(Player humanPlayer, int numberOfMachinePlayers, long seed) {
+        this(humanPlayer, numberOfMachinePlayers, new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructs a new reproducible GameUnoModel with its own deck and table.
+     * The deck is shuffled with a stream split from the given generator, which the game then owns.
+     *
+     * @param humanPlayer the human player
+     * @param numberOfMachinePlayers the number of machine players (1 to MAX_PLAYERS - 1)
+     * @param random the game's random generator
+     */
+    public GameUnoModel(Player humanPlayer, int numberOfMachinePlayers, SplittableRandom random) {
+        this(humanPlayer, numberOfMachinePlayers, random, DrawMode.SHUFFLED);
+    }
+
+    /**
+     * Constructs a new reproducible GameUnoModel whose deck uses the given draw mode.
+     *
+     * @param humanPlayer the human player
+     * @param numberOfMachinePlayers the number of machine players (1 to MAX_PLAYERS - 1)
+     * @param random the game's random generator
+     * @param drawMode how the deck randomizes drawn cards
+     */
+    public GameUnoModel(Player humanPlayer, int numberOfMachinePlayers, SplittableRandom random, DrawMode drawMode) {
+        this(humanPlayer, numberOfMachinePlayers, random, drawMode, CompiledRules.STANDARD);
+    }
+
+    /**
+     * Constructs a new reproducible GameUnoModel that plays by the given rules.
+     *
+     * @param humanPlayer the human player
+     * @param numberOfMachinePlayers the number of machine players (1 to MAX_PLAYERS - 1)
+     * @param random the game's random generator
+     * @param drawMode how the deck randomizes drawn cards
+     * @param rules the rules of the game
+     */
+    public GameUnoModel(Player humanPlayer, int numberOfMachinePlayers, SplittableRandom random, DrawMode drawMode,
+                        CompiledRules rules) {
+        this(humanPlayer, numberOfMachinePlayers,
+                new Deck(random.split(), drawMode, decksFor(numberOfMachinePlayers + 1, rules.getHandSize())),
+                new Table(), random, rules);
+    }
+
+    /**
+     * Constructs a new GameUnoModel with all of its collaborators.
+     *
+     * @param humanPlayer the human player
+     * @param numberOfMachinePlayers the number of machine players (1 to MAX_PLAYERS - 1)
+     * @param deck the deck of cards
+     * @param table the game table
+     * @param random the game's random generator, used to split child streams
+     * @param rules the rules of the game
+     * @throws IllegalArgumentException if the number of players is out of range
+     */
+    private GameUnoModel(Player humanPlayer, int numberOfMachinePlayers, Deck deck, Table table,
+                         SplittableRandom random, CompiledRules rules) {
+        if (numberOfMachinePlayers + 1 < MIN_PLAYERS || numberOfMachinePlayers + 1 > MAX_PLAYERS) {
+            throw new IllegalArgumentException("A game needs between " + MIN_PLAYERS + " and " + MAX_PLAYERS
+                    + " players");
+        }
+        this.humanPlayer = humanPlayer;
+        this.numberOfMachinePlayers = numberOfMachinePlayers;
+        this.machinePlayers = new ArrayList<>();
+        this.deck = deck;
+        this.table = table;
+        this.currentPlayerIndex = 0;
+        this.gameOver = false;
+        this.events = new GameEventBus();
+        this.random = random;
+        this.rules = rules;
+
+        initializeMachinePlayers();
+    }
+
+    /**
+     * Gets the number of 52-card decks the shoe of a table needs: enough that the opening deal takes
+     * at most half of the shoe, so one deck serves up to six players.
+     *
+     * @param totalPlayers the number of players at the table
+     * @return the number of decks
+     */
+    public static int decksFor(int totalPlayers) {
+        return decksFor(totalPlayers, INITIAL_HAND_SIZE);
+    }
+
+    /**
+     * Gets the number of 52-card decks the shoe of a table needs when every player is dealt
+     * {@code handSize} cards, so that the opening deal takes at most half of the shoe.
+     *
+     * @param totalPlayers the number of players at the table
+     * @param handSize the number of cards dealt to every player
+     * @return the number of decks
+     */
+    public static int decksFor(int totalPlayers, int handSize) {
+        int halfDeck = EISCUnoEnum.CARD_COUNT / 2;
+        return Math.max(1, (totalPlayers * handSize + 1 + halfDeck - 1) / halfDeck);
+    }
+
+    /**
+     * Initializes the machine players for the game.
+     */
+    private void initializeMachinePlayers() {
+        for (int i = 0; i < numberOfMachinePlayers; i++) {
+            machinePlayers.add(new Player("MACHINE_PLAYER_" + (i + 1)));
+        }
+        initializeSeats();
+        publishSnapshot();
+    }
+
+    /**
+     * Seats every player and links all seats into the active-player ring.
+     * Seat 0 is the human player and seat i is machine player i.
+     */
+    private void initializeSeats() {
+        int totalPlayers = machinePlayers.size() + 1;
+        seats = new Player[totalPlayers];
+        nextActive = new int[totalPlayers];
+        previousActive = new int[totalPlayers];
+        eliminated = new boolean[totalPlayers];
+
+        seats[0] = humanPlayer;
+        for (int i = 0; i < machinePlayers.size(); i++) {
+            seats[i + 1] = machinePlayers.get(i);
+        }
+        for (int seat = 0; seat < totalPlayers; seat++) {
+            seats[seat].setSeat(seat);
+        }
+        linkAllSeats();
+    }
+
+    /**
+     * Links every seat into the active-player ring, in seat order.
+     */
+    private void linkAllSeats() {
+        int totalPlayers = seats.length;
+        for (int seat = 0; seat < totalPlayers; seat++) {
+            nextActive[seat] = (seat + 1) % totalPlayers;
+            previousActive[seat] = (seat + totalPlayers - 1) % totalPlayers;
+            eliminated[seat] = false;
+        }
+        activePlayers = totalPlayers;
+        anyActiveSeat = 0;
+    }
+
+    /**
+     * Prepares the model for a new game with the same players and card objects.
+     * Every card returns to the deck, which is reshuffled, and the hands, the table, the eliminations,
+     * the turn and the undo history are cleared. Listeners stay registered; call {@link #startGame()}
+     * to deal the new game.
+     */
+    public void resetGame() {
+        Card[] cards = collectCards();
+        events.beginAction();
+        try {
+            for (Player player : seats) {
+                player.clearHand();
+            }
+            table.restore(cards, 0, 0);
+            deck.refill(cards, cards.length);
+            linkAllSeats();
+            currentPlayerIndex = 0;
+            gameOver = false;
+            undoHistory.clear();
+            redoHistory.clear();
+            lastEventType = null;
+            lastEvent = null;
+            lastTurnResult = null;
+            lastEventSnapshot = null;
+
+            publishSnapshot();
+        } finally {
+            events.endAction();
+        }
+    }
+
+    /**
+     * Starts the game by dealing initial cards and placing the first card on the table.
+     * The whole deal is taken from the deck at once and handed out round by round, seat 0 first,
+     * exactly as dealing one card at a time would.
+     *
+     * @throws IllegalStateException if the deck cannot deal every player a full hand
+     */
+    @Override
+    public void startGame() {
+        events.beginAction();
+        try {
+            int totalPlayers = seats.length;
+            int dealt = rules.getHandSize() * totalPlayers;
+            if (dealBuffer == null || dealBuffer.length < dealt) {
+                dealBuffer = new Card[dealt];
+            }
+            deck.takeCards(dealBuffer, dealt);
+            for (int i = 0; i < dealt; i++) {
+                seats[i % totalPlayers].addCard(dealBuffer[i]);
+            }
+            Arrays.fill(dealBuffer, 0, dealt, null);
+
+            int initialCardId = -1;
+            if (!deck.isEmpty()) {
+                Card initialCard = deck.takeCard();
+                table.addCardOnTheTable(initialCard, rules.chosenValue(initialCard.getId(), 0));
+                initialCardId = initialCard.getId();
+            }
+
+            publishSnapshot();
+            publish(GameEvent.Type.GAME_STARTED, -1, initialCardId, seats.length);
+        } finally {
+            events.endAction();
+        }
+    }
+
+    /**
+     * Plays a card from a player's hand onto the table.
+     *
+     * @param card the card to play
+     * @param player the player playing the card
+     * @throws PlayerEliminatedException if the player has been eliminated
+     * @throws InvalidCardException if the card is null or cannot be played
+     */
+    @Override
+    public void playCard(Card card, Player player) throws PlayerEliminatedException, InvalidCardException {
+        MoveResult result = tryPlay(player, card);
+        if (!result.isOk()) {
+            throwMoveFailure(result, player, card);
+        }
+    }
+
+    /**
+     * Plays a card from a player's hand onto the table without throwing on illegal moves.
+     * The card takes the value the rules choose for it (under the standard rules an Ace is 10 when it
+     * fits, otherwise 1).
+     *
+     * @param player the player playing the card
+     * @param card the card to play
+     * @return {@link MoveResult#OK} if the card was played, otherwise the reason it was not
+     */
+    public MoveResult tryPlay(Player player, Card card) {
+        MoveResult result = checkTurn(player);
+        if (result != MoveResult.OK) {
+            return result;
+        }
+        if (card == null) {
+            return MoveResult.NO_CARD;
+        }
+        if (!player.hasCard(card)) {
+            return MoveResult.CARD_NOT_IN_HAND;
+        }
+        int currentSum = table.getCurrentSum();
+        if (!rules.isPlayable(card.getId(), currentSum)) {
+            return MoveResult.EXCEEDS_LIMIT;
+        }
+        recordHistory();
+        commitPlayCard(player, card, rules.chosenValue(card.getId(), currentSum));
+        return MoveResult.OK;
+    }
+
+    /**
+     * Plays an encoded {@link Move} without throwing on illegal moves.
+     * The move's value is used as given, so an Ace can be played as 1 even when 10 would fit.
+     *
+     * @param player the player playing the card
+     * @param move the encoded move
+     * @return {@link MoveResult#OK} if the card was played, otherwise the reason it was not
+     */
+    public MoveResult tryPlay(Player player, int move) {
+        MoveResult result = checkTurn(player);
+        if (result != MoveResult.OK) {
+            return result;
+        }
+        result = checkPlay(player, move);
+        if (result != MoveResult.OK) {
+            return result;
+        }
+        recordHistory();
+        commitPlayCard(player, player.getCardById(Move.cardId(move)), Move.value(move));
+        return MoveResult.OK;
+    }
+
+    /**
+     * Checks that an encoded move plays a card the player holds, with a value the card can take,
+     * without exceeding the limit.
+     *
+     * @param player the player playing the card
+     * @param move the encoded move
+     * @return {@link MoveResult#OK} if the move is legal, otherwise the reason it is not
+     */
+    private MoveResult checkPlay(Player player, int move) {
+        int cardId = Move.cardId(move);
+        int value = Move.value(move);
+        if (move < 0 || cardId >= EISCUnoEnum.CARD_COUNT || player.getCardById(cardId) == null) {
+            return MoveResult.CARD_NOT_IN_HAND;
+        }
+        if (!rules.isValidValue(cardId, value)) {
+            return MoveResult.INVALID_VALUE;
+        }
+        if (table.getCurrentSum() + value > rules.getTargetSum()) {
+            return MoveResult.EXCEEDS_LIMIT;
+        }
+        return MoveResult.OK;
+    }
+
+    /**
+     * Executes a whole turn in one validated pass: plays the move's card (or none for
+     * {@link Move#NONE}), draws the rules' number of cards, then eliminates the player if no card in the hand is playable
+     * or passes the turn otherwise, and finally checks whether the game is over.
+     * The turn publishes a single snapshot and, in one action, a TURN_PLAYED event instead of one per step,
+     * followed by PLAYER_ELIMINATED if the player was eliminated and GAME_OVER if the turn ended the game.
+     *
+     * @param player the player whose turn it is
+     * @param move the encoded move to play, or {@link Move#NONE} to only draw
+     * @return the result of the turn; a rejected turn changes nothing
+     */
+    @Override
+    public TurnResult executeTurn(Player player, int move) {
+        MoveResult result = checkTurn(player);
+        if (result == MoveResult.OK && move != Move.NONE) {
+            result = checkPlay(player, move);
+        }
+        if (result != MoveResult.OK) {
+            return TurnResult.rejected(result);
+        }
+
+        recordHistory();
+        events.beginAction();
+        turnInProgress = true;
+        try {
+            int seat = player.getSeat();
+            int playedCardId = -1;
+            int playedValue = 0;
+            if (move != Move.NONE) {
+                playedCardId = Move.cardId(move);
+                playedValue = Move.value(move);
+                commitPlayCard(player, player.getCardById(playedCardId), playedValue);
+            }
+
+            int tableCards = table.getNumberOfCards();
+            int drawnCardId = -1;
+            int drawnCards = 0;
+            for (int draws = rules.getDrawCount(); draws > 0; draws--) {
+                int cardId = commitDraw(player);
+                if (cardId >= 0) {
+                    drawnCardId = cardId;
+                    drawnCards++;
+                }
+            }
+            int recycledCards = tableCards - table.getNumberOfCards();
+
+            boolean eliminatedNow = getPlayableMask(player) == 0L;
+            int returnedCards = player.getCardsPlayer().size();
+            if (eliminatedNow) {
+                eliminatePlayer(player);
+            } else {
+                nextTurn();
+            }
+            boolean over = isGameOver();
+
+            TurnResult turn = new TurnResult(MoveResult.OK, seat, playedCardId, playedValue, drawnCardId, drawnCards,
+                    recycledCards, eliminatedNow, currentPlayerIndex, over, table.getCurrentSum());
+            turnInProgress = false;
+            publishSnapshot();
+            publish(GameEvent.Type.TURN_PLAYED, seat, playedCardId, drawnCards, turn);
+            if (eliminatedNow) {
+                publish(GameEvent.Type.PLAYER_ELIMINATED, seat, -1, returnedCards);
+            }
+            if (over) {
+                Player winner = determineWinner();
+                publish(GameEvent.Type.GAME_OVER, winner != null ? winner.getSeat() : -1, -1, 0);
+            }
+            return turn;
+        } finally {
+            turnInProgress = false;
+            events.endAction();
+        }
+    }
+
+    /**
+     * Commits a validated card play.
+     *
+     * @param player the player playing the card
+     * @param card the card to play
+     * @param value the value the card adds to the sum
+     */
+    private void commitPlayCard(Player player, Card card, int value) {
+        events.beginAction();
+        try {
+            this.table.addCardOnTheTable(card, value);
+            player.removeCard(card);
+
+            publishSnapshot();
+            publish(GameEvent.Type.CARD_PLAYED, player.getSeat(), card.getId(), 1);
+        } finally {
+            events.endAction();
+        }
+    }
+
+    /**
+     * Writes the legal moves of a player into a caller-supplied buffer, in card id order.
+     * A card with two values that both fit (an Ace under the standard rules) yields two moves, the low one first.
+     * A buffer of {@link Move#MAX_LEGAL_MOVES} entries always holds every move.
+     *
+     * @param player the player whose moves are generated
+     * @param moves the buffer that receives the encoded moves
+     * @return the number of moves written, at most {@code moves.length}
+     */
+    public int legalMoves(Player player, int[] moves) {
+        if (checkTurn(player) != MoveResult.OK) {
+            return 0;
+        }
+        return GameState.writeLegalMoves(rules, player.getHandMask(), table.getCurrentSum(), moves);
+    }
+
+    /**
+     * Makes a player take a card from the deck.
+     * If the deck is empty, it recycles cards from the table.
+     *
+     * @param player the player taking a card
+     * @return the card taken from the deck
+     * @throws PlayerEliminatedException if the player has been eliminated
+     */
+    public Card takeCardFromDeck(Player player) throws PlayerEliminatedException {
+        MoveResult result = tryDraw(player);
+        if (result == MoveResult.DECK_EMPTY) {
+            throw new IllegalStateException("No hay más cartas en el mazo.");
+        }
+        if (!result.isOk()) {
+            throwMoveFailure(result, player, null);
+        }
+        return player.getCard(player.getCardsPlayer().size() - 1);
+    }
+
+    /**
+     * Makes a player draw several cards, one after another, as {@link #takeCardFromDeck(Player)} would.
+     *
+     * @param player the player who will draw the cards
+     * @param numberOfCards the number of cards to be drawn
+     * @throws PlayerEliminatedException if the player has been eliminated
+     * @throws IllegalStateException if the deck and the table run out of cards
+     */
+    @Override
+    public void eatCard(Player player, int numberOfCards) throws PlayerEliminatedException {
+        for (int i = 0; i < numberOfCards; i++) {
+            takeCardFromDeck(player);
+        }
+    }
+
+    /**
+     * Handles the action when a player shouts "50ZO".
+     * Cincuentazo has no shout, so the call only exists for compatibility and changes nothing.
+     *
+     * @param playerWhoSang the identifier of the player who shouted "50ZO"
+     */
+    @Override
+    public void haveSungOne(String playerWhoSang) {
+    }
+
+    /**
+     * Makes a player take a card from the deck without throwing on illegal moves.
+     * If the deck is empty, it recycles cards from the table; the card taken is the last one in the hand.
+     *
+     * @param player the player taking a card
+     * @return {@link MoveResult#OK} if a card was taken, otherwise the reason it was not
+     */
+    public MoveResult tryDraw(Player player) {
+        MoveResult result = checkTurn(player);
+        if (result != MoveResult.OK) {
+            return result;
+        }
+
+        recordHistory();
+        events.beginAction();
+        try {
+            return commitDraw(player) >= 0 ? MoveResult.OK : MoveResult.DECK_EMPTY;
+        } finally {
+            events.endAction();
+        }
+    }
+
+    /**
+     * Moves the top card of the deck to a player's hand, recycling the table first if the deck is empty.
+     *
+     * @param player the player taking a card
+     * @return the id of the card taken, or -1 if neither the deck nor the table had one
+     */
+    private int commitDraw(Player player) {
+        if (deck.isEmpty()) {
+            recycleDeck();
+            if (deck.isEmpty()) {
+                return -1;
+            }
+        }
+
+        Card newCard = deck.takeCard();
+        player.addCard(newCard);
+
+        publishSnapshot();
+        publish(GameEvent.Type.CARD_DRAWN, player.getSeat(), newCard.getId(), 1);
+        return newCard.getId();
+    }
+
+    /**
+     * Checks that a player can perform an action (is the current player and not eliminated).
+     *
+     * @param player the player to check
+     * @return {@link MoveResult#OK} if the player may act, otherwise the reason it may not
+     */
+    private MoveResult checkTurn(Player player) {
+        if (player == null) {
+            return MoveResult.NO_PLAYER;
+        }
+        if (isPlayerEliminated(player)) {
+            return MoveResult.PLAYER_ELIMINATED;
+        }
+        if (player != seats[currentPlayerIndex]) {
+            return MoveResult.NOT_YOUR_TURN;
+        }
+        return MoveResult.OK;
+    }
+
+    /**
+     * Throws the exception the public API reports for a rejected move.
+     * Only the throwing entry points call this; the try methods never build exceptions.
+     *
+     * @param result the reason the move was rejected
+     * @param player the player who attempted the move
+     * @param card the card involved, or null for a draw
+     * @throws PlayerEliminatedException if the player has been eliminated
+     * @throws IllegalArgumentException if the player is null or not the current player
+     * @throws InvalidCardException if the card is null, not in the hand or cannot be played
+     */
+    private void throwMoveFailure(MoveResult result, Player player, Card card) throws PlayerEliminatedException {
+        switch (result) {
+            case PLAYER_ELIMINATED:
+                throw new PlayerEliminatedException(player.getTypePlayer());
+            case NO_PLAYER:
+                throw new IllegalArgumentException("Player cannot be null");
+            case NOT_YOUR_TURN:
+                throw new IllegalArgumentException("It's not " + player.getTypePlayer() + "'s turn");
+            case NO_CARD:
+                throw new InvalidCardException("Card cannot be null", "NULL", "playCard");
+            case CARD_NOT_IN_HAND:
+                throw new InvalidCardException("Card is not in " + player.getTypePlayer() + "'s hand",
+                        card.getValue(), "playCard");
+            default:
+                throw new InvalidCardException("Cannot play this card. Current sum: " + table.getCurrentSum(),
+                        card != null ? card.getValue() : "NULL", "playCard");
+        }
+    }
+
+    /**
+     * Recycles cards from the table back into the deck when the deck is empty.
+     */
+    private void recycleDeck() {
+        int recycledCards = table.recycleInto(deck);
+        if (recycledCards > 0) {
+            publishSnapshot();
+            publish(GameEvent.Type.DECK_RECYCLED, -1, -1, recycledCards);
+        }
+    }
+
+    /**
+     * Finds a playable card for a player from their hand.
+     * Picks the legal card with the lowest id.
+     *
+     * @param player the player to find a card for
+     * @return a playable card, or null if none available
+     */
+    public Card findPlayableCard(Player player) {
+        if (isPlayerEliminated(player)) {
+            return null;
+        }
+
+        long legalCards = getPlayableMask(player);
+        if (legalCards == 0L) {
+            return null;
+        }
+        return player.getCardById(Long.numberOfTrailingZeros(legalCards));
+    }
+
+    /**
+     * Checks if a player can play any card from their hand.
+     *
+     * @param player the player to check
+     * @return true if the player has at least one playable card, false otherwise
+     */
+    public boolean canPlayerPlay(Player player) {
+        if (isPlayerEliminated(player)) {
+            return false;
+        }
+
+        return getPlayableMask(player) != 0L;
+    }
+
+    /**
+     * Gets the bitset of card ids in a player's hand that can be played on the current sum.
+     *
+     * @param player the player to check
+     * @return the bitset of legal card ids in the player's hand
+     */
+    public long getPlayableMask(Player player) {
+        return player.getHandMask() & rules.playableMask(table.getCurrentSum());
+    }
+
+    /**
+     * Eliminates a player from the game.
+     * Sends the player's cards back under the deck in card id order, the lowest id at the very bottom,
+     * and unlinks the player's seat from the active ring.
+     *
+     * @param player the player to eliminate
+     * @throws IllegalArgumentException if the player is not seated in this game
+     */
+    public void eliminatePlayer(Player player) {
+        int seat = seatOf(player);
+        if (seat < 0) {
+            throw new IllegalArgumentException("Player is not part of this game");
+        }
+        if (eliminated[seat]) {
+            return;
+        }
+
+        events.beginAction();
+        try {
+            int cardsCount = player.getCardsPlayer().size();
+
+            player.getCardsPlayer().sort(BY_ID);
+            deck.addCards(player.getCardsPlayer());
+
+            player.clearHand();
+
+            unlinkSeat(seat);
+
+            publishSnapshot();
+            publish(GameEvent.Type.PLAYER_ELIMINATED, seat, -1, cardsCount);
+
+            if (seat == currentPlayerIndex) {
+                nextTurn();
+            }
+        } finally {
+            events.endAction();
+        }
+    }
+
+    /**
+     * Removes a seat from the active-player ring.
+     * The removed seat keeps its own links, so a turn that is still on it can advance from there.
+     *
+     * @param seat the seat to remove
+     */
+    private void unlinkSeat(int seat) {
+        int next = nextActive[seat];
+        int previous = previousActive[seat];
+        nextActive[previous] = next;
+        previousActive[next] = previous;
+        eliminated[seat] = true;
+        activePlayers--;
+        if (anyActiveSeat == seat) {
+            anyActiveSeat = next;
+        }
+    }
+
+    /**
+     * Gets the seat of a player in this game.
+     *
+     * @param player the player to look up
+     * @return the seat index, or -1 if the player is not seated in this game
+     */
+    private int seatOf(Player player) {
+        int seat = player.getSeat();
+        if (seat < 0 || seat >= seats.length || seats[seat] != player) {
+            return -1;
+        }
+        return seat;
+    }
+
+    /**
+     * Advances the game to the next player's turn.
+     * Skips eliminated players automatically by following the active-player ring.
+     */
+    public void nextTurn() {
+        events.beginAction();
+        try {
+            if (activePlayers == 0) {
+                gameOver = true;
+                publishSnapshot();
+                publish(GameEvent.Type.GAME_OVER, -1, -1, 0);
+                return;
+            }
+
+            currentPlayerIndex = nextActive[currentPlayerIndex];
+
+            publishSnapshot();
+            publish(GameEvent.Type.TURN_CHANGED, currentPlayerIndex, -1, 0);
+        } finally {
+            events.endAction();
+        }
+    }
+
+    /**
+     * Checks if a player has been eliminated from the game.
+     *
+     * @param player the player to check
+     * @return true if the player is eliminated, false otherwise
+     */
+    public boolean isPlayerEliminated(Player player) {
+        int seat = seatOf(player);
+        return seat >= 0 && eliminated[seat];
+    }
+
+    /**
+     * Checks if the game is over (only one or zero active players remain).
+     *
+     * @return true if the game is over, false otherwise
+     */
+    @Override
+    public Boolean isGameOver() {
+        boolean over = activePlayers <= 1;
+        if (over && !gameOver) {
+            gameOver = true;
+            Player winner = determineWinner();
+            events.beginAction();
+            try {
+                publishSnapshot();
+                publish(GameEvent.Type.GAME_OVER, winner != null ? winner.getSeat() : -1, -1, 0);
+            } finally {
+                events.endAction();
+            }
+        }
+
+        return over;
+    }
+
+    /**
+     * Gets the number of active (non-eliminated) players in the game.
+     *
+     * @return the number of active players
+     */
+    public int getActivePlayerCount() {
+        return activePlayers;
+    }
+
+    /**
+     * Determines the winner of the game (the last remaining active player).
+     * While several players remain, returns one of them.
+     *
+     * @return the winning player, or null if no winner exists
+     */
+    public Player determineWinner() {
+        if (activePlayers == 0) {
+            return null;
+        }
+        return seats[anyActiveSeat];
+    }
+
+    /**
+     * Records an event as the latest game status and publishes it to the listeners.
+     * The event object is only created when a listener is registered or the status is requested,
+     * so a game nobody watches allocates nothing per action.
+     *
+     * @param type the kind of event
+     * @param seat the seat involved, or -1 if none
+     * @param cardId the id of the card involved, or -1 if none
+     * @param count the event-specific count (players, recycled cards or returned cards)
+     */
+    private void publish(GameEvent.Type type, int seat, int cardId, int count) {
+        publish(type, seat, cardId, count, null);
+    }
+
+    /**
+     * Records an event as the latest game status and publishes it to the listeners.
+     * Nothing is published while a turn is being executed; the turn publishes its own event at the end.
+     *
+     * @param type the kind of event
+     * @param seat the seat involved, or -1 if none
+     * @param cardId the id of the card involved, or -1 if none
+     * @param count the event-specific count (players, recycled cards or returned cards)
+     * @param turnResult the result of the turn for a TURN_PLAYED event, or null
+     */
+    private void publish(GameEvent.Type type, int seat, int cardId, int count, TurnResult turnResult) {
+        if (turnInProgress) {
+            return;
+        }
+        lastEventType = type;
+        lastTurnResult = turnResult;
+        lastEventSeat = seat;
+        lastEventCardId = cardId;
+        lastEventCount = count;
+        lastEventSum = table.getCurrentSum();
+        lastEventSnapshot = snapshotsEnabled ? snapshot : null;
+        lastEvent = null;
+        if (events.hasListeners()) {
+            lastEvent = createLastEvent();
+            events.publish(lastEvent);
+        }
+    }
+
+    /**
+     * Creates the event object for the latest recorded event.
+     *
+     * @return the latest event
+     */
+    private GameEvent createLastEvent() {
+        int seat = lastEventSeat;
+        String playerName = seat >= 0 ? seats[seat].getTypePlayer() : null;
+        int sum = lastEventSum;
+        GameSnapshot eventSnapshot = lastEventSnapshot;
+        switch (lastEventType) {
+            case GAME_STARTED:
+                return GameEvent.gameStarted(lastEventCount, lastEventCardId, sum, eventSnapshot);
+            case CARD_PLAYED:
+                return GameEvent.cardPlayed(seat, playerName, lastEventCardId, sum, eventSnapshot);
+            case CARD_DRAWN:
+                return GameEvent.cardDrawn(seat, playerName, lastEventCardId, sum, eventSnapshot);
+            case DECK_RECYCLED:
+                return GameEvent.deckRecycled(lastEventCount, sum, eventSnapshot);
+            case PLAYER_ELIMINATED:
+                return GameEvent.playerEliminated(seat, playerName, lastEventCount, sum, eventSnapshot);
+            case TURN_CHANGED:
+                return GameEvent.turnChanged(seat, playerName, sum, eventSnapshot);
+            case TURN_PLAYED:
+                return GameEvent.turnPlayed(seat, playerName, lastTurnResult, eventSnapshot);
+            case STATE_RESTORED:
+                return GameEvent.stateRestored(seat, playerName, sum, eventSnapshot);
+            default:
+                return GameEvent.gameOver(seat, playerName, sum, eventSnapshot);
+        }
+    }
+
+    /**
+     * Registers a listener for the typed events of this game.
+     *
+     * @param listener the listener to add
+     */
+    public void addGameEventListener(GameEventListener listener) {
+        events.addListener(listener);
+    }
+
+    /**
+     * Removes a listener of the typed events of this game.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeGameEventListener(GameEventListener listener) {
+        events.removeListener(listener);
+    }
+
+    /**
+     * Gets the event bus of this game, used to tune delivery such as per-action batching.
+     *
+     * @return the game's event bus
+     */
+    public GameEventBus getEventBus() {
+        return events;
+    }
+
+    /**
+     * Enables or disables snapshot publishing. Snapshots are enabled by default.
+     * While disabled, {@link #getSnapshot()} keeps returning the last snapshot published and events
+     * carry no snapshot; headless simulations disable them to keep turns allocation-free.
+     * Re-enabling publishes a fresh snapshot immediately.
+     *
+     * @param enabled true to publish a snapshot after every action
+     */
+    public void setSnapshotsEnabled(boolean enabled) {
+        this.snapshotsEnabled = enabled;
+        if (enabled) {
+            publishSnapshot();
+        }
+    }
+
+    /**
+     * Checks if snapshots are published after every action.
+     *
+     * @return true if snapshots are enabled, false otherwise
+     */
+    public boolean isSnapshotsEnabled() {
+        return snapshotsEnabled;
+    }
+
+    /**
+     * Captures the whole position of the game as a persistent state.
+     * The shuffle seed of the state is derived from its cards, so capturing never consumes the game's
+     * random stream and does not change how the game continues.
+     *
+     * @return the current state
+     * @throws IllegalStateException if the game uses a shoe of more than one deck
+     */
+    public GameState captureState() {
+        requireSingleDeck();
+        int totalPlayers = seats.length;
+        long[] hands = new long[totalPlayers];
+        long activeMask = 0L;
+        for (int seat = 0; seat < totalPlayers; seat++) {
+            hands[seat] = seats[seat].getHandMask();
+            if (!eliminated[seat]) {
+                activeMask |= 1L << seat;
+            }
+        }
+        byte[] deckIds = new byte[deck.size()];
+        for (int i = 0; i < deckIds.length; i++) {
+            deckIds[i] = (byte) deck.getCardAt(i).getId();
+        }
+        byte[] tableIds = new byte[table.getNumberOfCards()];
+        for (int i = 0; i < tableIds.length; i++) {
+            tableIds[i] = (byte) table.getCardAt(i).getId();
+        }
+        long seed = GameState.mix64(31L * Arrays.hashCode(deckIds) + Arrays.hashCode(hands));
+        return new GameState(hands, deckIds, deckIds.length, tableIds, tableIds.length, table.getCurrentSum(),
+                activeMask, currentPlayerIndex, seed, rules);
+    }
+
+    /**
+     * Restores a captured state, reusing this game's own card objects, and publishes a STATE_RESTORED event.
+     * Hands are rebuilt in card id order. The game's random stream is not rewound, so a later recycle
+     * may shuffle differently than it did the first time.
+     *
+     * @param state the state to restore
+     * @throws IllegalArgumentException if the state has a different number of seats or other rules
+     * @throws IllegalStateException if the game uses a shoe of more than one deck
+     */
+    public void restoreState(GameState state) {
+        requireSingleDeck();
+        if (state.getTotalPlayers() != seats.length) {
+            throw new IllegalArgumentException("State has " + state.getTotalPlayers() + " seats, game has "
+                    + seats.length);
+        }
+        if (!state.getRules().getVariant().equals(rules.getVariant())) {
+            throw new IllegalArgumentException("State was captured under other rules");
+        }
+        Card[] cardsById = new Card[EISCUnoEnum.CARD_COUNT];
+        for (Card card : collectCards()) {
+            cardsById[card.getId()] = card;
+        }
+        Card[] buffer = new Card[cardsById.length];
+
+        events.beginAction();
+        try {
+            for (int i = 0; i < state.getDeckSize(); i++) {
+                buffer[i] = cardsById[state.getDeckCardId(i)];
+            }
+            deck.restore(buffer, state.getDeckSize());
+            for (int i = 0; i < state.getTableSize(); i++) {
+                buffer[i] = cardsById[state.getTableCardId(i)];
+            }
+            table.restore(buffer, state.getTableSize(), state.getCurrentSum());
+
+            long activeMask = state.getActiveMask();
+            for (int seat = 0; seat < seats.length; seat++) {
+                Player player = seats[seat];
+                player.clearHand();
+                long hand = state.getHand(seat);
+                while (hand != 0L) {
+                    player.addCard(cardsById[Long.numberOfTrailingZeros(hand)]);
+                    hand &= hand - 1;
+                }
+                eliminated[seat] = !state.isActive(seat);
+                nextActive[seat] = GameState.nextActiveSeat(activeMask, seat);
+            }
+            for (int seat = 0; seat < seats.length; seat++) {
+                if (!eliminated[seat]) {
+                    previousActive[nextActive[seat]] = seat;
+                }
+            }
+            activePlayers = Long.bitCount(activeMask);
+            anyActiveSeat = activeMask != 0L ? Long.numberOfTrailingZeros(activeMask) : 0;
+            currentPlayerIndex = state.getCurrentSeat();
+            gameOver = activePlayers <= 1;
+
+            publishSnapshot();
+            publish(GameEvent.Type.STATE_RESTORED, currentPlayerIndex, -1, 0);
+        } finally {
+            events.endAction();
+        }
+    }
+
+    /**
+     * Checks that the game's cards fit a {@link GameState}, whose hands hold one card per id.
+     *
+     * @throws IllegalStateException if the game uses a shoe of more than one deck
+     */
+    private void requireSingleDeck() {
+        if (deck.getNumberOfDecks() > 1) {
+            throw new IllegalStateException("Game states support single-deck games only");
+        }
+    }
+
+    /**
+     * Gathers every card of the game, wherever it is (deck, table and hands).
+     *
+     * @return the cards of the game
+     * @throws IllegalStateException if a card is missing
+     */
+    private Card[] collectCards() {
+        Card[] cards = new Card[deck.getTotalCards()];
+        int count = 0;
+        for (int i = 0; i < deck.size(); i++) {
+            cards[count++] = deck.getCardAt(i);
+        }
+        for (int i = 0; i < table.getNumberOfCards(); i++) {
+            cards[count++] = table.getCardAt(i);
+        }
+        for (Player player : seats) {
+            for (Card card : player.getCardsPlayer()) {
+                cards[count++] = card;
+            }
+        }
+        if (count != cards.length) {
+            throw new IllegalStateException("The game does not hold every card");
+        }
+        return cards;
+    }
+
+    /**
+     * Enables or disables the undo history. History is disabled by default; disabling it discards
+     * every recorded state. History is made of {@link GameState}s, so it can only be enabled for a single-deck
+     * game; checking that here keeps the move API from failing later.
+     *
+     * @param enabled true to record the state before every committed turn, play or draw
+     * @throws IllegalStateException if history is enabled for a game that uses a shoe of more than one deck
+     */
+    public void setHistoryEnabled(boolean enabled) {
+        if (enabled) {
+            requireSingleDeck();
+        }
+        this.historyEnabled = enabled;
+        if (!enabled) {
+            undoHistory.clear();
+            redoHistory.clear();
+        }
+    }
+
+    /**
+     * Checks if the undo history is recorded.
+     *
+     * @return true if history is enabled, false otherwise
+     */
+    public boolean isHistoryEnabled() {
+        return historyEnabled;
+    }
+
+    /**
+     * Records the current state as an undo step and forgets the redo steps, when history is enabled.
+     */
+    private void recordHistory() {
+        if (historyEnabled) {
+            undoHistory.push(captureState());
+            redoHistory.clear();
+        }
+    }
+
+    /**
+     * Checks if there is a step to undo.
+     *
+     * @return true if {@link #undo()} would restore a state
+     */
+    public boolean canUndo() {
+        return !undoHistory.isEmpty();
+    }
+
+    /**
+     * Checks if there is a step to redo.
+     *
+     * @return true if {@link #redo()} would restore a state
+     */
+    public boolean canRedo() {
+        return !redoHistory.isEmpty();
+    }
+
+    /**
+     * Restores the state from before the last recorded turn, play or draw.
+     *
+     * @return true if a step was undone, false if there was nothing to undo
+     */
+    public boolean undo() {
+        if (undoHistory.isEmpty()) {
+            return false;
+        }
+        redoHistory.push(captureState());
+        restoreState(undoHistory.pop());
+        return true;
+    }
+
+    /**
+     * Restores the state the last undo went back from.
+     *
+     * @return true if a step was redone, false if there was nothing to redo
+     */
+    public boolean redo() {
+        if (redoHistory.isEmpty()) {
+            return false;
+        }
+        undoHistory.push(captureState());
+        restoreState(redoHistory.pop());
+        return true;
+    }
+
+    /**
+     * Builds an immutable snapshot of the current state and publishes it with a single volatile write.
+     * Does nothing while snapshots are disabled or while a turn is being executed.
+     */
+    private void publishSnapshot() {
+        if (!snapshotsEnabled || turnInProgress) {
+            return;
+        }
+        int totalPlayers = seats.length;
+        long[] activeSeats = new long[(totalPlayers + 63) >>> 6];
+        int[] handSizes = new int[totalPlayers];
+        for (int seat = 0; seat < totalPlayers; seat++) {
+            if (!eliminated[seat]) {
+                activeSeats[seat >>> 6] |= 1L << seat;
+            }
+            handSizes[seat] = seats[seat].getCardsPlayer().size();
+        }
+        Card topCard = table.getCurrentCardOnTheTable();
+        snapshot = new GameSnapshot(++version, table.getCurrentSum(), topCard != null ? topCard.getId() : -1,
+                currentPlayerIndex, activeSeats, activePlayers, handSizes, deck.size(), table.getNumberOfCards(),
+                gameOver || activePlayers <= 1);
+    }
+
+    /**
+     * Gets the latest published snapshot of the game.
+     * Safe to call from any thread.
+     *
+     * @return the latest committed game state
+     */
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Gets the current sum of cards on the table.
+     *
+     * @return the current sum
+     */
+    public int getCurrentSum() {
+        return table.getCurrentSum();
+    }
+
+    /**
+     * Gets the list of machine players.
+     *
+     * @return the list of machine players
+     */
+    public List<Player> getMachinePlayers() {
+        return machinePlayers;
+    }
+
+    /**
+     * Gets the current player whose turn it is.
+     *
+     * @return the current player
+     */
+    public Player getCurrentPlayer() {
+        return seats[currentPlayerIndex];
+    }
+
+    /**
+     * Gets the seat index of the current player (0 is the human player).
+     *
+     * @return the current seat index
+     */
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    /**
+     * Gets the player seated at a seat index.
+     *
+     * @param seat the seat index (0 is the human player)
+     * @return the player at that seat
+     */
+    public Player getPlayerAt(int seat) {
+        return seats[seat];
+    }
+
+    /**
+     * Gets the total number of players in the game.
+     *
+     * @return the total number of players
+     */
+    public int getTotalPlayers() {
+        return seats.length;
+    }
+
+    /**
+     * Gets the human player.
+     *
+     * @return the human player
+     */
+    public Player getHumanPlayer() {
+        return humanPlayer;
+    }
+
+    /**
+     * Gets the game table.
+     *
+     * @return the table
+     */
+    public Table getTable() {
+        return table;
+    }
+
+    /**
+     * Gets the deck of cards.
+     *
+     * @return the deck
+     */
+    public Deck getDeck() {
+        return deck;
+    }
+
+    /**
+     * Gets the rules the game plays by.
+     *
+     * @return the compiled rules
+     */
+    public CompiledRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Splits a new independent random stream from the game's generator.
+     * Used to give each component of the game (e.g. a machine player) its own reproducible stream.
+     * Must be called from the thread that owns the game.
+     *
+     * @return a new random generator derived from the game's generator
+     */
+    public SplittableRandom splitRandom() {
+        return random.split();
+    }
+
+    /**
+     * Gets the current game status message, built from the latest event.
+     *
+     * @return the game status
+     */
+    public String getGameStatus() {
+        if (lastEventType == null) {
+            return "Game initialized";
+        }
+        if (lastEvent == null) {
+            lastEvent = createLastEvent();
+        }
+        return lastEvent.describe();
+    }
+
+    /**
+     * Gets an array of currently visible cards for the human player.
+     *
+     * @param posInitCardToShow the starting position of cards to show
+     * @return an array of up to 4 visible cards
+     */
+    @Override
+    public Card[] getCurrentVisibleCardsHumanPlayer(int posInitCardToShow) {
+        int totalCards = this.humanPlayer.getCardsPlayer().size();
+        int numVisibleCards = Math.min(4, totalCards - posInitCardToShow);
+        Card[] cards = new Card[numVisibleCards];
+
+        for (int i = 0; i < numVisibleCards; i++) {
+            cards[i] = this.humanPlayer.getCard(posInitCardToShow + i);
+        }
+
+        return cards;
+    }
+
+    /**
+     * Copies the currently visible cards of the human player into a caller-supplied buffer,
+     * so a UI that redraws every turn can reuse one array.
+     *
+     * @param posInitCardToShow the starting position of cards to show
+     * @param buffer the array that receives the visible cards
+     * @return the number of cards copied, at most {@code buffer.length}
+     */
+    public int getCurrentVisibleCardsHumanPlayer(int posInitCardToShow, Card[] buffer) {
+        int totalCards = this.humanPlayer.getCardsPlayer().size();
+        int numVisibleCards = Math.max(0, Math.min(buffer.length, totalCards - posInitCardToShow));
+
+        for (int i = 0; i < numVisibleCards; i++) {
+            buffer[i] = this.humanPlayer.getCard(posInitCardToShow + i);
+        }
+
+        return numVisibleCards;
+    }
+}
\ No newline at end of file
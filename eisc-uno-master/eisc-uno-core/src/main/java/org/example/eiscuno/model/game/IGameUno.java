@@ -0,0 +1,171 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.exceptions.InvalidCardException;
+import org.example.eiscuno.model.exceptions.PlayerEliminatedException;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface representing the Cincuentazo game functionality.
+ * Defines the contract for game operations and state management.
+ * Every operation has an asynchronous variant returning a {@link CompletableFuture}, so a caller can
+ * queue several requests without blocking on each one and the same code runs against a game played
+ * in place, on a {@link org.example.eiscuno.model.engine.GameEngine}, or anywhere else.
+ * The default asynchronous variants run the synchronous operation on the calling thread and return
+ * an already completed future; implementations that own a thread override them.
+ * A failed operation completes its future exceptionally with the exception the synchronous
+ * variant would have thrown.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public interface IGameUno {
+
+    /**
+     * Starts the Cincuentazo game with initial card distribution.
+     */
+    void startGame();
+
+    /**
+     * Makes a player draw a specified number of cards from the deck.
+     *
+     * @param player the player who will draw the cards
+     * @param numberOfCards the number of cards to be drawn
+     * @throws PlayerEliminatedException if the player has been eliminated
+     */
+    void eatCard(Player player, int numberOfCards) throws PlayerEliminatedException;
+
+    /**
+     * Plays a card in the game, adding it to the table.
+     *
+     * @param card the card to be played
+     * @param player the player playing the card
+     * @throws PlayerEliminatedException if the player has been eliminated
+     * @throws InvalidCardException if the card is null or cannot be played
+     */
+    void playCard(Card card, Player player) throws PlayerEliminatedException;
+
+    /**
+     * Executes a whole turn: plays the move's card (or none for {@link Move#NONE}), draws, and then
+     * eliminates the player or passes the turn.
+     *
+     * @param player the player whose turn it is
+     * @param move the encoded move to play, or {@link Move#NONE} to only draw
+     * @return the result of the turn; a rejected turn changes nothing
+     */
+    TurnResult executeTurn(Player player, int move);
+
+    /**
+     * Handles the action when a player shouts "50ZO".
+     * Maintained for compatibility with the original interface.
+     *
+     * @param playerWhoSang the identifier of the player who shouted "50ZO"
+     */
+    void haveSungOne(String playerWhoSang);
+
+    /**
+     * Retrieves the current visible cards of the human player for display.
+     *
+     * @param posInitCardToShow the starting position of the cards to be shown
+     * @return an array of cards that are currently visible to the human player
+     */
+    Card[] getCurrentVisibleCardsHumanPlayer(int posInitCardToShow);
+
+    /**
+     * Checks if the game is over (only one player remains active).
+     *
+     * @return true if the game is over, false otherwise
+     */
+    Boolean isGameOver();
+
+    /**
+     * Starts the game asynchronously.
+     *
+     * @return a future completed once the cards have been dealt
+     */
+    default CompletableFuture<Void> startGameAsync() {
+        try {
+            startGame();
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Makes a player draw cards asynchronously.
+     *
+     * @param player the player who will draw the cards
+     * @param numberOfCards the number of cards to be drawn
+     * @return a future completed once the cards have been drawn
+     */
+    default CompletableFuture<Void> eatCardAsync(Player player, int numberOfCards) {
+        try {
+            eatCard(player, numberOfCards);
+            return CompletableFuture.completedFuture(null);
+        } catch (PlayerEliminatedException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Plays a card asynchronously.
+     *
+     * @param card the card to be played
+     * @param player the player playing the card
+     * @return a future completed with the played card
+     */
+    default CompletableFuture<Card> playCardAsync(Card card, Player player) {
+        try {
+            playCard(card, player);
+            return CompletableFuture.completedFuture(card);
+        } catch (PlayerEliminatedException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Executes a whole turn asynchronously.
+     *
+     * @param player the player whose turn it is
+     * @param move the encoded move to play, or {@link Move#NONE} to only draw
+     * @return a future completed with the result of the turn
+     */
+    default CompletableFuture<TurnResult> executeTurnAsync(Player player, int move) {
+        try {
+            return CompletableFuture.completedFuture(executeTurn(player, move));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Retrieves the visible cards of the human player asynchronously.
+     *
+     * @param posInitCardToShow the starting position of the cards to be shown
+     * @return a future completed with the visible cards
+     */
+    default CompletableFuture<Card[]> getCurrentVisibleCardsHumanPlayerAsync(int posInitCardToShow) {
+        try {
+            return CompletableFuture.completedFuture(getCurrentVisibleCardsHumanPlayer(posInitCardToShow));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Checks asynchronously if the game is over, after every request queued before this one.
+     *
+     * @return a future completed with true if the game is over, false otherwise
+     */
+    default CompletableFuture<Boolean> isGameOverAsync() {
+        try {
+            return CompletableFuture.completedFuture(isGameOver());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
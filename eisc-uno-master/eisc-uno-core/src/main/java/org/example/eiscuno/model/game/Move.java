@@ -0,0 +1,87 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.rules.CompiledRules;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+/**
+ * Encoding of a card play as a single int, so legal moves can be generated into primitive buffers.
+ * A move holds the card id and the value the card adds to the sum, which makes the choice between
+ * the two values of a card (an Ace worth 1 or 10 under the standard rules) explicit: the two are different moves.
+ * Which values a card may take depends on the game's {@link CompiledRules}, so the choice of a value always goes
+ * through them.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class Move {
+
+    /** Largest number of distinct legal moves: every card id once, plus the second value of each Ace. */
+    public static final int MAX_LEGAL_MOVES = EISCUnoEnum.CARD_COUNT + EISCUnoEnum.SUIT_COUNT;
+
+    /** Move of a turn in which the player plays no card and only draws. */
+    public static final int NONE = -1;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Move() {
+    }
+
+    /**
+     * Encodes a move.
+     *
+     * @param cardId the id of the card to play
+     * @param value the value the card adds to the sum
+     * @return the encoded move
+     */
+    public static int of(int cardId, int value) {
+        return (cardId << 8) | (value & 0xFF);
+    }
+
+    /**
+     * Encodes a move that plays a card with the value the given rules choose for it on the given sum.
+     *
+     * @param cardId the id of the card to play
+     * @param currentSum the current sum on the table
+     * @param rules the rules of the game
+     * @return the encoded move
+     */
+    public static int optimal(int cardId, int currentSum, CompiledRules rules) {
+        return of(cardId, rules.chosenValue(cardId, currentSum));
+    }
+
+    /**
+     * Gets the card id of a move.
+     *
+     * @param move the encoded move
+     * @return the id of the card played
+     */
+    public static int cardId(int move) {
+        return move >>> 8;
+    }
+
+    /**
+     * Gets the value a move adds to the sum.
+     *
+     * @param move the encoded move
+     * @return the value of the card as played
+     */
+    public static int value(int move) {
+        return (byte) move;
+    }
+
+    /**
+     * Describes a move for logs and debugging.
+     *
+     * @param move the encoded move
+     * @return the card label and the value played
+     */
+    public static String toString(int move) {
+        if (move == NONE) {
+            return "draw only";
+        }
+        int cardId = cardId(move);
+        return EISCUnoEnum.rankLabelOf(cardId) + " " + EISCUnoEnum.suitNameOf(cardId) + " (" + value(move) + ")";
+    }
+}
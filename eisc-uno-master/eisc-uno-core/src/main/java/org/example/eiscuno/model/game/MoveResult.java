@@ -0,0 +1,39 @@
+package org.example.eiscuno.model.game;
+
+/**
+ * Outcome of a move attempted through the non-throwing API of {@link GameUnoModel}.
+ * Only {@link #OK} changes the game.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public enum MoveResult {
+    /** The move was committed. */
+    OK,
+    /** The player is null. */
+    NO_PLAYER,
+    /** The player has been eliminated. */
+    PLAYER_ELIMINATED,
+    /** The player is not the current player. */
+    NOT_YOUR_TURN,
+    /** The card is null. */
+    NO_CARD,
+    /** The card is not in the player's hand. */
+    CARD_NOT_IN_HAND,
+    /** The card would take the sum above the limit. */
+    EXCEEDS_LIMIT,
+    /** The value chosen for the card is not one the card can take. */
+    INVALID_VALUE,
+    /** Neither the deck nor the table has a card left to draw. */
+    DECK_EMPTY;
+
+    /**
+     * Checks if the move was committed.
+     *
+     * @return true for {@link #OK}, false otherwise
+     */
+    public boolean isOk() {
+        return this == OK;
+    }
+}
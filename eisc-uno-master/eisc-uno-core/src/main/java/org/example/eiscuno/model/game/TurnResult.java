@@ -0,0 +1,192 @@
+package org.example.eiscuno.model.game;
+
+/**
+ * Immutable outcome of a whole turn executed by {@link GameUnoModel#executeTurn(org.example.eiscuno.model.player.Player, int)}:
+ * the card played, the cards drawn, whether the player was eliminated and who plays next.
+ * A rejected turn changes nothing and only carries the reason; rejections are shared instances.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class TurnResult {
+    private static final TurnResult[] REJECTIONS = new TurnResult[MoveResult.values().length];
+
+    static {
+        for (MoveResult result : MoveResult.values()) {
+            REJECTIONS[result.ordinal()] = new TurnResult(result, -1, -1, 0, -1, 0, 0, false, -1, false, -1);
+        }
+    }
+
+    private final MoveResult result;
+    private final int seat;
+    private final int playedCardId;
+    private final int playedValue;
+    private final int drawnCardId;
+    private final int drawnCards;
+    private final int recycledCards;
+    private final boolean eliminated;
+    private final int nextSeat;
+    private final boolean gameOver;
+    private final int currentSum;
+
+    /**
+     * Constructs a turn result.
+     *
+     * @param result the outcome of the turn
+     * @param seat the seat that played the turn
+     * @param playedCardId the id of the card played, or -1 if the player only drew
+     * @param playedValue the value the played card added to the sum
+     * @param drawnCardId the id of the last card drawn, or -1 if no card was left to draw
+     * @param drawnCards the number of cards drawn
+     * @param recycledCards the number of table cards recycled into the deck before drawing
+     * @param eliminated whether the player was eliminated at the end of the turn
+     * @param nextSeat the seat whose turn it is afterwards
+     * @param gameOver whether the turn ended the game
+     * @param currentSum the sum on the table after the turn
+     */
+    TurnResult(MoveResult result, int seat, int playedCardId, int playedValue, int drawnCardId, int drawnCards,
+               int recycledCards, boolean eliminated, int nextSeat, boolean gameOver, int currentSum) {
+        this.result = result;
+        this.seat = seat;
+        this.playedCardId = playedCardId;
+        this.playedValue = playedValue;
+        this.drawnCardId = drawnCardId;
+        this.drawnCards = drawnCards;
+        this.recycledCards = recycledCards;
+        this.eliminated = eliminated;
+        this.nextSeat = nextSeat;
+        this.gameOver = gameOver;
+        this.currentSum = currentSum;
+    }
+
+    /**
+     * Gets the shared result of a turn rejected for a given reason.
+     *
+     * @param result the reason the turn was rejected
+     * @return the rejected turn result
+     */
+    static TurnResult rejected(MoveResult result) {
+        return REJECTIONS[result.ordinal()];
+    }
+
+    /**
+     * Gets the outcome of the turn.
+     *
+     * @return {@link MoveResult#OK} if the turn was played, otherwise the reason it was rejected
+     */
+    public MoveResult getResult() {
+        return result;
+    }
+
+    /**
+     * Checks if the turn was played.
+     *
+     * @return true if the turn was committed, false if it was rejected
+     */
+    public boolean isOk() {
+        return result == MoveResult.OK;
+    }
+
+    /**
+     * Gets the seat that played the turn.
+     *
+     * @return the seat index, or -1 for a rejected turn
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * Gets the id of the card played.
+     *
+     * @return the card id, or -1 if no card was played
+     */
+    public int getPlayedCardId() {
+        return playedCardId;
+    }
+
+    /**
+     * Gets the value the played card added to the sum.
+     *
+     * @return the value played, or 0 if no card was played
+     */
+    public int getPlayedValue() {
+        return playedValue;
+    }
+
+    /**
+     * Gets the id of the last card drawn.
+     *
+     * @return the card id, or -1 if no card was drawn
+     */
+    public int getDrawnCardId() {
+        return drawnCardId;
+    }
+
+    /**
+     * Gets the number of cards drawn during the turn, which the rules may set above one.
+     *
+     * @return the number of cards drawn, 0 if the deck ran out
+     */
+    public int getDrawnCards() {
+        return drawnCards;
+    }
+
+    /**
+     * Gets the number of table cards recycled into the deck during the turn.
+     *
+     * @return the number of recycled cards
+     */
+    public int getRecycledCards() {
+        return recycledCards;
+    }
+
+    /**
+     * Checks if the player was eliminated at the end of the turn.
+     *
+     * @return true if the player was eliminated, false otherwise
+     */
+    public boolean isEliminated() {
+        return eliminated;
+    }
+
+    /**
+     * Gets the seat whose turn it is after this one.
+     *
+     * @return the next seat, or -1 for a rejected turn
+     */
+    public int getNextSeat() {
+        return nextSeat;
+    }
+
+    /**
+     * Checks if the turn ended the game.
+     *
+     * @return true if the game is over, false otherwise
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the sum on the table after the turn.
+     *
+     * @return the current sum, or -1 for a rejected turn
+     */
+    public int getCurrentSum() {
+        return currentSum;
+    }
+
+    /**
+     * Returns a string representation of the turn result for debugging purposes.
+     *
+     * @return the turn result description
+     */
+    @Override
+    public String toString() {
+        return "TurnResult{" + result + ", seat=" + seat + ", played=" + playedCardId + "(" + playedValue + ")"
+                + ", drawn=" + drawnCardId + "x" + drawnCards + ", eliminated=" + eliminated + ", next=" + nextSeat
+                + ", gameOver=" + gameOver + ", sum=" + currentSum + "}";
+    }
+}
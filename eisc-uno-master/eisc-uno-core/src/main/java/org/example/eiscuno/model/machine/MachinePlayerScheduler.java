@@ -0,0 +1,170 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.clock.GameClock;
+import org.example.eiscuno.model.clock.PacingPolicy;
+import org.example.eiscuno.model.clock.RealClock;
+import org.example.eiscuno.model.engine.GameEngine;
+import org.example.eiscuno.model.engine.GameRuntime;
+import org.example.eiscuno.model.event.GameEvent;
+import org.example.eiscuno.model.event.GameEventListener;
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.player.Player;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Plays the machine players of one game without a thread per player.
+ * The scheduler listens to the game's events; when a turn passes to an active machine player it
+ * schedules that player's move on a {@link GameClock} after the delay given by a {@link PacingPolicy},
+ * and the move runs as one command on the {@link GameEngine}. Nothing polls, so an idle table costs
+ * no thread and no wakeups, and any number of tables can share one clock.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public class MachinePlayerScheduler implements GameEventListener {
+    private final GameEngine engine;
+    private final GameUnoModel game;
+    private final GameClock clock;
+    private final PacingPolicy pacing;
+    private final SplittableRandom random;
+    private volatile GameClock.ScheduledTask pendingMove;
+    private volatile boolean running;
+
+    /**
+     * Constructs a scheduler for the game of an engine that uses the scheduler of the shared runtime.
+     *
+     * @param engine the engine that owns the game
+     */
+    public MachinePlayerScheduler(GameEngine engine) {
+        this(engine, GameRuntime.shared().getScheduler());
+    }
+
+    /**
+     * Constructs a scheduler for the game of an engine that moves in real time with standard pacing.
+     *
+     * @param engine the engine that owns the game
+     * @param executor the executor that times the machine players' moves
+     */
+    public MachinePlayerScheduler(GameEngine engine, ScheduledExecutorService executor) {
+        this(engine, new RealClock(executor), PacingPolicy.standard());
+    }
+
+    /**
+     * Constructs a scheduler for the game of an engine.
+     *
+     * @param engine the engine that owns the game
+     * @param clock the clock that times the machine players' moves
+     * @param pacing the delays of the machine players' moves
+     */
+    public MachinePlayerScheduler(GameEngine engine, GameClock clock, PacingPolicy pacing) {
+        this.engine = engine;
+        this.game = engine.getGame();
+        this.clock = clock;
+        this.pacing = pacing;
+        this.random = game.splitRandom();
+    }
+
+    /**
+     * Starts reacting to turn changes.
+     * Must be called before the game is started so the first turn is seen.
+     */
+    public void start() {
+        running = true;
+        game.addGameEventListener(this);
+    }
+
+    /**
+     * Stops the scheduler and cancels the move waiting to be played, if any.
+     */
+    public void stop() {
+        running = false;
+        game.removeGameEventListener(this);
+        GameClock.ScheduledTask move = pendingMove;
+        if (move != null) {
+            move.cancel();
+        }
+    }
+
+    /**
+     * Checks if the scheduler is running.
+     *
+     * @return true if the scheduler plays the machine players, false otherwise
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Schedules the move of the machine player whose turn has started.
+     * A move still pending from an earlier turn is cancelled first, since a restored state may have
+     * moved the turn elsewhere.
+     * Called on the engine thread.
+     *
+     * @param event the game event
+     */
+    @Override
+    public void onEvent(GameEvent event) {
+        if (!running) {
+            return;
+        }
+        GameEvent.Type type = event.getType();
+        if (type != GameEvent.Type.TURN_CHANGED && type != GameEvent.Type.TURN_PLAYED
+                && type != GameEvent.Type.GAME_STARTED && type != GameEvent.Type.STATE_RESTORED) {
+            return;
+        }
+
+        GameClock.ScheduledTask previous = pendingMove;
+        if (previous != null) {
+            previous.cancel();
+        }
+
+        Player player = game.getCurrentPlayer();
+        if (player == game.getHumanPlayer() || game.isPlayerEliminated(player) || game.getActivePlayerCount() <= 1) {
+            return;
+        }
+
+        pendingMove = clock.schedule(() -> submitMove(player), pacing.moveDelayMillis(random));
+    }
+
+    /**
+     * Hands a machine player's move to the engine.
+     * Called by the clock when the move's delay has elapsed.
+     *
+     * @param player the machine player to move
+     */
+    private void submitMove(Player player) {
+        if (!running) {
+            return;
+        }
+        engine.submit(game -> {
+            if (running && game.getCurrentPlayer() == player) {
+                playTurn(game, player);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Plays a complete turn for a machine player: the lowest legal card with its best value, or only a
+     * draw when no card fits, executed by the game as one turn.
+     * If the turn is rejected, the turn passes so the table never stalls on a machine player.
+     *
+     * @param game the game
+     * @param machinePlayer the machine player whose turn it is
+     */
+    private static void playTurn(GameUnoModel game, Player machinePlayer) {
+        Card playableCard = game.findPlayableCard(machinePlayer);
+        int move = playableCard != null
+                ? Move.optimal(playableCard.getId(), game.getCurrentSum(), game.getRules())
+                : Move.NONE;
+
+        if (!game.executeTurn(machinePlayer, move).isOk() && game.getCurrentPlayer() == machinePlayer) {
+            game.nextTurn();
+        }
+    }
+}
@@ -38,4 +38,12 @@ public interface IPlayer {
      * @param index The index of the card to remove.
      */
     void removeCard(int index);
+
+    /**
+     * Gets the bitset of card ids currently held by the player.
+     * Bit {@code id} is set when a card with that id is in the hand.
+     *
+     * @return the bitset of held card ids
+     */
+    long getHandMask();
 }
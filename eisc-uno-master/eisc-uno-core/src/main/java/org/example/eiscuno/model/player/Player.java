@@ -0,0 +1,222 @@
+package org.example.eiscuno.model.player;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Represents a player in the Cincuentazo game.
+ * Manages the player's hand of cards and player type identification.
+ * Besides the ordered hand used for display, the hand is kept as a 64-bit bitset of card ids
+ * with a card-by-id index, so membership and legal-move checks are single bit operations.
+ * With a multi-deck shoe a hand may hold several cards with the same id: a per-id count keeps the
+ * bit set until the last copy leaves the hand.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public class Player implements IPlayer {
+    private ArrayList<Card> cardsPlayer;
+    private String typePlayer;
+    private long handMask;
+    private final Card[] cardsById;
+    private final int[] idCounts;
+    private int seat;
+
+    /**
+     * Constructs a new Player object with an empty hand of cards.
+     *
+     * @param typePlayer the type of player (e.g., "HUMAN_PLAYER", "MACHINE_PLAYER_1")
+     */
+    public Player(String typePlayer){
+        this.cardsPlayer = new ArrayList<Card>();
+        this.typePlayer = typePlayer;
+        this.handMask = 0L;
+        this.cardsById = new Card[EISCUnoEnum.CARD_COUNT];
+        this.idCounts = new int[EISCUnoEnum.CARD_COUNT];
+        this.seat = -1;
+    }
+
+    /**
+     * Adds a card to the player's hand.
+     *
+     * @param card the card to be added to the player's hand
+     */
+    @Override
+    public void addCard(Card card){
+        cardsPlayer.add(card);
+        if (idCounts[card.getId()]++ == 0) {
+            handMask |= 1L << card.getId();
+            cardsById[card.getId()] = card;
+        }
+    }
+
+    /**
+     * Retrieves all cards currently held by the player.
+     * The list must not be modified directly; use the Player methods so the bitset stays in sync.
+     *
+     * @return an ArrayList containing all cards in the player's hand
+     */
+    @Override
+    public ArrayList<Card> getCardsPlayer() {
+        return cardsPlayer;
+    }
+
+    /**
+     * Removes a card from the player's hand based on its index.
+     *
+     * @param index the index of the card to remove
+     */
+    @Override
+    public void removeCard(int index) {
+        Card card = cardsPlayer.remove(index);
+        clearCardBit(card);
+    }
+
+    /**
+     * Removes a specific card from the player's hand.
+     * Cards that are not in the hand are rejected with a single bit test.
+     *
+     * @param card the card to remove
+     * @return true if the card was in the hand and has been removed, false otherwise
+     */
+    public boolean removeCard(Card card) {
+        if (!hasCard(card)) {
+            return false;
+        }
+        cardsPlayer.remove(indexOf(card));
+        clearCardBit(card);
+        return true;
+    }
+
+    /**
+     * Removes every card from the player's hand.
+     */
+    public void clearHand() {
+        cardsPlayer.clear();
+        Arrays.fill(cardsById, null);
+        Arrays.fill(idCounts, 0);
+        handMask = 0L;
+    }
+
+    /**
+     * Checks if the player holds a specific card.
+     *
+     * @param card the card to look for
+     * @return true if the card is in the player's hand, false otherwise
+     */
+    public boolean hasCard(Card card) {
+        if (card == null || idCounts[card.getId()] == 0) {
+            return false;
+        }
+        return cardsById[card.getId()] == card || (idCounts[card.getId()] > 1 && indexOf(card) >= 0);
+    }
+
+    /**
+     * Gets a card with the given id from the player's hand.
+     *
+     * @param id the card id (0..51)
+     * @return a held card with that id, or null if the player does not hold it
+     */
+    public Card getCardById(int id) {
+        return cardsById[id];
+    }
+
+    /**
+     * Gets the number of cards with the given id in the player's hand.
+     *
+     * @param id the card id (0..51)
+     * @return the number of copies held, 0 if none
+     */
+    public int getCardCount(int id) {
+        return idCounts[id];
+    }
+
+    /**
+     * Gets the bitset of card ids currently held by the player.
+     *
+     * @return the bitset of held card ids
+     */
+    @Override
+    public long getHandMask() {
+        return handMask;
+    }
+
+    /**
+     * Updates the bitset, count and index entries of a card that left the hand.
+     * The bit is cleared only when no copy of the card is left.
+     *
+     * @param card the card that was removed
+     */
+    private void clearCardBit(Card card) {
+        int id = card.getId();
+        if (--idCounts[id] == 0) {
+            handMask &= ~(1L << id);
+            cardsById[id] = null;
+        } else if (cardsById[id] == card) {
+            for (Card held : cardsPlayer) {
+                if (held.getId() == id) {
+                    cardsById[id] = held;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds a card instance in the ordered hand.
+     *
+     * @param card the card to look for
+     * @return the index of that exact card, or -1 if it is not held
+     */
+    private int indexOf(Card card) {
+        for (int i = 0; i < cardsPlayer.size(); i++) {
+            if (cardsPlayer.get(i) == card) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Retrieves a card from the player's hand based on its index.
+     *
+     * @param index the index of the card to retrieve
+     * @return the card at the specified index in the player's hand
+     */
+    @Override
+    public Card getCard(int index){
+        return cardsPlayer.get(index);
+    }
+
+    /**
+     * Gets the type of this player.
+     *
+     * @return the player type string
+     */
+    public String getTypePlayer() {
+        return typePlayer;
+    }
+
+    /**
+     * Gets the seat this player occupies at the game table.
+     *
+     * @return the seat index, or -1 if the player has not been seated
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * Sets the seat this player occupies at the game table.
+     * Called by the game model when the player is seated.
+     *
+     * @param seat the seat index
+     */
+    public void setSeat(int seat) {
+        this.seat = seat;
+    }
+}
@@ -0,0 +1,199 @@
+package org.example.eiscuno.model.rules;
+
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+/**
+ * A {@link RuleVariant} compiled into primitive lookup tables: the low and high value of every card id,
+ * the bitmask of playable card ids for every table sum, and the value chosen for every card on every sum.
+ * The hot path of a game only indexes these arrays, so any variant plays as fast as the built-in rules.
+ * Instances are immutable and may be shared by any number of games.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class CompiledRules {
+
+    /** The built-in rules, compiled once. */
+    public static final CompiledRules STANDARD = compile(RuleVariant.standard());
+
+    private final RuleVariant variant;
+    private final int targetSum;
+    private final int handSize;
+    private final int drawCount;
+    private final int[] lowValues;
+    private final int[] highValues;
+    private final long twoValueMask;
+    private final long[] playableMasks;
+    private final byte[] chosenValues;
+
+    /**
+     * Constructs the tables of a variant.
+     *
+     * @param variant the variant to compile
+     */
+    private CompiledRules(RuleVariant variant) {
+        this.variant = variant;
+        this.targetSum = variant.getTargetSum();
+        this.handSize = variant.getHandSize();
+        this.drawCount = variant.getDrawCount();
+        this.lowValues = new int[EISCUnoEnum.CARD_COUNT];
+        this.highValues = new int[EISCUnoEnum.CARD_COUNT];
+        long twoValues = 0L;
+        for (int id = 0; id < EISCUnoEnum.CARD_COUNT; id++) {
+            lowValues[id] = variant.getRankValue(EISCUnoEnum.rankOf(id));
+            highValues[id] = EISCUnoEnum.isAce(id) ? variant.getAceHighValue() : lowValues[id];
+            if (highValues[id] != lowValues[id]) {
+                twoValues |= 1L << id;
+            }
+        }
+        this.twoValueMask = twoValues;
+
+        this.playableMasks = new long[targetSum + 1];
+        this.chosenValues = new byte[(targetSum + 1) * EISCUnoEnum.CARD_COUNT];
+        boolean preferHigh = variant.getAcePolicy() == RuleVariant.AcePolicy.PREFER_HIGH;
+        for (int sum = 0; sum <= targetSum; sum++) {
+            long mask = 0L;
+            for (int id = 0; id < EISCUnoEnum.CARD_COUNT; id++) {
+                if (sum + lowValues[id] <= targetSum) {
+                    mask |= 1L << id;
+                }
+                int chosen = preferHigh && sum + highValues[id] <= targetSum ? highValues[id] : lowValues[id];
+                chosenValues[sum * EISCUnoEnum.CARD_COUNT + id] = (byte) chosen;
+            }
+            playableMasks[sum] = mask;
+        }
+    }
+
+    /**
+     * Compiles a variant into lookup tables.
+     *
+     * @param variant the variant to compile
+     * @return the compiled rules
+     */
+    public static CompiledRules compile(RuleVariant variant) {
+        return new CompiledRules(variant);
+    }
+
+    /**
+     * Gets the bitmask of card ids that can be played on the given sum.
+     * A card is playable when its low value fits under the target.
+     *
+     * @param currentSum the current sum on the table
+     * @return the bitmask of playable card ids
+     */
+    public long playableMask(int currentSum) {
+        if (currentSum >= 0 && currentSum <= targetSum) {
+            return playableMasks[currentSum];
+        }
+        long mask = 0L;
+        for (int id = 0; id < EISCUnoEnum.CARD_COUNT; id++) {
+            if (currentSum + lowValues[id] <= targetSum) {
+                mask |= 1L << id;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Checks if a card can be played on the given sum.
+     *
+     * @param cardId the card id (0..51)
+     * @param currentSum the current sum on the table
+     * @return true if the card is playable, false otherwise
+     */
+    public boolean isPlayable(int cardId, int currentSum) {
+        return (playableMask(currentSum) & (1L << cardId)) != 0L;
+    }
+
+    /**
+     * Gets the value a card takes when the game chooses it, following the variant's Ace policy.
+     *
+     * @param cardId the card id (0..51)
+     * @param currentSum the current sum on the table
+     * @return the value the card adds when played
+     */
+    public int chosenValue(int cardId, int currentSum) {
+        if (currentSum >= 0 && currentSum <= targetSum) {
+            return chosenValues[currentSum * EISCUnoEnum.CARD_COUNT + cardId];
+        }
+        return lowValues[cardId];
+    }
+
+    /**
+     * Checks if a card may be played with the given value.
+     *
+     * @param cardId the card id (0..51)
+     * @param value the value to check
+     * @return true if the value is the card's low or high value
+     */
+    public boolean isValidValue(int cardId, int value) {
+        return value == lowValues[cardId] || value == highValues[cardId];
+    }
+
+    /**
+     * Checks if a card may take two different values.
+     *
+     * @param cardId the card id (0..51)
+     * @return true if the card's low and high values differ
+     */
+    public boolean hasTwoValues(int cardId) {
+        return (twoValueMask & (1L << cardId)) != 0L;
+    }
+
+    /**
+     * Gets the low value of a card (its only value, unless it is a two-valued Ace).
+     *
+     * @param cardId the card id (0..51)
+     * @return the low value
+     */
+    public int getLowValue(int cardId) {
+        return lowValues[cardId];
+    }
+
+    /**
+     * Gets the high value of a card.
+     *
+     * @param cardId the card id (0..51)
+     * @return the high value
+     */
+    public int getHighValue(int cardId) {
+        return highValues[cardId];
+    }
+
+    /**
+     * Gets the sum the table may not exceed.
+     *
+     * @return the target sum
+     */
+    public int getTargetSum() {
+        return targetSum;
+    }
+
+    /**
+     * Gets the number of cards dealt to every player.
+     *
+     * @return the opening hand size
+     */
+    public int getHandSize() {
+        return handSize;
+    }
+
+    /**
+     * Gets the number of cards drawn at the end of each turn.
+     *
+     * @return the draw count
+     */
+    public int getDrawCount() {
+        return drawCount;
+    }
+
+    /**
+     * Gets the variant these rules were compiled from.
+     *
+     * @return the variant
+     */
+    public RuleVariant getVariant() {
+        return variant;
+    }
+}
@@ -0,0 +1,279 @@
+package org.example.eiscuno.model.rules;
+
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * House rules of a Cincuentazo game, described as data: the target sum, the value of every rank,
+ * the two values an Ace may take and which one is preferred, the size of the opening hands and how
+ * many cards a player draws at the end of each turn.
+ * A variant is immutable; the {@code with...} methods return modified copies of it. Games do not read
+ * a variant directly but the lookup tables of its {@link CompiledRules}.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class RuleVariant {
+
+    /** Largest target sum a variant may use. */
+    public static final int MAX_TARGET_SUM = 1000;
+
+    /** Largest number of cards in an opening hand. */
+    public static final int MAX_HAND_SIZE = 16;
+
+    /** Largest number of cards drawn at the end of a turn. */
+    public static final int MAX_DRAW_COUNT = 8;
+
+    private static final int ACE_RANK = EISCUnoEnum.rankOf(EISCUnoEnum.CARD_COUNT - 1);
+
+    /**
+     * Which of its two values an Ace takes when a player lets the game choose.
+     */
+    public enum AcePolicy {
+        /** The high value when it fits under the target, otherwise the low value. */
+        PREFER_HIGH,
+        /** Always the low value. */
+        PREFER_LOW
+    }
+
+    private static final RuleVariant STANDARD = new RuleVariant(50,
+            new int[] {2, 3, 4, 5, 6, 7, 8, 0, 10, -10, -10, -10, 1}, 10, AcePolicy.PREFER_HIGH, 4, 1);
+
+    private final int targetSum;
+    private final int[] rankValues;
+    private final int aceHighValue;
+    private final AcePolicy acePolicy;
+    private final int handSize;
+    private final int drawCount;
+
+    /**
+     * Constructs a rule variant.
+     *
+     * @param targetSum the sum the table may not exceed
+     * @param rankValues the value of every rank, indexed as {@link EISCUnoEnum#rankOf(int)}; the Ace entry is its low value
+     * @param aceHighValue the high value of an Ace, equal to its low value if the Ace has a single value
+     * @param acePolicy which Ace value is chosen for the player
+     * @param handSize the number of cards dealt to every player
+     * @param drawCount the number of cards drawn at the end of each turn
+     * @throws IllegalArgumentException if a value is out of range
+     * @throws NullPointerException if the Ace policy is null
+     */
+    public RuleVariant(int targetSum, int[] rankValues, int aceHighValue, AcePolicy acePolicy, int handSize,
+                       int drawCount) {
+        Objects.requireNonNull(acePolicy, "Ace policy cannot be null");
+        if (targetSum < 1 || targetSum > MAX_TARGET_SUM) {
+            throw new IllegalArgumentException("Target sum must be between 1 and " + MAX_TARGET_SUM);
+        }
+        if (rankValues.length != EISCUnoEnum.RANK_COUNT) {
+            throw new IllegalArgumentException("A value is needed for each of the " + EISCUnoEnum.RANK_COUNT + " ranks");
+        }
+        for (int value : rankValues) {
+            checkCardValue(value);
+        }
+        checkCardValue(aceHighValue);
+        if (aceHighValue < rankValues[ACE_RANK]) {
+            throw new IllegalArgumentException("The high value of an Ace cannot be below its low value");
+        }
+        if (handSize < 1 || handSize > MAX_HAND_SIZE) {
+            throw new IllegalArgumentException("Hand size must be between 1 and " + MAX_HAND_SIZE);
+        }
+        if (drawCount < 0 || drawCount > MAX_DRAW_COUNT) {
+            throw new IllegalArgumentException("Draw count must be between 0 and " + MAX_DRAW_COUNT);
+        }
+        this.targetSum = targetSum;
+        this.rankValues = rankValues.clone();
+        this.aceHighValue = aceHighValue;
+        this.acePolicy = acePolicy;
+        this.handSize = handSize;
+        this.drawCount = drawCount;
+    }
+
+    /**
+     * Gets the built-in rules: target 50, 9 worth 0, J/Q/K worth -10, Ace worth 1 or 10 (10 when it fits),
+     * hands of 4 cards and one card drawn per turn.
+     *
+     * @return the standard variant
+     */
+    public static RuleVariant standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Returns a copy of this variant with another target sum.
+     *
+     * @param targetSum the new target sum
+     * @return the modified variant
+     */
+    public RuleVariant withTargetSum(int targetSum) {
+        return new RuleVariant(targetSum, rankValues, aceHighValue, acePolicy, handSize, drawCount);
+    }
+
+    /**
+     * Returns a copy of this variant with another value for one rank.
+     * For the Ace rank this sets the low value.
+     *
+     * @param rank the rank index, as {@link EISCUnoEnum#rankOf(int)}
+     * @param value the new value
+     * @return the modified variant
+     */
+    public RuleVariant withRankValue(int rank, int value) {
+        int[] values = rankValues.clone();
+        values[rank] = value;
+        return new RuleVariant(targetSum, values, Math.max(aceHighValue, values[ACE_RANK]), acePolicy, handSize,
+                drawCount);
+    }
+
+    /**
+     * Returns a copy of this variant with other Ace values.
+     *
+     * @param low the low value of an Ace
+     * @param high the high value of an Ace, equal to {@code low} for a single-valued Ace
+     * @param policy which value is chosen for the player
+     * @return the modified variant
+     */
+    public RuleVariant withAceValues(int low, int high, AcePolicy policy) {
+        int[] values = rankValues.clone();
+        values[ACE_RANK] = low;
+        return new RuleVariant(targetSum, values, high, policy, handSize, drawCount);
+    }
+
+    /**
+     * Returns a copy of this variant with another opening hand size.
+     *
+     * @param handSize the number of cards dealt to every player
+     * @return the modified variant
+     */
+    public RuleVariant withHandSize(int handSize) {
+        return new RuleVariant(targetSum, rankValues, aceHighValue, acePolicy, handSize, drawCount);
+    }
+
+    /**
+     * Returns a copy of this variant with another number of cards drawn per turn.
+     *
+     * @param drawCount the number of cards drawn at the end of each turn
+     * @return the modified variant
+     */
+    public RuleVariant withDrawCount(int drawCount) {
+        return new RuleVariant(targetSum, rankValues, aceHighValue, acePolicy, handSize, drawCount);
+    }
+
+    /**
+     * Compiles this variant into the lookup tables games play with.
+     *
+     * @return the compiled rules
+     */
+    public CompiledRules compile() {
+        return CompiledRules.compile(this);
+    }
+
+    /**
+     * Gets the sum the table may not exceed.
+     *
+     * @return the target sum
+     */
+    public int getTargetSum() {
+        return targetSum;
+    }
+
+    /**
+     * Gets the value of a rank; for the Ace this is its low value.
+     *
+     * @param rank the rank index, as {@link EISCUnoEnum#rankOf(int)}
+     * @return the value of the rank
+     */
+    public int getRankValue(int rank) {
+        return rankValues[rank];
+    }
+
+    /**
+     * Gets the low value of an Ace.
+     *
+     * @return the low Ace value
+     */
+    public int getAceLowValue() {
+        return rankValues[ACE_RANK];
+    }
+
+    /**
+     * Gets the high value of an Ace.
+     *
+     * @return the high Ace value
+     */
+    public int getAceHighValue() {
+        return aceHighValue;
+    }
+
+    /**
+     * Gets which Ace value is chosen for the player.
+     *
+     * @return the Ace policy
+     */
+    public AcePolicy getAcePolicy() {
+        return acePolicy;
+    }
+
+    /**
+     * Gets the number of cards dealt to every player.
+     *
+     * @return the opening hand size
+     */
+    public int getHandSize() {
+        return handSize;
+    }
+
+    /**
+     * Gets the number of cards drawn at the end of each turn.
+     *
+     * @return the draw count
+     */
+    public int getDrawCount() {
+        return drawCount;
+    }
+
+    /**
+     * Checks that a card value fits in an encoded move.
+     *
+     * @param value the value to check
+     * @throws IllegalArgumentException if the value is out of range
+     */
+    private static void checkCardValue(int value) {
+        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Card values must be between " + Byte.MIN_VALUE + " and "
+                    + Byte.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RuleVariant)) {
+            return false;
+        }
+        RuleVariant other = (RuleVariant) o;
+        return targetSum == other.targetSum && aceHighValue == other.aceHighValue && acePolicy == other.acePolicy
+                && handSize == other.handSize && drawCount == other.drawCount
+                && Arrays.equals(rankValues, other.rankValues);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(rankValues);
+        result = 31 * result + targetSum;
+        result = 31 * result + aceHighValue;
+        result = 31 * result + acePolicy.hashCode();
+        result = 31 * result + handSize;
+        return 31 * result + drawCount;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleVariant{target=" + targetSum + ", values=" + Arrays.toString(rankValues)
+                + ", ace=" + getAceLowValue() + "/" + aceHighValue + " " + acePolicy
+                + ", hand=" + handSize + ", draw=" + drawCount + "}";
+    }
+}
@@ -0,0 +1,233 @@
+package org.example.eiscuno.model.session;
+
+import org.example.eiscuno.model.clock.AcceleratedClock;
+import org.example.eiscuno.model.clock.PacingPolicy;
+import org.example.eiscuno.model.engine.AsyncGameUno;
+import org.example.eiscuno.model.engine.GameEngine;
+import org.example.eiscuno.model.engine.GameRuntime;
+import org.example.eiscuno.model.event.GameEventListener;
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.game.IGameUno;
+import org.example.eiscuno.model.machine.MachinePlayerScheduler;
+import org.example.eiscuno.model.player.Player;
+
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns everything one game table needs for as long as it stays open: the model, its engine, its clock,
+ * its machine player scheduler, the timers and the event listeners registered through the session.
+ * Restarting the game with {@link #reset()} keeps all of them and only deals a new game on the same
+ * model, so the players, the card objects and the images attached to them are reused instead of
+ * being built again, and a restart adds no thread, timer or listener.
+ * {@link #close()} releases everything the session owns.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public class GameSession implements AutoCloseable {
+    private final GameRuntime runtime;
+    private final GameUnoModel game;
+    private final GameEngine engine;
+    private final AsyncGameUno gameUno;
+    private final AcceleratedClock clock;
+    private final MachinePlayerScheduler machineScheduler;
+    private final List<GameEventListener> listeners;
+    private final Set<ScheduledFuture<?>> timers;
+    private volatile boolean started;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a session for a new game on the shared runtime, with standard pacing.
+     *
+     * @param humanPlayer the human player
+     * @param numberOfMachinePlayers the number of machine players
+     */
+    public GameSession(Player humanPlayer, int numberOfMachinePlayers) {
+        this(GameRuntime.shared(), new GameUnoModel(humanPlayer, numberOfMachinePlayers, new SplittableRandom()),
+                PacingPolicy.standard());
+    }
+
+    /**
+     * Constructs a session for a game.
+     * The session takes ownership of the game, which must not be used elsewhere.
+     *
+     * @param runtime the runtime that runs the engine and the timers
+     * @param game the game
+     * @param pacing the delays of the machine players' moves
+     */
+    public GameSession(GameRuntime runtime, GameUnoModel game, PacingPolicy pacing) {
+        this.runtime = runtime;
+        this.game = game;
+        this.engine = runtime.newEngine(game);
+        this.gameUno = new AsyncGameUno(engine);
+        this.clock = new AcceleratedClock(runtime.getScheduler(), 1.0);
+        this.machineScheduler = new MachinePlayerScheduler(engine, clock, pacing);
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.timers = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Starts the engine and the machine players, and deals the first game.
+     *
+     * @return a future completed once the game has been dealt
+     * @throws IllegalStateException if the session was already started or is closed
+     */
+    public CompletableFuture<Void> start() {
+        if (closed || started) {
+            throw new IllegalStateException("Game session already started");
+        }
+        started = true;
+        engine.start();
+        machineScheduler.start();
+        return engine.submit(model -> {
+            model.startGame();
+            return null;
+        });
+    }
+
+    /**
+     * Deals a new game on the same model, players and cards.
+     * The reset runs on the engine after any command already queued; the clock goes back to normal speed
+     * and every listener and timer of the session stays registered.
+     *
+     * @return a future completed once the new game has been dealt
+     * @throws IllegalStateException if the session was not started or is closed
+     */
+    public CompletableFuture<Void> reset() {
+        if (closed || !started) {
+            throw new IllegalStateException("Game session is not running");
+        }
+        return engine.submit(model -> {
+            clock.setSpeed(1.0);
+            model.resetGame();
+            model.startGame();
+            return null;
+        });
+    }
+
+    /**
+     * Registers a listener for the game's events until it is removed or the session is closed.
+     *
+     * @param listener the listener to add
+     */
+    public void addGameEventListener(GameEventListener listener) {
+        listeners.add(listener);
+        game.addGameEventListener(listener);
+    }
+
+    /**
+     * Removes a listener registered through this session.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeGameEventListener(GameEventListener listener) {
+        listeners.remove(listener);
+        game.removeGameEventListener(listener);
+    }
+
+    /**
+     * Runs a task periodically on the runtime's scheduler until it is cancelled or the session is closed.
+     * The task must be short.
+     *
+     * @param task the task to run
+     * @param periodMillis the period between runs, in milliseconds
+     * @return the handle used to cancel the task
+     * @throws IllegalStateException if the session is closed
+     */
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long periodMillis) {
+        if (closed) {
+            throw new IllegalStateException("Game session is closed");
+        }
+        timers.removeIf(ScheduledFuture::isDone);
+        ScheduledFuture<?> timer = runtime.getScheduler().scheduleAtFixedRate(task, 0, periodMillis,
+                TimeUnit.MILLISECONDS);
+        timers.add(timer);
+        return timer;
+    }
+
+    /**
+     * Gets the number of timers of this session that are still scheduled.
+     *
+     * @return the active timer count
+     */
+    public int getActiveTimerCount() {
+        timers.removeIf(ScheduledFuture::isDone);
+        return timers.size();
+    }
+
+    /**
+     * Closes the session: cancels its timers, stops the machine players, removes its listeners and
+     * shuts the engine down. Closing twice has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (ScheduledFuture<?> timer : timers) {
+            timer.cancel(false);
+        }
+        timers.clear();
+        machineScheduler.stop();
+        for (GameEventListener listener : listeners) {
+            game.removeGameEventListener(listener);
+        }
+        listeners.clear();
+        engine.shutdown();
+    }
+
+    /**
+     * Checks if the session has been closed.
+     *
+     * @return true if the session is closed, false otherwise
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Gets the game of this session. The game is owned by the engine; mutate it only through
+     * {@link #getEngine()}.
+     *
+     * @return the game
+     */
+    public GameUnoModel getGame() {
+        return game;
+    }
+
+    /**
+     * Gets the engine that owns the game.
+     *
+     * @return the engine
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Gets the game as an {@link IGameUno} whose operations run on the session's engine.
+     *
+     * @return the asynchronous game facade
+     */
+    public IGameUno getGameUno() {
+        return gameUno;
+    }
+
+    /**
+     * Gets the clock that times the machine players.
+     *
+     * @return the clock
+     */
+    public AcceleratedClock getClock() {
+        return clock;
+    }
+}
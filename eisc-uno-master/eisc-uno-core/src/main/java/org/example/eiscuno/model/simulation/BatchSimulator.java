@@ -0,0 +1,96 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.deck.DrawMode;
+import org.example.eiscuno.model.rules.CompiledRules;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Runs machine-played games like {@link GameSimulator}, but plays each chunk of games as one
+ * {@link GameBatch} in lockstep instead of one {@link org.example.eiscuno.model.game.GameUnoModel} at a time.
+ * Chunks and game streams are split exactly as {@link GameSimulator} splits them, so for the same
+ * master seed both simulators return identical results.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class BatchSimulator {
+
+    /** Games played at once by a chunk; a few hundred lanes keep the batch state in cache. */
+    private static final int LANES = 256;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BatchSimulator() {
+    }
+
+    /**
+     * Simulates a number of games in parallel from a master seed.
+     *
+     * @param masterSeed the master seed; the same seed always yields the same result
+     * @param games the number of games to simulate
+     * @param numberOfMachinePlayers the number of machine players besides seat 0
+     * @return the aggregated result of all games
+     * @throws IllegalArgumentException if the table needs more than one deck
+     */
+    public static SimulationResult simulate(long masterSeed, int games, int numberOfMachinePlayers) {
+        return simulate(masterSeed, games, numberOfMachinePlayers, DrawMode.SHUFFLED, CompiledRules.STANDARD);
+    }
+
+    /**
+     * Simulates a number of games in parallel from a master seed under the given draw mode and rules.
+     *
+     * @param masterSeed the master seed; the same seed always yields the same result
+     * @param games the number of games to simulate
+     * @param numberOfMachinePlayers the number of machine players besides seat 0
+     * @param drawMode how the decks randomize drawn cards
+     * @param rules the rules of every game
+     * @return the aggregated result of all games
+     * @throws IllegalArgumentException if the table needs more than one deck
+     */
+    public static SimulationResult simulate(long masterSeed, int games, int numberOfMachinePlayers, DrawMode drawMode,
+                                            CompiledRules rules) {
+        if (!GameBatch.supports(numberOfMachinePlayers, rules)) {
+            throw new IllegalArgumentException("A batch only plays tables dealt from a single deck");
+        }
+        SplittableRandom[] chunkRandoms = GameSimulator.splitChunks(masterSeed, games);
+
+        return IntStream.range(0, chunkRandoms.length)
+                .parallel()
+                .mapToObj(chunk -> simulateChunk(chunkRandoms[chunk], GameSimulator.chunkGames(games, chunk),
+                        numberOfMachinePlayers, drawMode, rules))
+                .reduce(SimulationResult::merge)
+                .orElseGet(() -> new SimulationResult(numberOfMachinePlayers + 1));
+    }
+
+    /**
+     * Plays the games of one chunk through a single batch, a few hundred games at a time.
+     *
+     * @param chunkRandom the chunk's random stream
+     * @param games the number of games in the chunk
+     * @param numberOfMachinePlayers the number of machine players besides seat 0
+     * @param drawMode how the decks randomize drawn cards
+     * @param rules the rules of every game
+     * @return the result of the chunk
+     */
+    private static SimulationResult simulateChunk(SplittableRandom chunkRandom, int games, int numberOfMachinePlayers,
+                                                  DrawMode drawMode, CompiledRules rules) {
+        SplittableRandom[] gameRandoms = new SplittableRandom[games];
+        for (int i = 0; i < games; i++) {
+            gameRandoms[i] = chunkRandom.split();
+        }
+        GameBatch batch = new GameBatch(Math.min(games, LANES), numberOfMachinePlayers, drawMode, rules);
+        SimulationResult result = new SimulationResult(numberOfMachinePlayers + 1);
+        SplittableRandom[] laneRandoms = new SplittableRandom[Math.min(games, LANES)];
+        for (int first = 0; first < games; first += LANES) {
+            int count = Math.min(LANES, games - first);
+            System.arraycopy(gameRandoms, first, laneRandoms, 0, count);
+            batch.deal(laneRandoms, count);
+            batch.playAll(result);
+        }
+        return result;
+    }
+}
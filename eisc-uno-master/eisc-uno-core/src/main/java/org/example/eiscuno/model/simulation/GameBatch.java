@@ -0,0 +1,383 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.deck.DrawMode;
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.rules.CompiledRules;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.SplittableRandom;
+
+/**
+ * A batch of independent machine-played games kept as structure-of-arrays state and advanced in lockstep.
+ * Each game is a lane: its sum, turn, active seats and turn count are one entry of a primitive array,
+ * hands are bitsets stored seat-major ({@code hands[seat * lanes + lane]}), and the deck and the table
+ * are card-id sequences in fixed 64-slot rows. {@link #step(SimulationResult)} runs one turn of every live game as a few
+ * phase loops over contiguous lanes (play, draw, resolve, retire); a finished game is recorded and the
+ * last live lane is moved into its slot, so the live lanes always stay packed at the front.
+ * Games are played exactly as {@link GameSimulator} plays them with a {@link GameUnoModel}: the deck of a
+ * game is shuffled with the same stream, recycles and eliminations return cards in the same order, and
+ * an eliminated hand goes back under the deck in card id order, so the same game streams always
+ * give the same outcomes. Only tables dealt from a single 52-card deck are supported.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class GameBatch {
+
+    /** Slots of a deck or table row; a single deck always fits. */
+    private static final int ROW = 64;
+
+    private static final int ROW_MASK = ROW - 1;
+
+    private final int capacity;
+    private final int totalPlayers;
+    private final DrawMode drawMode;
+    private final CompiledRules rules;
+    private final int handSize;
+    private final int drawCount;
+
+    private final long[] hands;
+    private final int[] sums;
+    private final int[] currentSeats;
+    private final long[] activeMasks;
+    private final int[] turns;
+    private final byte[] decks;
+    private final int[] deckHeads;
+    private final int[] deckSizes;
+    private final byte[] tables;
+    private final int[] tableSizes;
+    private final SplittableRandom[] deckRandoms;
+    private int live;
+
+    /**
+     * Constructs an empty batch.
+     *
+     * @param capacity the maximum number of games played at once
+     * @param numberOfMachinePlayers the number of machine players besides seat 0
+     * @param drawMode how the decks randomize drawn cards
+     * @param rules the rules of every game
+     * @throws IllegalArgumentException if the opening deal needs more than one deck
+     */
+    public GameBatch(int capacity, int numberOfMachinePlayers, DrawMode drawMode, CompiledRules rules) {
+        if (!supports(numberOfMachinePlayers, rules)) {
+            throw new IllegalArgumentException("A batch only plays tables dealt from a single deck");
+        }
+        this.totalPlayers = numberOfMachinePlayers + 1;
+        this.capacity = capacity;
+        this.drawMode = drawMode;
+        this.rules = rules;
+        this.handSize = rules.getHandSize();
+        this.drawCount = rules.getDrawCount();
+        this.hands = new long[totalPlayers * capacity];
+        this.sums = new int[capacity];
+        this.currentSeats = new int[capacity];
+        this.activeMasks = new long[capacity];
+        this.turns = new int[capacity];
+        this.decks = new byte[capacity * ROW];
+        this.deckHeads = new int[capacity];
+        this.deckSizes = new int[capacity];
+        this.tables = new byte[capacity * ROW];
+        this.tableSizes = new int[capacity];
+        this.deckRandoms = new SplittableRandom[capacity];
+    }
+
+    /**
+     * Checks if a table can be played as a batch: it must have at least two players and be dealt
+     * from a single deck.
+     *
+     * @param numberOfMachinePlayers the number of machine players besides seat 0
+     * @param rules the rules of the games
+     * @return true if the table fits a batch, false otherwise
+     */
+    public static boolean supports(int numberOfMachinePlayers, CompiledRules rules) {
+        int totalPlayers = numberOfMachinePlayers + 1;
+        return totalPlayers >= GameUnoModel.MIN_PLAYERS
+                && GameUnoModel.decksFor(totalPlayers, rules.getHandSize()) == 1;
+    }
+
+    /**
+     * Deals one new game per stream, as {@link GameUnoModel#startGame()} would for a game built on that
+     * stream, replacing whatever the batch held.
+     *
+     * @param gameRandoms the random stream of each game
+     * @param count the number of games to deal
+     * @throws IllegalArgumentException if there are more games than lanes
+     */
+    public void deal(SplittableRandom[] gameRandoms, int count) {
+        if (count > capacity) {
+            throw new IllegalArgumentException("Batch holds at most " + capacity + " games");
+        }
+        for (int lane = 0; lane < count; lane++) {
+            dealLane(lane, gameRandoms[lane].split());
+        }
+        live = count;
+    }
+
+    /**
+     * Plays a whole batch to the end, recording every game.
+     *
+     * @param result the result to record the outcomes into
+     */
+    public void playAll(SimulationResult result) {
+        while (live > 0) {
+            step(result);
+        }
+    }
+
+    /**
+     * Advances every live game by one turn and retires the games that ended.
+     *
+     * @param result the result to record finished games into
+     * @return the number of games still live
+     */
+    public int step(SimulationResult result) {
+        play();
+        for (int draws = drawCount; draws > 0; draws--) {
+            draw();
+        }
+        resolve();
+        retire(result);
+        return live;
+    }
+
+    /**
+     * Gets the number of games still being played.
+     *
+     * @return the live game count
+     */
+    public int getLiveGames() {
+        return live;
+    }
+
+    /**
+     * Play phase: every live game plays the lowest playable card of its current seat, if any,
+     * with the value the rules choose for it.
+     */
+    private void play() {
+        for (int lane = 0; lane < live; lane++) {
+            int slot = currentSeats[lane] * capacity + lane;
+            int sum = sums[lane];
+            long hand = hands[slot];
+            long playable = hand & rules.playableMask(sum);
+            if (playable != 0L) {
+                int cardId = Long.numberOfTrailingZeros(playable);
+                hands[slot] = hand & ~(1L << cardId);
+                tables[lane * ROW + tableSizes[lane]++] = (byte) cardId;
+                sums[lane] = Math.max(0, sum + rules.chosenValue(cardId, sum));
+            }
+        }
+    }
+
+    /**
+     * Draw phase: the current seat of every live game draws one card, recycling the table first when
+     * the deck is empty.
+     */
+    private void draw() {
+        for (int lane = 0; lane < live; lane++) {
+            if (deckSizes[lane] == 0) {
+                recycle(lane);
+                if (deckSizes[lane] == 0) {
+                    continue;
+                }
+            }
+            int cardId = takeTop(lane);
+            hands[currentSeats[lane] * capacity + lane] |= 1L << cardId;
+        }
+    }
+
+    /**
+     * Resolve phase: a seat left without a playable card is eliminated, then the turn passes to the
+     * next active seat.
+     */
+    private void resolve() {
+        for (int lane = 0; lane < live; lane++) {
+            int seat = currentSeats[lane];
+            if ((hands[seat * capacity + lane] & rules.playableMask(sums[lane])) == 0L) {
+                eliminate(lane, seat);
+            }
+            currentSeats[lane] = nextActiveSeat(activeMasks[lane], seat);
+            turns[lane]++;
+        }
+    }
+
+    /**
+     * Retire phase: records the games that are over or hit the turn limit and packs the live lanes.
+     *
+     * @param result the result to record finished games into
+     */
+    private void retire(SimulationResult result) {
+        for (int lane = live - 1; lane >= 0; lane--) {
+            long active = activeMasks[lane];
+            boolean over = Long.bitCount(active) <= 1;
+            if (over || turns[lane] >= GameSimulator.MAX_TURNS) {
+                result.record(over && active != 0L ? Long.numberOfTrailingZeros(active) : -1, turns[lane]);
+                moveLane(--live, lane);
+            }
+        }
+    }
+
+    /**
+     * Builds the deck of a lane, deals the opening hands round by round and turns the first card.
+     *
+     * @param lane the lane to deal
+     * @param deckRandom the stream of the lane's deck
+     */
+    private void dealLane(int lane, SplittableRandom deckRandom) {
+        deckRandoms[lane] = deckRandom;
+        int deckBase = lane * ROW;
+        for (int id = 0; id < EISCUnoEnum.CARD_COUNT; id++) {
+            decks[deckBase + id] = (byte) id;
+        }
+        deckHeads[lane] = 0;
+        deckSizes[lane] = EISCUnoEnum.CARD_COUNT;
+        if (drawMode == DrawMode.SHUFFLED) {
+            shuffle(lane);
+        }
+
+        for (int seat = 0; seat < totalPlayers; seat++) {
+            hands[seat * capacity + lane] = 0L;
+        }
+        int dealt = handSize * totalPlayers;
+        for (int i = 0; i < dealt; i++) {
+            int cardId = takeTop(lane);
+            hands[(i % totalPlayers) * capacity + lane] |= 1L << cardId;
+        }
+
+        int initialCardId = takeTop(lane);
+        tables[lane * ROW] = (byte) initialCardId;
+        tableSizes[lane] = 1;
+        sums[lane] = Math.max(0, rules.chosenValue(initialCardId, 0));
+        currentSeats[lane] = 0;
+        activeMasks[lane] = totalPlayers == Long.SIZE ? -1L : (1L << totalPlayers) - 1;
+        turns[lane] = 0;
+    }
+
+    /**
+     * Takes the top card of a lane's deck, which must not be empty.
+     *
+     * @param lane the lane
+     * @return the id of the card taken
+     */
+    private int takeTop(int lane) {
+        if (drawMode == DrawMode.LAZY_RANDOM) {
+            swap(lane, deckRandoms[lane].nextInt(deckSizes[lane]), deckSizes[lane] - 1);
+        }
+        int size = --deckSizes[lane];
+        return decks[lane * ROW + ((deckHeads[lane] + size) & ROW_MASK)];
+    }
+
+    /**
+     * Moves every table card but the top one into a lane's empty deck, bottom first, and shuffles it.
+     *
+     * @param lane the lane
+     */
+    private void recycle(int lane) {
+        int recycled = tableSizes[lane] - 1;
+        if (recycled <= 0) {
+            return;
+        }
+        int tableBase = lane * ROW;
+        System.arraycopy(tables, tableBase, decks, lane * ROW, recycled);
+        deckHeads[lane] = 0;
+        deckSizes[lane] = recycled;
+        tables[tableBase] = tables[tableBase + recycled];
+        tableSizes[lane] = 1;
+        if (drawMode == DrawMode.SHUFFLED) {
+            shuffle(lane);
+        }
+    }
+
+    /**
+     * Eliminates a seat: its hand goes under the deck in card id order, the lowest id at the very bottom.
+     *
+     * @param lane the lane
+     * @param seat the seat to eliminate
+     */
+    private void eliminate(int lane, int seat) {
+        int slot = seat * capacity + lane;
+        long hand = hands[slot];
+        hands[slot] = 0L;
+        activeMasks[lane] &= ~(1L << seat);
+
+        int deckBase = lane * ROW;
+        deckSizes[lane] += Long.bitCount(hand);
+        while (hand != 0L) {
+            int cardId = Long.SIZE - 1 - Long.numberOfLeadingZeros(hand);
+            hand &= ~(1L << cardId);
+            int head = (deckHeads[lane] - 1) & ROW_MASK;
+            deckHeads[lane] = head;
+            decks[deckBase + head] = (byte) cardId;
+        }
+    }
+
+    /**
+     * Shuffles a lane's deck in place (Fisher-Yates) with the lane's deck stream, as the deck does.
+     *
+     * @param lane the lane
+     */
+    private void shuffle(int lane) {
+        SplittableRandom random = deckRandoms[lane];
+        for (int i = deckSizes[lane] - 1; i > 0; i--) {
+            swap(lane, i, random.nextInt(i + 1));
+        }
+    }
+
+    /**
+     * Swaps two deck positions of a lane, counted from the bottom.
+     *
+     * @param lane the lane
+     * @param i the first position
+     * @param j the second position
+     */
+    private void swap(int lane, int i, int j) {
+        int base = lane * ROW;
+        int a = base + ((deckHeads[lane] + i) & ROW_MASK);
+        int b = base + ((deckHeads[lane] + j) & ROW_MASK);
+        byte tmp = decks[a];
+        decks[a] = decks[b];
+        decks[b] = tmp;
+    }
+
+    /**
+     * Copies the whole state of one lane into another.
+     *
+     * @param from the lane to copy
+     * @param to the lane to overwrite
+     */
+    private void moveLane(int from, int to) {
+        if (from == to) {
+            deckRandoms[from] = null;
+            return;
+        }
+        for (int seat = 0; seat < totalPlayers; seat++) {
+            hands[seat * capacity + to] = hands[seat * capacity + from];
+        }
+        sums[to] = sums[from];
+        currentSeats[to] = currentSeats[from];
+        activeMasks[to] = activeMasks[from];
+        turns[to] = turns[from];
+        System.arraycopy(decks, from * ROW, decks, to * ROW, ROW);
+        deckHeads[to] = deckHeads[from];
+        deckSizes[to] = deckSizes[from];
+        System.arraycopy(tables, from * ROW, tables, to * ROW, tableSizes[from]);
+        tableSizes[to] = tableSizes[from];
+        deckRandoms[to] = deckRandoms[from];
+        deckRandoms[from] = null;
+    }
+
+    /**
+     * Gets the first active seat after a seat, wrapping around.
+     *
+     * @param activeMask the active seats
+     * @param seat the seat to start from
+     * @return the next active seat, or the same seat if none is active
+     */
+    private static int nextActiveSeat(long activeMask, int seat) {
+        if (activeMask == 0L) {
+            return seat;
+        }
+        long after = seat + 1 < Long.SIZE ? activeMask & (-1L << (seat + 1)) : 0L;
+        return Long.numberOfTrailingZeros(after != 0L ? after : activeMask);
+    }
+}
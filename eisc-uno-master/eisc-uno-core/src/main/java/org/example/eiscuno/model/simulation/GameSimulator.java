@@ -0,0 +1,215 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.DrawMode;
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.game.MoveResult;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rules.CompiledRules;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Runs headless Cincuentazo games in which every seat is played by the machine strategy.
+ * Games are grouped in fixed-size chunks; each chunk receives a stream split from the master
+ * generator in chunk order, and each game a stream split from its chunk's stream in game order.
+ * Chunks are then played in parallel with no shared state, so the aggregated result for a master
+ * seed is bit-identical regardless of the number of cores used.
+ * Games play by the standard rules unless a {@link CompiledRules} is given.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class GameSimulator {
+
+    /** Number of games played from the same chunk stream. */
+    private static final int CHUNK_SIZE = 1024;
+
+    /** Safety limit of turns for a single game. */
+    static final int MAX_TURNS = 10_000;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GameSimulator() {
+    }
+
+    /**
+     * Simulates a number of games in parallel from a master seed.
+     *
+     * @param masterSeed the master seed; the same seed always yields the same result
+     * @param games the number of games to simulate
+     * @param numberOfMachinePlayers the number of machine players besides seat 0
+     * @return the aggregated result of all games
+     */
+    public static SimulationResult simulate(long masterSeed, int games, int numberOfMachinePlayers) {
+        return simulate(masterSeed, games, numberOfMachinePlayers, DrawMode.SHUFFLED);
+    }
+
+    /**
+     * Simulates a number of games in parallel from a master seed using the given deck draw mode.
+     *
+     * @param masterSeed the master seed; the same seed always yields the same result
+     * @param games the number of games to simulate
+     * @param numberOfMachinePlayers the number of machine players besides seat 0
+     * @param drawMode how the decks randomize drawn cards
+     * @return the aggregated result of all games
+     */
+    public static SimulationResult simulate(long masterSeed, int games, int numberOfMachinePlayers, DrawMode drawMode) {
+        return simulate(masterSeed, games, numberOfMachinePlayers, drawMode, CompiledRules.STANDARD);
+    }
+
+    /**
+     * Simulates a number of games in parallel from a master seed under the given rules.
+     *
+     * @param masterSeed the master seed; the same seed always yields the same result
+     * @param games the number of games to simulate
+     * @param numberOfMachinePlayers the number of machine players besides seat 0
+     * @param drawMode how the decks randomize drawn cards
+     * @param rules the rules of every game
+     * @return the aggregated result of all games
+     */
+    public static SimulationResult simulate(long masterSeed, int games, int numberOfMachinePlayers, DrawMode drawMode,
+                                            CompiledRules rules) {
+        SplittableRandom[] chunkRandoms = splitChunks(masterSeed, games);
+
+        return IntStream.range(0, chunkRandoms.length)
+                .parallel()
+                .mapToObj(chunk -> simulateChunk(chunkRandoms[chunk], chunkGames(games, chunk),
+                        numberOfMachinePlayers, drawMode, rules))
+                .reduce(SimulationResult::merge)
+                .orElseGet(() -> new SimulationResult(numberOfMachinePlayers + 1));
+    }
+
+    /**
+     * Splits the chunk streams of a simulation from its master seed, in chunk order.
+     *
+     * @param masterSeed the master seed
+     * @param games the number of games to simulate
+     * @return one stream per chunk
+     */
+    static SplittableRandom[] splitChunks(long masterSeed, int games) {
+        int chunks = (games + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        SplittableRandom master = new SplittableRandom(masterSeed);
+        SplittableRandom[] chunkRandoms = new SplittableRandom[chunks];
+        for (int i = 0; i < chunks; i++) {
+            chunkRandoms[i] = master.split();
+        }
+        return chunkRandoms;
+    }
+
+    /**
+     * Gets the number of games played in a chunk.
+     *
+     * @param games the number of games of the simulation
+     * @param chunk the chunk index
+     * @return the number of games in that chunk
+     */
+    static int chunkGames(int games, int chunk) {
+        return Math.min(CHUNK_SIZE, games - chunk * CHUNK_SIZE);
+    }
+
+    /**
+     * Simulates the games of one chunk sequentially.
+     *
+     * @param chunkRandom the chunk's random stream
+     * @param games the number of games in the chunk
+     * @param numberOfMachinePlayers the number of machine players besides seat 0
+     * @param drawMode how the decks randomize drawn cards
+     * @param rules the rules of every game
+     * @return the result of the chunk
+     */
+    static SimulationResult simulateChunk(SplittableRandom chunkRandom, int games, int numberOfMachinePlayers,
+                                          DrawMode drawMode, CompiledRules rules) {
+        SimulationResult result = new SimulationResult(numberOfMachinePlayers + 1);
+        for (int i = 0; i < games; i++) {
+            playGame(chunkRandom.split(), numberOfMachinePlayers, drawMode, rules, result);
+        }
+        return result;
+    }
+
+    /**
+     * Plays a single game to completion and records its outcome.
+     *
+     * @param random the game's random stream
+     * @param numberOfMachinePlayers the number of machine players besides seat 0
+     * @param drawMode how the deck randomizes drawn cards
+     * @param result the result to record the outcome into
+     */
+    public static void playGame(SplittableRandom random, int numberOfMachinePlayers, DrawMode drawMode,
+                                SimulationResult result) {
+        playGame(random, numberOfMachinePlayers, drawMode, CompiledRules.STANDARD, result);
+    }
+
+    /**
+     * Plays a single game under the given rules to completion and records its outcome.
+     * A game still running after the safety limit of turns is recorded without a winner.
+     *
+     * @param random the game's random stream
+     * @param numberOfMachinePlayers the number of machine players besides seat 0
+     * @param drawMode how the deck randomizes drawn cards
+     * @param rules the rules of the game
+     * @param result the result to record the outcome into
+     */
+    public static void playGame(SplittableRandom random, int numberOfMachinePlayers, DrawMode drawMode,
+                                CompiledRules rules, SimulationResult result) {
+        GameUnoModel game = new GameUnoModel(new Player("JUGADOR_HUMANO"), numberOfMachinePlayers, random, drawMode,
+                rules);
+        game.setSnapshotsEnabled(false);
+        game.startGame();
+
+        int turns = 0;
+        while (!game.isGameOver() && turns < MAX_TURNS) {
+            playTurn(game, game.getCurrentPlayer());
+            turns++;
+        }
+
+        Player winner = game.isGameOver() ? game.determineWinner() : null;
+        result.record(winner != null ? winner.getSeat() : -1, turns);
+    }
+
+    /**
+     * Plays one turn with the machine strategy: play the first legal card with the value the rules
+     * choose for it, draw the rules' number of cards, then either pass the turn or be eliminated.
+     *
+     * Uses the non-throwing try API step by step, which commits exactly what
+     * {@link GameUnoModel#executeTurn(Player, int)} would without building a TurnResult, so the
+     * steady-state turn stays allocation-free. A rejected move means the simulation itself is broken.
+     *
+     * @param game the game being simulated
+     * @param player the current player
+     * @throws IllegalStateException if the game rejects the turn
+     */
+    private static void playTurn(GameUnoModel game, Player player) {
+        Card playableCard = game.findPlayableCard(player);
+        if (playableCard != null) {
+            requireOk(game.tryPlay(player, playableCard));
+        }
+        for (int draws = game.getRules().getDrawCount(); draws > 0; draws--) {
+            MoveResult drawn = game.tryDraw(player);
+            if (drawn != MoveResult.DECK_EMPTY) {
+                requireOk(drawn);
+            }
+        }
+
+        if (!game.canPlayerPlay(player)) {
+            game.eliminatePlayer(player);
+        } else {
+            game.nextTurn();
+        }
+    }
+
+    /**
+     * Checks that a simulated move was committed.
+     *
+     * @param result the outcome of the move
+     * @throws IllegalStateException if the move was rejected
+     */
+    private static void requireOk(MoveResult result) {
+        if (!result.isOk()) {
+            throw new IllegalStateException("Simulated move rejected: " + result);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.eiscuno.model.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Aggregated outcome of a batch of simulated Cincuentazo games.
+ * Holds only integer counters so results merged in any order are identical.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class SimulationResult {
+    private final long[] winsBySeat;
+    private long games;
+    private long gamesWithoutWinner;
+    private long totalTurns;
+
+    /**
+     * Constructs an empty result for a table of the given size.
+     *
+     * @param seats the number of seats at the table
+     */
+    public SimulationResult(int seats) {
+        this.winsBySeat = new long[seats];
+    }
+
+    /**
+     * Records the outcome of one game.
+     *
+     * @param winnerSeat the seat of the winner, or -1 if the game had no winner
+     * @param turns the number of turns the game lasted
+     */
+    public void record(int winnerSeat, int turns) {
+        games++;
+        totalTurns += turns;
+        if (winnerSeat >= 0) {
+            winsBySeat[winnerSeat]++;
+        } else {
+            gamesWithoutWinner++;
+        }
+    }
+
+    /**
+     * Merges two results into a new one.
+     *
+     * @param a the first result
+     * @param b the second result
+     * @return a result holding the sum of both
+     */
+    public static SimulationResult merge(SimulationResult a, SimulationResult b) {
+        SimulationResult merged = new SimulationResult(a.winsBySeat.length);
+        for (int i = 0; i < merged.winsBySeat.length; i++) {
+            merged.winsBySeat[i] = a.winsBySeat[i] + b.winsBySeat[i];
+        }
+        merged.games = a.games + b.games;
+        merged.gamesWithoutWinner = a.gamesWithoutWinner + b.gamesWithoutWinner;
+        merged.totalTurns = a.totalTurns + b.totalTurns;
+        return merged;
+    }
+
+    /**
+     * Gets the number of wins of a seat.
+     *
+     * @param seat the seat index (0 is the first player)
+     * @return the number of games won by that seat
+     */
+    public long getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    /**
+     * Gets the share of all games won by a seat.
+     *
+     * @param seat the seat index (0 is the first player)
+     * @return the win rate of that seat, from 0 to 1
+     */
+    public double getWinRate(int seat) {
+        return games == 0 ? 0.0 : (double) winsBySeat[seat] / games;
+    }
+
+    /**
+     * Gets the number of seats at the table.
+     *
+     * @return the number of seats
+     */
+    public int getSeats() {
+        return winsBySeat.length;
+    }
+
+    /**
+     * Gets the number of simulated games.
+     *
+     * @return the number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games that ended without a winner.
+     *
+     * @return the number of games without winner
+     */
+    public long getGamesWithoutWinner() {
+        return gamesWithoutWinner;
+    }
+
+    /**
+     * Gets the total number of turns played across all games.
+     *
+     * @return the total number of turns
+     */
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    /**
+     * Gets the average number of turns per game.
+     *
+     * @return the average game length in turns
+     */
+    public double getAverageTurns() {
+        return games == 0 ? 0.0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Checks whether two results hold exactly the same counters.
+     *
+     * @param o the object to compare with
+     * @return true if both results are identical, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SimulationResult)) return false;
+        SimulationResult other = (SimulationResult) o;
+        return games == other.games
+                && gamesWithoutWinner == other.gamesWithoutWinner
+                && totalTurns == other.totalTurns
+                && Arrays.equals(winsBySeat, other.winsBySeat);
+    }
+
+    /**
+     * Gets the hash code of the counters.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(winsBySeat) + Long.hashCode(totalTurns);
+    }
+
+    /**
+     * Returns a string representation of the result for reporting purposes.
+     *
+     * @return a string with the counters of the result
+     */
+    @Override
+    public String toString() {
+        return String.format("SimulationResult{games=%d, winsBySeat=%s, noWinner=%d, avgTurns=%.2f}",
+                games, Arrays.toString(winsBySeat), gamesWithoutWinner, getAverageTurns());
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.rules.RuleVariant;
+
+/**
+ * Outcome of simulating one rule variant in a {@link VariantSweep}: how long its games last and how
+ * much the first seat gains over a fair share of the wins.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class VariantReport {
+    private final RuleVariant variant;
+    private final SimulationResult result;
+
+    /**
+     * Constructs the report of a variant.
+     *
+     * @param variant the simulated variant
+     * @param result the aggregated result of its games
+     */
+    public VariantReport(RuleVariant variant, SimulationResult result) {
+        this.variant = variant;
+        this.result = result;
+    }
+
+    /**
+     * Gets the simulated variant.
+     *
+     * @return the variant
+     */
+    public RuleVariant getVariant() {
+        return variant;
+    }
+
+    /**
+     * Gets the aggregated result of the variant's games.
+     *
+     * @return the simulation result
+     */
+    public SimulationResult getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the average game length.
+     *
+     * @return the average number of turns per game
+     */
+    public double getAverageTurns() {
+        return result.getAverageTurns();
+    }
+
+    /**
+     * Gets the first-seat advantage: the share of decided games won by seat 0 minus the fair share of
+     * one seat. Positive values favour the player who moves first; games that hit the turn limit
+     * without a winner are left out.
+     *
+     * @return the first-seat advantage, from -1 to 1, or 0 if no game was decided
+     */
+    public double getFirstSeatAdvantage() {
+        long decided = result.getGames() - result.getGamesWithoutWinner();
+        if (decided == 0) {
+            return 0.0;
+        }
+        return (double) result.getWins(0) / decided - 1.0 / result.getSeats();
+    }
+
+    /**
+     * Returns a one-line summary of the report.
+     *
+     * @return a string with the variant, its game length and its first-seat advantage
+     */
+    @Override
+    public String toString() {
+        return String.format("%s: avgTurns=%.2f, firstSeatAdvantage=%+.4f, noWinner=%d",
+                variant, getAverageTurns(), getFirstSeatAdvantage(), result.getGamesWithoutWinner());
+    }
+}
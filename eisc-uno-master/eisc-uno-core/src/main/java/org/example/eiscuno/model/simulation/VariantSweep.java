@@ -0,0 +1,104 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.deck.DrawMode;
+import org.example.eiscuno.model.rules.CompiledRules;
+import org.example.eiscuno.model.rules.RuleVariant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Simulates a set of rule variants and reports, for each one, its average game length and its
+ * first-seat advantage.
+ * Every variant is played from the same master seed, so all of them see the same chunk and game
+ * streams and their differences come from the rules rather than from the luck of the deal; the result
+ * of each variant is identical to {@link GameSimulator#simulate(long, int, int, DrawMode, CompiledRules)}
+ * with that seed. The chunks of all variants form one pool of parallel tasks, so a grid of many small
+ * variants keeps every core busy.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public final class VariantSweep {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private VariantSweep() {
+    }
+
+    /**
+     * Builds the grid of every combination of the given targets, Ace values, hand sizes and draw counts,
+     * starting from a base variant whose other rules are kept.
+     *
+     * @param base the variant whose card values and Ace policy are kept
+     * @param targetSums the target sums to try
+     * @param aceHighValues the high Ace values to try; a value equal to the low Ace value makes it single-valued
+     * @param handSizes the opening hand sizes to try
+     * @param drawCounts the numbers of cards drawn per turn to try
+     * @return the variants, target sum varying slowest and draw count fastest
+     * @throws IllegalArgumentException if a combination is not a valid variant
+     */
+    public static List<RuleVariant> grid(RuleVariant base, int[] targetSums, int[] aceHighValues, int[] handSizes,
+                                         int[] drawCounts) {
+        List<RuleVariant> variants = new ArrayList<>();
+        for (int targetSum : targetSums) {
+            for (int aceHighValue : aceHighValues) {
+                for (int handSize : handSizes) {
+                    for (int drawCount : drawCounts) {
+                        variants.add(base.withTargetSum(targetSum)
+                                .withAceValues(base.getAceLowValue(), aceHighValue, base.getAcePolicy())
+                                .withHandSize(handSize)
+                                .withDrawCount(drawCount));
+                    }
+                }
+            }
+        }
+        return variants;
+    }
+
+    /**
+     * Simulates every variant in parallel.
+     *
+     * @param variants the variants to simulate
+     * @param masterSeed the master seed shared by every variant
+     * @param gamesPerVariant the number of games simulated for each variant
+     * @param numberOfMachinePlayers the number of machine players besides seat 0
+     * @return one report per variant, in the order of {@code variants}
+     */
+    public static List<VariantReport> run(List<RuleVariant> variants, long masterSeed, int gamesPerVariant,
+                                          int numberOfMachinePlayers) {
+        int count = variants.size();
+        CompiledRules[] rules = new CompiledRules[count];
+        SplittableRandom[][] chunkRandoms = new SplittableRandom[count][];
+        for (int i = 0; i < count; i++) {
+            rules[i] = variants.get(i).compile();
+            chunkRandoms[i] = GameSimulator.splitChunks(masterSeed, gamesPerVariant);
+        }
+        int chunks = count == 0 ? 0 : chunkRandoms[0].length;
+
+        SimulationResult[] chunkResults = new SimulationResult[count * chunks];
+        IntStream.range(0, chunkResults.length)
+                .parallel()
+                .forEach(task -> {
+                    int variant = task / chunks;
+                    int chunk = task % chunks;
+                    chunkResults[task] = GameSimulator.simulateChunk(chunkRandoms[variant][chunk],
+                            GameSimulator.chunkGames(gamesPerVariant, chunk), numberOfMachinePlayers,
+                            DrawMode.SHUFFLED, rules[variant]);
+                });
+
+        List<VariantReport> reports = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SimulationResult result = new SimulationResult(numberOfMachinePlayers + 1);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                result = SimulationResult.merge(result, chunkResults[i * chunks + chunk]);
+            }
+            reports.add(new VariantReport(variants.get(i), result));
+        }
+        return reports;
+    }
+}
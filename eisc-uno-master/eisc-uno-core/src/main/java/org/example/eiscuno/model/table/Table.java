@@ -0,0 +1,197 @@
+package org.example.eiscuno.model.table;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Represents the table in the Cincuentazo game where cards are played.
+ * Manages the cards on the table and tracks the running sum.
+ * The discard pile lives in a reusable array buffer, so recycling it into the deck
+ * moves card references without allocating and leaves the top card and sum untouched.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+public class Table {
+    private Card[] cardsTable;
+    private int numberOfCards;
+    private int currentSum;
+
+    /**
+     * Constructs a new empty table with a sum of zero.
+     */
+    public Table(){
+        this.cardsTable = new Card[EISCUnoEnum.CARD_COUNT];
+        this.numberOfCards = 0;
+        this.currentSum = 0;
+    }
+
+    /**
+     * Adds a card to the table and updates the running sum.
+     *
+     * @param card the card to add to the table
+     */
+    public void addCardOnTheTable(Card card){
+        if (numberOfCards == cardsTable.length) {
+            cardsTable = Arrays.copyOf(cardsTable, cardsTable.length * 2);
+        }
+        this.cardsTable[numberOfCards++] = card;
+        updateSum(card);
+    }
+
+    /**
+     * Adds a card to the table with an explicit value, such as an Ace played as 1 or as 10.
+     *
+     * @param card the card to add to the table
+     * @param value the value the card adds to the sum
+     */
+    public void addCardOnTheTable(Card card, int value){
+        if (numberOfCards == cardsTable.length) {
+            cardsTable = Arrays.copyOf(cardsTable, cardsTable.length * 2);
+        }
+        this.cardsTable[numberOfCards++] = card;
+        this.currentSum = Math.max(0, this.currentSum + value);
+    }
+
+    /**
+     * Updates the current sum based on the card's game value.
+     * Ensures the sum never goes below zero.
+     *
+     * @param card the card whose value will be added to the sum
+     */
+    private void updateSum(Card card) {
+        int cardValue = card.getGameValue(this.currentSum);
+        this.currentSum += cardValue;
+
+        if (this.currentSum < 0) {
+            this.currentSum = 0;
+        }
+    }
+
+    /**
+     * Gets the current card on top of the table.
+     *
+     * @return the last card placed on the table, or null if table is empty
+     */
+    public Card getCurrentCardOnTheTable() {
+        if (numberOfCards == 0) {
+            return null;
+        }
+        return this.cardsTable[numberOfCards - 1];
+    }
+
+    /**
+     * Gets the current sum of all cards on the table.
+     *
+     * @return the current sum
+     */
+    public int getCurrentSum() {
+        return currentSum;
+    }
+
+    /**
+     * Sets the current sum to a specific value.
+     * Used for game state management.
+     *
+     * @param sum the new sum value
+     */
+    public void setCurrentSum(int sum) {
+        this.currentSum = sum;
+    }
+
+    /**
+     * Retrieves all cards except the last one for recycling into the deck.
+     * Keeps only the top card on the table.
+     *
+     * @return an ArrayList containing all cards except the last one
+     */
+    public ArrayList<Card> getAllCardsExceptLast() {
+        if (numberOfCards <= 1) {
+            return new ArrayList<>();
+        }
+        ArrayList<Card> recycledCards = new ArrayList<>(Arrays.asList(cardsTable).subList(0, numberOfCards - 1));
+        keepOnlyTopCard();
+        return recycledCards;
+    }
+
+    /**
+     * Moves all cards except the top one into the deck, in table order, without allocating.
+     * The top card and the running sum stay on the table.
+     *
+     * @param deck the deck that receives the recycled cards
+     * @return the number of cards moved into the deck
+     */
+    public int recycleInto(Deck deck) {
+        if (numberOfCards <= 1) {
+            return 0;
+        }
+        int recycled = numberOfCards - 1;
+        deck.recycleCards(cardsTable, 0, recycled);
+        keepOnlyTopCard();
+        return recycled;
+    }
+
+    /**
+     * Moves the top card to the bottom of the buffer and clears every other slot.
+     */
+    private void keepOnlyTopCard() {
+        Card lastCard = cardsTable[numberOfCards - 1];
+        Arrays.fill(cardsTable, 1, numberOfCards, null);
+        cardsTable[0] = lastCard;
+        numberOfCards = 1;
+    }
+
+    /**
+     * Gets a card of the table given its position counted from the bottom.
+     *
+     * @param index the position, from 0 (bottom) to {@code getNumberOfCards() - 1} (top)
+     * @return the card at that position
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    public Card getCardAt(int index) {
+        if (index < 0 || index >= numberOfCards) {
+            throw new IndexOutOfBoundsException("Position " + index + " out of " + numberOfCards);
+        }
+        return cardsTable[index];
+    }
+
+    /**
+     * Replaces the cards and the sum of the table. Used to restore a saved game state.
+     *
+     * @param cards the cards of the table, bottom first
+     * @param count the number of cards to take from the array
+     * @param sum the sum on the table
+     */
+    public void restore(Card[] cards, int count, int sum) {
+        if (count > cardsTable.length) {
+            cardsTable = new Card[count];
+        }
+        Arrays.fill(cardsTable, null);
+        System.arraycopy(cards, 0, cardsTable, 0, count);
+        numberOfCards = count;
+        currentSum = sum;
+    }
+
+    /**
+     * Checks if the table is empty.
+     *
+     * @return true if no cards are on the table, false otherwise
+     */
+    public boolean isEmpty() {
+        return numberOfCards == 0;
+    }
+
+    /**
+     * Gets the total number of cards currently on the table.
+     *
+     * @return the number of cards on the table
+     */
+    public int getNumberOfCards() {
+        return numberOfCards;
+    }
+}
\ No newline at end of file
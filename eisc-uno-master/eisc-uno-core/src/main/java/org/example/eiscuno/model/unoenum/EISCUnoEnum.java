@@ -3,6 +3,9 @@ package org.example.eiscuno.model.unoenum;
 /**
  * Enumeration of all cards in the Cincuentazo game.
  * Maps card identifiers to their image file paths for a standard 52-card French deck.
+ * The first 52 constants are the playable cards; their ordinal is the card id (0..51),
+ * laid out as {@code suit * 13 + rank}. Rank, suit, base value and ace flag for every id
+ * are precomputed in primitive lookup tables so the game rules never parse names or labels.
  *
  * @author Jairo Andrés Tegue
  * @version 1.0
@@ -69,6 +72,36 @@ public enum EISCUnoEnum {
     DECK_OF_CARDS("/org/example/eiscuno/images/Carta_oculta.png"),
     CARD_BACK("/org/example/eiscuno/images/Fondo_50ZO.png");
 
+    /** Number of playable cards in a standard deck, which is also the number of card ids. */
+    public static final int CARD_COUNT = 52;
+
+    /** Number of ranks per suit (2-10, J, Q, K, A). */
+    public static final int RANK_COUNT = 13;
+
+    /** Number of suits in the deck. */
+    public static final int SUIT_COUNT = 4;
+
+    private static final EISCUnoEnum[] VALUES = values();
+    private static final String[] RANK_LABELS = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A"};
+    private static final int[] RANK_VALUES = {2, 3, 4, 5, 6, 7, 8, 0, 10, -10, -10, -10, 1};
+    private static final String[] SUIT_NAMES = {"HEARTS", "DIAMONDS", "SPADES", "CLUBS"};
+    private static final int ACE_RANK = 12;
+
+    private static final byte[] RANK = new byte[CARD_COUNT];
+    private static final byte[] SUIT = new byte[CARD_COUNT];
+    private static final int[] BASE_VALUE = new int[CARD_COUNT];
+    private static final boolean[] ACE = new boolean[CARD_COUNT];
+
+    static {
+        for (int id = 0; id < CARD_COUNT; id++) {
+            int rank = id % RANK_COUNT;
+            RANK[id] = (byte) rank;
+            SUIT[id] = (byte) (id / RANK_COUNT);
+            BASE_VALUE[id] = RANK_VALUES[rank];
+            ACE[id] = rank == ACE_RANK;
+        }
+    }
+
     private final String filePath;
 
     /**
@@ -88,4 +121,83 @@ public enum EISCUnoEnum {
     public String getFilePath() {
         return filePath;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the card id of this constant.
+     *
+     * @return the card id (0..51), or -1 for constants that are not playable cards
+     */
+    public int getId() {
+        return ordinal() < CARD_COUNT ? ordinal() : -1;
+    }
+
+    /**
+     * Gets the enum constant for a card id.
+     *
+     * @param id the card id (0..51)
+     * @return the enum constant of that card
+     */
+    public static EISCUnoEnum fromId(int id) {
+        return VALUES[id];
+    }
+
+    /**
+     * Gets the rank index of a card (0 for "2" up to 12 for "A").
+     *
+     * @param id the card id (0..51)
+     * @return the rank index
+     */
+    public static int rankOf(int id) {
+        return RANK[id];
+    }
+
+    /**
+     * Gets the suit index of a card (0 hearts, 1 diamonds, 2 spades, 3 clubs).
+     *
+     * @param id the card id (0..51)
+     * @return the suit index
+     */
+    public static int suitOf(int id) {
+        return SUIT[id];
+    }
+
+    /**
+     * Gets the base Cincuentazo value of a card (an Ace counts as 1).
+     *
+     * @param id the card id (0..51)
+     * @return the base value of the card
+     */
+    public static int baseValueOf(int id) {
+        return BASE_VALUE[id];
+    }
+
+    /**
+     * Checks whether a card is an Ace.
+     *
+     * @param id the card id (0..51)
+     * @return true if the card is an Ace, false otherwise
+     */
+    public static boolean isAce(int id) {
+        return ACE[id];
+    }
+
+    /**
+     * Gets the display label of a card's rank.
+     *
+     * @param id the card id (0..51)
+     * @return the rank label (2-10, J, Q, K, A)
+     */
+    public static String rankLabelOf(int id) {
+        return RANK_LABELS[RANK[id]];
+    }
+
+    /**
+     * Gets the suit name of a card.
+     *
+     * @param id the card id (0..51)
+     * @return the suit name (HEARTS, DIAMONDS, SPADES, CLUBS)
+     */
+    public static String suitNameOf(int id) {
+        return SUIT_NAMES[SUIT[id]];
+    }
+}
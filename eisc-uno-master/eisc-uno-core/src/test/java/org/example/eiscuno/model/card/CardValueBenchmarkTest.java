@@ -0,0 +1,101 @@
+package org.example.eiscuno.model.card;
+
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark of the id path of {@link CardValueCalculator} against the String path it replaced on the
+ * hot path: the same playability and value checks over every card and every sum from 0 to 50, with
+ * checksums that must match. The id path only reads the {@link EISCUnoEnum} tables, while the String
+ * path switches on the rank label and parses it.
+ * Tagged {@code performance}: run it with {@code mvn -Pperformance test}.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+@Tag("performance")
+class CardValueBenchmarkTest {
+
+    /** Passes over every card and sum; each pass makes 52 * 51 checks. */
+    private static final int PASSES = 20_000;
+
+    private static final int REPETITIONS = 4;
+
+    /** Smallest speedup of the id path over the String path. */
+    private static final double MIN_SPEEDUP = 3.0;
+
+    @Test
+    void idPathIsFasterThanStringPath() {
+        String[] labels = new String[EISCUnoEnum.CARD_COUNT];
+        for (int id = 0; id < labels.length; id++) {
+            labels[id] = EISCUnoEnum.rankLabelOf(id);
+        }
+        assertEquals(stringPath(labels, 1), idPath(1));
+
+        double bestString = Double.MAX_VALUE;
+        double bestId = Double.MAX_VALUE;
+        for (int repetition = 0; repetition < REPETITIONS; repetition++) {
+            long start = System.nanoTime();
+            long stringChecksum = stringPath(labels, PASSES);
+            bestString = Math.min(bestString, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            long idChecksum = idPath(PASSES);
+            bestId = Math.min(bestId, System.nanoTime() - start);
+            assertEquals(stringChecksum, idChecksum);
+        }
+
+        double checks = (double) PASSES * EISCUnoEnum.CARD_COUNT * (CardValueCalculator.MAX_SUM + 1);
+        System.out.printf("String path: %5.2f ns/op%nid path:     %5.2f ns/op%nspeedup=%.1fx%n",
+                bestString / checks, bestId / checks, bestString / bestId);
+        assertTrue(bestString / bestId >= MIN_SPEEDUP, "id path is only " + bestString / bestId + "x faster");
+    }
+
+    /**
+     * Runs the checks through the String methods.
+     *
+     * @param labels the rank label of every card id
+     * @param passes the number of passes over every card and sum
+     * @return a checksum of the results
+     */
+    private static long stringPath(String[] labels, int passes) {
+        long checksum = 0;
+        for (int pass = 0; pass < passes; pass++) {
+            for (int sum = 0; sum <= CardValueCalculator.MAX_SUM; sum++) {
+                for (String label : labels) {
+                    if (CardValueCalculator.isValidPlay(label, sum)) {
+                        checksum += "A".equals(label)
+                                ? CardValueCalculator.calculateOptimalAValue(sum)
+                                : CardValueCalculator.calculateValue(label);
+                    }
+                }
+            }
+        }
+        return checksum;
+    }
+
+    /**
+     * Runs the checks through the id methods.
+     *
+     * @param passes the number of passes over every card and sum
+     * @return a checksum of the results
+     */
+    private static long idPath(int passes) {
+        long checksum = 0;
+        for (int pass = 0; pass < passes; pass++) {
+            for (int sum = 0; sum <= CardValueCalculator.MAX_SUM; sum++) {
+                for (int id = 0; id < EISCUnoEnum.CARD_COUNT; id++) {
+                    if (CardValueCalculator.isValidPlay(id, sum)) {
+                        checksum += CardValueCalculator.calculateGameValue(id, sum);
+                    }
+                }
+            }
+        }
+        return checksum;
+    }
+}
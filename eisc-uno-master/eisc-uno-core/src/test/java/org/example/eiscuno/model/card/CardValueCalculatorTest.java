@@ -0,0 +1,44 @@
+package org.example.eiscuno.model.card;
+
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that the id-based {@link CardValueCalculator} methods, backed by the {@link EISCUnoEnum} tables,
+ * agree with the String-based methods kept for existing callers, for every card and every sum.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class CardValueCalculatorTest {
+
+    @Test
+    void idTablesAgreeWithTheStringMethods() {
+        for (int id = 0; id < EISCUnoEnum.CARD_COUNT; id++) {
+            String label = EISCUnoEnum.rankLabelOf(id);
+            Card card = new Card(id);
+            assertEquals(id, EISCUnoEnum.fromId(id).getId());
+            assertEquals(label, card.getValue());
+            assertEquals(EISCUnoEnum.suitNameOf(id), card.getColor());
+            assertEquals(CardValueCalculator.calculateValue(label), CardValueCalculator.calculateValue(id), label);
+            assertEquals("A".equals(label), EISCUnoEnum.isAce(id), label);
+
+            for (int sum = 0; sum <= CardValueCalculator.MAX_SUM; sum++) {
+                String where = label + " of " + card.getColor() + " on " + sum;
+                boolean playable = CardValueCalculator.isValidPlay(label, sum);
+                int value = "A".equals(label)
+                        ? CardValueCalculator.calculateOptimalAValue(sum)
+                        : CardValueCalculator.calculateValue(label);
+
+                assertEquals(playable, CardValueCalculator.isValidPlay(id, sum), where);
+                assertEquals(playable, (CardValueCalculator.playableMask(sum) & (1L << id)) != 0L, where);
+                assertEquals(playable, card.canBePlayed(sum), where);
+                assertEquals(value, CardValueCalculator.calculateGameValue(id, sum), where);
+                assertEquals(value, card.getGameValue(sum), where);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.eiscuno.model.clock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of {@link VirtualClock}.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class VirtualClockTest {
+
+    @Test
+    void advanceToStopsAtTheTargetBehindACancelledTask() {
+        VirtualClock clock = new VirtualClock();
+        List<Long> runAt = new ArrayList<>();
+        clock.schedule(() -> runAt.add(clock.currentTimeMillis()), 100).cancel();
+        clock.schedule(() -> runAt.add(clock.currentTimeMillis()), 500);
+
+        assertEquals(0, clock.advanceTo(200));
+        assertEquals(200, clock.currentTimeMillis());
+        assertEquals(List.of(), runAt);
+
+        assertEquals(1, clock.advanceTo(500));
+        assertEquals(List.of(500L), runAt);
+    }
+
+    @Test
+    void advanceToRunsTasksScheduledByDueTasks() {
+        VirtualClock clock = new VirtualClock();
+        List<Long> runAt = new ArrayList<>();
+        clock.schedule(() -> {
+            runAt.add(clock.currentTimeMillis());
+            clock.schedule(() -> runAt.add(clock.currentTimeMillis()), 50);
+            clock.schedule(() -> runAt.add(clock.currentTimeMillis()), 500);
+        }, 100);
+
+        assertEquals(2, clock.advanceTo(300));
+        assertEquals(List.of(100L, 150L), runAt);
+        assertEquals(300, clock.currentTimeMillis());
+        assertEquals(1, clock.runUntilIdle());
+        assertEquals(List.of(100L, 150L, 600L), runAt);
+    }
+}
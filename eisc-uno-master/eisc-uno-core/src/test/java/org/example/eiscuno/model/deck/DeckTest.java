@@ -0,0 +1,100 @@
+package org.example.eiscuno.model.deck;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Statistical tests of the order in which a {@link Deck} deals its cards.
+ * For every draw position, the card ids drawn there over many seeded decks are checked with a
+ * chi-square goodness-of-fit test against the uniform distribution (51 degrees of freedom).
+ * The significance level is 0.1% over all 52 positions together (Bonferroni), and the decks are
+ * seeded, so the tests are deterministic.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class DeckTest {
+
+    private static final int DECKS = 52_000;
+
+    /** Upper standard normal quantile of 0.001 / 52. */
+    private static final double Z_CRITICAL = 4.11;
+
+    @Test
+    void shuffledDeckDealsEveryPositionUniformly() {
+        assertUniform(DrawMode.SHUFFLED, false);
+    }
+
+    @Test
+    void lazyDeckDrawsEveryPositionUniformly() {
+        assertUniform(DrawMode.LAZY_RANDOM, false);
+    }
+
+    @Test
+    void lazyDeckStaysUniformAfterRecyclingInIdOrder() {
+        assertUniform(DrawMode.LAZY_RANDOM, true);
+    }
+
+    @Test
+    void shuffledDeckStaysUniformAfterRecyclingInIdOrder() {
+        assertUniform(DrawMode.SHUFFLED, true);
+    }
+
+    /**
+     * Deals many decks completely and checks the card distribution of every draw position.
+     *
+     * @param drawMode the draw mode of the decks
+     * @param recycleInIdOrder whether every deck is first emptied and refilled in card id order
+     *                         through {@link Deck#recycleCards(Card[], int, int)}
+     */
+    private static void assertUniform(DrawMode drawMode, boolean recycleInIdOrder) {
+        int cardCount = EISCUnoEnum.CARD_COUNT;
+        long[][] counts = new long[cardCount][cardCount];
+        SplittableRandom seeds = new SplittableRandom(2025L);
+        Card[] cards = new Card[cardCount];
+        for (int d = 0; d < DECKS; d++) {
+            Deck deck = new Deck(seeds.split(), drawMode);
+            if (recycleInIdOrder) {
+                deck.takeCards(cards, cardCount);
+                Arrays.sort(cards, Comparator.comparingInt(Card::getId));
+                deck.recycleCards(cards, 0, cardCount);
+            }
+            for (int draw = 0; draw < cardCount; draw++) {
+                counts[draw][deck.takeCard().getId()]++;
+            }
+        }
+
+        double critical = chiSquareCritical(cardCount - 1, Z_CRITICAL);
+        double expected = (double) DECKS / cardCount;
+        for (int draw = 0; draw < cardCount; draw++) {
+            double chiSquare = 0.0;
+            for (long count : counts[draw]) {
+                chiSquare += (count - expected) * (count - expected) / expected;
+            }
+            int position = draw;
+            double statistic = chiSquare;
+            assertTrue(statistic < critical, () -> drawMode + " draw " + position + ": chi2 = " + statistic
+                    + ", critical " + critical);
+        }
+    }
+
+    /**
+     * Approximates a chi-square quantile with the Wilson-Hilferty transformation.
+     *
+     * @param degreesOfFreedom the degrees of freedom
+     * @param z the standard normal quantile of the same upper tail
+     * @return the chi-square value exceeded with that tail probability
+     */
+    private static double chiSquareCritical(int degreesOfFreedom, double z) {
+        double v = 2.0 / (9.0 * degreesOfFreedom);
+        return degreesOfFreedom * Math.pow(1.0 - v + z * Math.sqrt(v), 3);
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.eiscuno.model.engine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.exceptions.PlayerEliminatedException;
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.game.TurnResult;
+import org.example.eiscuno.model.player.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link AsyncGameUno}: games driven through the engine match the model played directly,
+ * futures complete in submission order and the synchronous calls behave on any thread.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class AsyncGameUnoTest {
+
+    private static final int GAMES = 300;
+
+    private final GameRuntime runtime = new GameRuntime(1, 1);
+
+    @AfterEach
+    void shutdownRuntime() {
+        runtime.shutdown();
+    }
+
+    @Test
+    void gamesThroughTheEngineMatchTheDirectModel() {
+        for (int seed = 0; seed < GAMES; seed++) {
+            GameUnoModel direct = newGame(seed);
+            AsyncGameUno async = newFacade(runtime.newEngine(newGame(seed)));
+            direct.startGame();
+            async.startGame();
+
+            while (!direct.isGameOver()) {
+                int seat = direct.getCurrentPlayerIndex();
+                int move = optimalMove(direct);
+                TurnResult expected = direct.executeTurn(direct.getPlayerAt(seat), move);
+                TurnResult actual = async.executeTurn(async.getEngine().getGame().getPlayerAt(seat), move);
+                assertSameTurn(expected, actual);
+            }
+            assertTrue(async.isGameOver());
+            assertEquals(direct.captureState(), async.getEngine().submit(GameUnoModel::captureState).join());
+        }
+    }
+
+    @Test
+    void futuresCompleteInSubmissionOrder() throws Exception {
+        GameUnoModel direct = newGame(11L);
+        AsyncGameUno async = newFacade(runtime.newEngine(newGame(11L)));
+        direct.startGame();
+        async.startGameAsync();
+
+        List<Integer> completions = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<TurnResult>> futures = new ArrayList<>();
+        List<TurnResult> expected = new ArrayList<>();
+        while (!direct.isGameOver()) {
+            int seat = direct.getCurrentPlayerIndex();
+            int move = optimalMove(direct);
+            expected.add(direct.executeTurn(direct.getPlayerAt(seat), move));
+            int index = futures.size();
+            CompletableFuture<TurnResult> future =
+                    async.executeTurnAsync(async.getEngine().getGame().getPlayerAt(seat), move);
+            future.thenRun(() -> completions.add(index));
+            futures.add(future);
+        }
+        CompletableFuture<Boolean> over = async.isGameOverAsync();
+
+        assertTrue(over.get(5, TimeUnit.SECONDS));
+        for (int i = 0; i < futures.size(); i++) {
+            assertTrue(futures.get(i).isDone(), "turn " + i + " completes before a later command");
+            assertSameTurn(expected.get(i), futures.get(i).join());
+        }
+        List<Integer> inOrder = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            inOrder.add(i);
+        }
+        assertEquals(inOrder, completions);
+    }
+
+    @Test
+    void awaitRethrowsPlayerEliminated() {
+        AsyncGameUno async = newFacade(runtime.newEngine(newGame(5L)));
+        async.startGame();
+        Player machine = async.getEngine().getGame().getPlayerAt(1);
+        async.getEngine().eliminate(machine).join();
+        Card card = async.getEngine().submit(game -> game.getHumanPlayer().getCard(0)).join();
+
+        assertThrows(PlayerEliminatedException.class, () -> async.playCard(card, machine));
+        assertThrows(PlayerEliminatedException.class, () -> async.eatCard(machine, 1));
+        assertThrows(IllegalArgumentException.class, () -> async.playCard(card, null),
+                "other failures keep their own type too");
+    }
+
+    @Test
+    void syncCallsFromTheEngineRunInPlace() throws Exception {
+        GameEngine dedicated = new GameEngine(newGame(9L));
+        assertSyncCallsRunInPlace(newFacade(dedicated));
+        dedicated.shutdown();
+
+        assertSyncCallsRunInPlace(newFacade(runtime.newEngine(newGame(9L))));
+    }
+
+    /**
+     * Runs synchronous facade calls from within an engine command, where waiting would deadlock.
+     *
+     * @param async the facade of a started engine
+     * @throws Exception if the command fails or does not finish in time
+     */
+    private static void assertSyncCallsRunInPlace(AsyncGameUno async) throws Exception {
+        CompletableFuture<Boolean> result = async.getEngine().submit(game -> {
+            async.startGame();
+            Player player = game.getCurrentPlayer();
+            assertTrue(async.executeTurn(player, optimalMove(game)).isOk());
+            assertEquals(4, async.getCurrentVisibleCardsHumanPlayer(0).length);
+            return async.isGameOver();
+        });
+        assertFalse(result.get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Asserts that two turns had the same outcome.
+     *
+     * @param expected the turn played on the direct model
+     * @param actual the turn played through the engine
+     */
+    private static void assertSameTurn(TurnResult expected, TurnResult actual) {
+        assertEquals(expected.getResult(), actual.getResult());
+        assertEquals(expected.getSeat(), actual.getSeat());
+        assertEquals(expected.getPlayedCardId(), actual.getPlayedCardId());
+        assertEquals(expected.getDrawnCardId(), actual.getDrawnCardId());
+        assertEquals(expected.isEliminated(), actual.isEliminated());
+        assertEquals(expected.getNextSeat(), actual.getNextSeat());
+        assertEquals(expected.getCurrentSum(), actual.getCurrentSum());
+    }
+
+    /**
+     * Builds the facade of an engine and starts the engine.
+     *
+     * @param engine the engine, not started
+     * @return the facade
+     */
+    private static AsyncGameUno newFacade(GameEngine engine) {
+        engine.start();
+        return new AsyncGameUno(engine);
+    }
+
+    /**
+     * Creates a seeded four-seat game.
+     *
+     * @param seed the seed of the game
+     * @return the game, not started
+     */
+    private static GameUnoModel newGame(long seed) {
+        return new GameUnoModel(new Player("JUGADOR_HUMANO"), 3, new SplittableRandom(seed));
+    }
+
+    /**
+     * Picks the move of the current player: its lowest playable card with the value the rules choose, or none.
+     *
+     * @param game the game
+     * @return the encoded move
+     */
+    private static int optimalMove(GameUnoModel game) {
+        Card card = game.findPlayableCard(game.getCurrentPlayer());
+        return card != null ? Move.optimal(card.getId(), game.getCurrentSum(), game.getRules()) : Move.NONE;
+    }
+}
@@ -0,0 +1,270 @@
+package org.example.eiscuno.model.engine;
+
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link GameEngine} command execution on its own thread and on a shared executor: commands
+ * from concurrent producers run one at a time, long queues yield the executor and stopped engines fail
+ * their commands instead of leaving them pending.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class GameEngineTest {
+
+    private static final int PRODUCERS = 4;
+
+    private static final int COMMANDS_PER_PRODUCER = 250_000;
+
+    /** Touched only by engine commands; a lost update would show that two ran at once. */
+    private long counter;
+
+    @Test
+    void dedicatedThreadSerializesConcurrentProducers() throws Exception {
+        GameEngine engine = new GameEngine(newGame());
+        engine.start();
+        assertCounterIsExact(engine);
+        engine.shutdown();
+    }
+
+    @Test
+    void sharedExecutorSerializesConcurrentProducers() throws Exception {
+        GameRuntime runtime = new GameRuntime(2, 1);
+        try {
+            GameEngine engine = runtime.newEngine(newGame());
+            engine.start();
+            assertCounterIsExact(engine);
+        } finally {
+            runtime.shutdown();
+        }
+    }
+
+    @Test
+    void commandsRunOnTheEngineThreadOnly() throws Exception {
+        GameEngine dedicated = new GameEngine(newGame());
+        dedicated.start();
+        assertFalse(dedicated.isEngineThread());
+        assertTrue(dedicated.submit(game -> dedicated.isEngineThread()).get(5, TimeUnit.SECONDS));
+        dedicated.shutdown();
+
+        ManualExecutor executor = new ManualExecutor();
+        GameEngine shared = new GameEngine(newGame(), executor);
+        shared.start();
+        CompletableFuture<Boolean> inside = shared.submit(game -> shared.isEngineThread());
+        executor.runNext();
+        assertTrue(inside.get());
+        assertFalse(shared.isEngineThread());
+    }
+
+    @Test
+    void shutdownOfADedicatedEngineRejectsQueuedCommands() throws Exception {
+        GameEngine engine = new GameEngine(newGame());
+        engine.start();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> current = engine.submit(game -> {
+            running.countDown();
+            release.await();
+            return 1;
+        });
+        running.await();
+        List<CompletableFuture<Integer>> queued = submitNumbered(engine, 10);
+
+        engine.shutdown();
+        release.countDown();
+        assertEquals(1, current.get(5, TimeUnit.SECONDS), "the command being executed finishes");
+        queued.forEach(GameEngineTest::assertRejected);
+        assertRejected(engine.submit(game -> 2));
+        assertFalse(engine.isRunning());
+    }
+
+    @Test
+    void shutdownOfASharedEngineRejectsQueuedCommands() {
+        ManualExecutor executor = new ManualExecutor();
+        GameEngine engine = new GameEngine(newGame(), executor);
+        engine.start();
+        List<CompletableFuture<Integer>> queued = submitNumbered(engine, 10);
+
+        engine.shutdown();
+        queued.forEach(GameEngineTest::assertRejected);
+        executor.runNext();
+        assertRejected(engine.submit(game -> 2));
+    }
+
+    @Test
+    void longQueuesYieldTheExecutorEveryDrainBatch() throws Exception {
+        ManualExecutor executor = new ManualExecutor();
+        GameEngine first = new GameEngine(newGame(), executor);
+        GameEngine second = new GameEngine(newGame(), executor);
+        first.start();
+        second.start();
+        List<CompletableFuture<Integer>> firstResults = submitNumbered(first, 150);
+        List<CompletableFuture<Integer>> secondResults = submitNumbered(second, 10);
+        assertEquals(2, executor.tasks.size());
+
+        executor.runNext();
+        assertEquals(64, countDone(firstResults), "a drain runs at most one batch");
+        assertEquals(2, executor.tasks.size(), "the rest of the queue is handed back to the executor");
+
+        executor.runNext();
+        assertEquals(10, countDone(secondResults), "the other engine runs before the first one resumes");
+        executor.runNext();
+        assertEquals(128, countDone(firstResults));
+        executor.runNext();
+        assertEquals(150, countDone(firstResults));
+        assertTrue(executor.tasks.isEmpty());
+        for (int i = 0; i < firstResults.size(); i++) {
+            assertEquals(i, firstResults.get(i).get());
+        }
+    }
+
+    @Test
+    void commandsFailOnceTheExecutorIsShutDown() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        GameEngine engine = new GameEngine(newGame(), executor);
+        engine.start();
+        assertEquals(1, engine.submit(game -> 1).get(5, TimeUnit.SECONDS));
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertRejected(engine.submit(game -> 2));
+        assertRejected(engine.submit(game -> 3));
+    }
+
+    @Test
+    void refusedHandOffFailsTheRestOfTheQueue() throws Exception {
+        ManualExecutor executor = new ManualExecutor();
+        GameEngine engine = new GameEngine(newGame(), executor);
+        engine.start();
+        List<CompletableFuture<Integer>> results = submitNumbered(engine, 100);
+        assertEquals(1, executor.tasks.size(), "one drain is scheduled for the whole queue");
+
+        executor.refusing = true;
+        executor.runNext();
+        for (int i = 0; i < results.size(); i++) {
+            if (i < 64) {
+                assertEquals(i, results.get(i).get());
+            } else {
+                assertRejected(results.get(i));
+            }
+        }
+
+        executor.refusing = false;
+        CompletableFuture<Integer> later = engine.submit(game -> 7);
+        executor.runNext();
+        assertEquals(7, later.get());
+    }
+
+    /**
+     * Has several threads submit counter increments at once and checks that none was lost.
+     *
+     * @param engine the started engine
+     * @throws Exception if a producer or command fails
+     */
+    private void assertCounterIsExact(GameEngine engine) throws Exception {
+        counter = 0;
+        List<CompletableFuture<CompletableFuture<Long>>> producers = new ArrayList<>();
+        for (int producer = 0; producer < PRODUCERS; producer++) {
+            producers.add(CompletableFuture.supplyAsync(() -> {
+                CompletableFuture<Long> last = null;
+                for (int i = 0; i < COMMANDS_PER_PRODUCER; i++) {
+                    last = engine.submit(game -> ++counter);
+                }
+                return last;
+            }, runnable -> new Thread(runnable).start()));
+        }
+        for (CompletableFuture<CompletableFuture<Long>> producer : producers) {
+            producer.get(60, TimeUnit.SECONDS).get(60, TimeUnit.SECONDS);
+        }
+        assertEquals((long) PRODUCERS * COMMANDS_PER_PRODUCER, engine.submit(game -> counter).get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Submits commands that return their own submission index.
+     *
+     * @param engine the engine
+     * @param count the number of commands
+     * @return the futures of the commands, in submission order
+     */
+    private static List<CompletableFuture<Integer>> submitNumbered(GameEngine engine, int count) {
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int value = i;
+            results.add(engine.submit(game -> value));
+        }
+        return results;
+    }
+
+    /**
+     * Counts the futures that are done.
+     *
+     * @param futures the futures
+     * @return how many of them are done
+     */
+    private static int countDone(List<? extends CompletableFuture<?>> futures) {
+        return (int) futures.stream().filter(CompletableFuture::isDone).count();
+    }
+
+    /**
+     * Asserts that a future failed because the engine could not run its command.
+     *
+     * @param future the future of the command
+     */
+    private static void assertRejected(CompletableFuture<?> future) {
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+    }
+
+    /**
+     * Creates a seeded game that is not started.
+     *
+     * @return the game
+     */
+    private static GameUnoModel newGame() {
+        return new GameUnoModel(new Player("JUGADOR_HUMANO"), 3, new SplittableRandom(1L));
+    }
+
+    /**
+     * Executor that queues its tasks until the test runs them and can be told to refuse new ones.
+     */
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean refusing;
+
+        @Override
+        public void execute(Runnable task) {
+            if (refusing) {
+                throw new RejectedExecutionException("refusing");
+            }
+            tasks.add(task);
+        }
+
+        void runNext() {
+            assertTrue(!tasks.isEmpty(), "a drain is scheduled");
+            tasks.poll().run();
+        }
+    }
+}
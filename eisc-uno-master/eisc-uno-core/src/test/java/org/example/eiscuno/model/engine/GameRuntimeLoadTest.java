@@ -0,0 +1,165 @@
+package org.example.eiscuno.model.engine;
+
+import org.example.eiscuno.model.clock.GameClock;
+import org.example.eiscuno.model.clock.PacingPolicy;
+import org.example.eiscuno.model.clock.RealClock;
+import org.example.eiscuno.model.event.GameEvent;
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.machine.MachinePlayerScheduler;
+import org.example.eiscuno.model.player.Player;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test of the shared task runtime: thousands of concurrent bot-only tables (three machine players,
+ * human eliminated at the start) on one runtime with one engine thread per processor and one scheduler thread.
+ * Prints the threads added, the heap held by the live tables and the lag of each machine turn beyond
+ * its requested thinking time.
+ * Tagged {@code performance}: run it with {@code mvn -Pperformance test}. The number of tables and the
+ * thinking time can be set with {@code -Dload.tables} and {@code -Dload.thinkMillis}.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+@Tag("performance")
+class GameRuntimeLoadTest {
+
+    private static final int TABLES = Integer.getInteger("load.tables", 10_000);
+
+    /** Shortest thinking time; moves take one to two times this, as the standard 2 to 4 seconds. */
+    private static final int THINK_MILLIS = Integer.getInteger("load.thinkMillis", 2_000);
+
+    private static final int MAX_TURNS_PER_TABLE = 200;
+
+    private static final long P99_LAG_LIMIT_MILLIS = 250;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @Test
+    void thousandsOfTablesShareTheRuntimeThreads() throws InterruptedException {
+        int engineThreads = Runtime.getRuntime().availableProcessors();
+        long[] lags = new long[TABLES * MAX_TURNS_PER_TABLE];
+        AtomicInteger lagCount = new AtomicInteger();
+        CountDownLatch finished = new CountDownLatch(TABLES);
+        PacingPolicy pacing = new PacingPolicy(THINK_MILLIS, THINK_MILLIS, 0);
+
+        int threadsBefore = threads.getThreadCount();
+        long heapBefore = usedHeapAfterGc();
+        GameRuntime runtime = new GameRuntime(engineThreads, 1);
+        try {
+            RealClock realClock = new RealClock(runtime.getScheduler());
+            CompletableFuture<?>[] dealt = new CompletableFuture<?>[TABLES];
+            long start = System.nanoTime();
+            for (int t = 0; t < TABLES; t++) {
+                GameUnoModel game = new GameUnoModel(new Player("JUGADOR_HUMANO"), 3, t);
+                GameEngine engine = runtime.newEngine(game);
+                LagClock clock = new LagClock(realClock);
+                // Registered before the scheduler, so the lag is taken before the next move is scheduled.
+                game.addGameEventListener(event -> {
+                    if (event.getType() == GameEvent.Type.TURN_PLAYED) {
+                        long lag = clock.takeLagNanos();
+                        if (lag >= 0) {
+                            int i = lagCount.getAndIncrement();
+                            if (i < lags.length) {
+                                lags[i] = lag;
+                            }
+                        }
+                    } else if (event.getType() == GameEvent.Type.GAME_OVER) {
+                        finished.countDown();
+                    }
+                });
+                new MachinePlayerScheduler(engine, clock, pacing).start();
+                engine.start();
+                dealt[t] = engine.submit(model -> {
+                    model.startGame();
+                    model.eliminatePlayer(model.getHumanPlayer());
+                    return null;
+                });
+            }
+            CompletableFuture.allOf(dealt).join();
+            int threadsAdded = threads.getThreadCount() - threadsBefore;
+            long heapPerTable = (usedHeapAfterGc() - heapBefore) / TABLES;
+
+            assertTrue(finished.await(THINK_MILLIS * 2L * MAX_TURNS_PER_TABLE, TimeUnit.MILLISECONDS),
+                    (TABLES - finished.getCount()) + " of " + TABLES + " tables finished");
+            long wallMillis = (System.nanoTime() - start) / 1_000_000;
+
+            int turns = Math.min(lagCount.get(), lags.length);
+            long[] sorted = Arrays.copyOf(lags, turns);
+            Arrays.sort(sorted);
+            long p50 = sorted[turns / 2];
+            long p99 = sorted[turns * 99 / 100];
+            System.out.printf("tables=%d threads added=%d heap=%.1f KB/table machine turns=%d wall=%d ms%n",
+                    TABLES, threadsAdded, heapPerTable / 1024.0, lagCount.get(), wallMillis);
+            System.out.printf("turn lag beyond thinking time: p50=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                    p50 / 1e6, p99 / 1e6, sorted[turns - 1] / 1e6);
+
+            assertTrue(threadsAdded <= engineThreads + 1, threadsAdded + " threads added");
+            assertTrue(p99 <= TimeUnit.MILLISECONDS.toNanos(P99_LAG_LIMIT_MILLIS), "p99 turn lag " + p99 + " ns");
+        } finally {
+            runtime.shutdown();
+        }
+    }
+
+    /**
+     * Gets the heap in use after asking for full collections.
+     *
+     * @return the used heap in bytes
+     * @throws InterruptedException if interrupted while waiting for the collector
+     */
+    private long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Clock of one table that remembers when its latest task was due, so the turn it starts can measure
+     * how late it was played.
+     */
+    private static final class LagClock implements GameClock {
+        private final GameClock clock;
+        private volatile long dueNanos;
+
+        LagClock(GameClock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return clock.currentTimeMillis();
+        }
+
+        @Override
+        public ScheduledTask schedule(Runnable task, long delayMillis) {
+            dueNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+            return clock.schedule(task, delayMillis);
+        }
+
+        /**
+         * Gets how late the turn being played is, and forgets its due time.
+         *
+         * @return the lag in nanoseconds, or -1 if no task was due
+         */
+        long takeLagNanos() {
+            long due = dueNanos;
+            dueNanos = 0L;
+            return due == 0L ? -1L : System.nanoTime() - due;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.eiscuno.model.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of the per-action batching of {@link GameEventBus}.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class GameEventBusTest {
+
+    @Test
+    void failedDeliveryDoesNotRepeatItsEvents() {
+        GameEventBus bus = batchingBus();
+        List<Integer> seen = new ArrayList<>();
+        bus.addListener(new GameEventListener() {
+            @Override
+            public void onEvent(GameEvent event) {
+                seen.add(event.getCardId());
+            }
+
+            @Override
+            public void onEvents(List<GameEvent> events) {
+                GameEventListener.super.onEvents(events);
+                if (events.get(0).getCardId() == 1) {
+                    throw new IllegalStateException("listener failure");
+                }
+            }
+        });
+
+        bus.beginAction();
+        bus.publish(drawn(1));
+        assertThrows(IllegalStateException.class, bus::endAction);
+        bus.beginAction();
+        bus.publish(drawn(2));
+        bus.endAction();
+
+        assertEquals(List.of(1, 2), seen);
+    }
+
+    @Test
+    void listenerMayRunActionsWhileReceivingABatch() {
+        GameEventBus bus = batchingBus();
+        List<Integer> seen = new ArrayList<>();
+        bus.addListener(event -> {
+            seen.add(event.getCardId());
+            if (event.getCardId() == 1) {
+                bus.beginAction();
+                bus.publish(drawn(3));
+                bus.endAction();
+            }
+        });
+
+        bus.beginAction();
+        bus.publish(drawn(1));
+        bus.publish(drawn(2));
+        bus.endAction();
+        bus.beginAction();
+        bus.publish(drawn(4));
+        bus.endAction();
+
+        assertEquals(List.of(1, 3, 2, 4), seen);
+    }
+
+    /**
+     * Creates a bus with per-action batching enabled.
+     *
+     * @return the bus
+     */
+    private static GameEventBus batchingBus() {
+        GameEventBus bus = new GameEventBus();
+        bus.setBatchPerAction(true);
+        return bus;
+    }
+
+    /**
+     * Creates a card-drawn event.
+     *
+     * @param cardId the drawn card id
+     * @return the event
+     */
+    private static GameEvent drawn(int cardId) {
+        return GameEvent.cardDrawn(0, "JUGADOR_HUMANO", cardId, 0, null);
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.eiscuno.model.event;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link GameEventPublisher} with a deliberately slow subscriber, one case per
+ * {@link OverflowPolicy}, and with a subscriber that fails.
+ * The slow subscriber sleeps 1 ms per event and requests one event at a time.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class GameEventPublisherTest {
+
+    private static final int BUFFER_CAPACITY = 64;
+    private static final long SLOW_EVENT_MILLIS = 1;
+
+    @Test
+    void slowSubscriberDoesNotSlowTurnsWhenDroppingOldest() throws InterruptedException {
+        assertDroppingPolicyKeepsGamePace(OverflowPolicy.DROP_OLDEST);
+    }
+
+    @Test
+    void slowSubscriberDoesNotSlowTurnsWhenCoalescing() throws InterruptedException {
+        assertDroppingPolicyKeepsGamePace(OverflowPolicy.COALESCE);
+    }
+
+    @Test
+    void slowSubscriberGetsEveryEventInOrderWhenBlocking() throws InterruptedException {
+        GameEventPublisher publisher = new GameEventPublisher(8, OverflowPolicy.BLOCK);
+        SlowSubscriber subscriber = new SlowSubscriber();
+        publisher.subscribe(subscriber);
+
+        List<GameEvent> published = playGames(publisher, 2);
+        publisher.close();
+
+        assertTrue(subscriber.completed.await(30, TimeUnit.SECONDS), "subscriber was not completed");
+        assertEquals(published, subscriber.received);
+    }
+
+    @Test
+    void failingSubscriberIsCancelledAndNeverBlocksTheGame() {
+        GameEventPublisher publisher = new GameEventPublisher(4, OverflowPolicy.BLOCK);
+        SlowSubscriber subscriber = new SlowSubscriber() {
+            @Override
+            public void onNext(GameEvent item) {
+                if (received.size() == 2) {
+                    throw new IllegalStateException("subscriber failure");
+                }
+                super.onNext(item);
+            }
+        };
+        publisher.subscribe(subscriber);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            playGames(publisher, 20);
+            assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS), "subscriber got no error");
+        });
+        assertInstanceOf(IllegalStateException.class, subscriber.error);
+        assertEquals(0, publisher.getNumberOfSubscribers());
+    }
+
+    /**
+     * Plays games with a slow subscriber under a policy that sheds events, and checks that the games
+     * finish far sooner than the subscriber could consume their events, and that every event was either
+     * delivered or counted as dropped.
+     *
+     * @param policy the overflow policy
+     * @throws InterruptedException if interrupted while waiting for the subscriber
+     */
+    private static void assertDroppingPolicyKeepsGamePace(OverflowPolicy policy) throws InterruptedException {
+        GameEventPublisher publisher = new GameEventPublisher(BUFFER_CAPACITY, policy);
+        SlowSubscriber subscriber = new SlowSubscriber();
+        publisher.subscribe(subscriber);
+
+        long start = System.nanoTime();
+        List<GameEvent> published = playGames(publisher, 200);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long dropped = publisher.getDroppedEvents();
+        publisher.close();
+
+        long subscriberMillis = published.size() * SLOW_EVENT_MILLIS;
+        assertTrue(elapsedMillis < subscriberMillis / 4, "games took " + elapsedMillis + " ms for "
+                + published.size() + " events");
+        assertTrue(subscriber.completed.await(30, TimeUnit.SECONDS), "subscriber was not completed");
+        assertTrue(dropped > 0, "no event was dropped");
+        assertEquals(published.size(), subscriber.received.size() + dropped);
+    }
+
+    /**
+     * Plays seeded four-seat games to the end with the machine strategy, feeding their events to a publisher.
+     *
+     * @param publisher the publisher to feed
+     * @param games the number of games
+     * @return every event published, in order
+     */
+    private static List<GameEvent> playGames(GameEventPublisher publisher, int games) {
+        List<GameEvent> published = new ArrayList<>();
+        for (int seed = 0; seed < games; seed++) {
+            GameUnoModel game = new GameUnoModel(new Player("JUGADOR_HUMANO"), 3, seed);
+            game.addGameEventListener(published::add);
+            game.addGameEventListener(publisher);
+            game.startGame();
+            while (!game.isGameOver()) {
+                Player player = game.getCurrentPlayer();
+                Card card = game.findPlayableCard(player);
+                int move = card != null
+                        ? Move.optimal(card.getId(), game.getCurrentSum(), game.getRules())
+                        : Move.NONE;
+                game.executeTurn(player, move);
+            }
+        }
+        return published;
+    }
+
+    /**
+     * Subscriber that takes {@link #SLOW_EVENT_MILLIS} per event and requests one event at a time.
+     */
+    private static class SlowSubscriber implements Flow.Subscriber<GameEvent> {
+        final List<GameEvent> received = new ArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        volatile Throwable error;
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(GameEvent item) {
+            try {
+                Thread.sleep(SLOW_EVENT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(item);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.deck.DrawMode;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rules.CompiledRules;
+import org.example.eiscuno.model.rules.RuleVariant;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that {@link GameStateStore#executeTurn(long, int)} plays a turn in place exactly as
+ * {@link GameState#executeTurn(int)} does, and without allocating.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class GameStateStoreTest {
+
+    private static final int GAMES = 300;
+
+    /** Turns compared per game; random play can keep a game going far longer than the machine strategy. */
+    private static final int MAX_TURNS = 500;
+
+    @Test
+    void executeTurnMatchesGameStateUnderStandardRules() {
+        assertTurnsMatch(CompiledRules.STANDARD);
+    }
+
+    @Test
+    void executeTurnMatchesGameStateWhenDrawingSeveralCards() {
+        // Three cards a turn recycle the table often, with tables of any size.
+        assertTurnsMatch(RuleVariant.standard().withDrawCount(3).compile());
+    }
+
+    @Test
+    void illegalMoveLeavesTheRecordUntouched() {
+        GameState state = startState(1L, CompiledRules.STANDARD);
+        GameStateStore store = new GameStateStore(4, CompiledRules.STANDARD, 1);
+        store.add(state);
+        long opponentCards = state.getHand((state.getCurrentSeat() + 1) % 4);
+        int notInHand = Move.of(Long.numberOfTrailingZeros(opponentCards), 1);
+
+        assertFalse(store.executeTurn(0, notInHand));
+        assertEquals(state, store.get(0));
+        assertEquals(state.getSeed(), store.get(0).getSeed());
+    }
+
+    @Test
+    void executeTurnAllocatesNothing() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        GameStateStore store = new GameStateStore(4, CompiledRules.STANDARD, 2 * GAMES);
+        for (int seed = 0; seed < 2 * GAMES; seed++) {
+            store.add(startState(seed, CompiledRules.STANDARD));
+        }
+        GameStateRecord record = store.record();
+        playToTheEnd(record, 0, GAMES);
+
+        long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        long turns = playToTheEnd(record, GAMES, 2 * GAMES);
+        long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+
+        assertTrue(turns > GAMES * 10L);
+        assertTrue(allocated < turns / 2, allocated + " B allocated over " + turns + " turns");
+    }
+
+    /**
+     * Plays seeded games with random legal moves, checking after every turn that the stored record equals
+     * the state executed on the heap, seed included.
+     *
+     * @param rules the rules of the games
+     */
+    private static void assertTurnsMatch(CompiledRules rules) {
+        GameStateStore store = new GameStateStore(4, rules, 1);
+        store.addEmpty();
+        int[] moves = new int[Move.MAX_LEGAL_MOVES];
+        int recycles = 0;
+        int eliminations = 0;
+        for (int seed = 0; seed < GAMES; seed++) {
+            SplittableRandom random = new SplittableRandom(seed);
+            GameState state = startState(seed, rules);
+            store.set(0, state);
+            for (int turn = 0; turn < MAX_TURNS && !state.isGameOver(); turn++) {
+                int count = state.legalMoves(moves);
+                int move = count == 0 || random.nextInt(8) == 0 ? Move.NONE : moves[random.nextInt(count)];
+                GameState expected = state.executeTurn(move);
+
+                assertTrue(store.executeTurn(0, move));
+                GameState stored = store.get(0);
+                assertEquals(expected, stored, "game " + seed + ", move " + Move.toString(move));
+                assertEquals(expected.getSeed(), stored.getSeed());
+                if (expected.getSeed() != state.getSeed()) {
+                    recycles++;
+                }
+                if (expected.getActivePlayerCount() < state.getActivePlayerCount()) {
+                    eliminations++;
+                }
+                state = expected;
+            }
+            assertEquals(state.isGameOver(), !store.executeTurn(0, Move.NONE));
+        }
+        assertTrue(recycles > GAMES, "too few recycles: " + recycles);
+        assertTrue(eliminations > GAMES / 4, "too few eliminations: " + eliminations);
+    }
+
+    /**
+     * Plays stored games to the end with the machine strategy through a record.
+     *
+     * @param record the record accessor
+     * @param from the first record to play
+     * @param to the record after the last one to play
+     * @return the number of turns played
+     */
+    private static long playToTheEnd(GameStateRecord record, int from, int to) {
+        CompiledRules rules = CompiledRules.STANDARD;
+        long turns = 0;
+        for (int index = from; index < to; index++) {
+            record.at(index);
+            while (!record.isGameOver()) {
+                long playable = record.getHand(record.getCurrentSeat()) & rules.playableMask(record.getCurrentSum());
+                int move = playable == 0L ? Move.NONE
+                        : Move.optimal(Long.numberOfTrailingZeros(playable), record.getCurrentSum(), rules);
+                record.executeTurn(move);
+                turns++;
+            }
+        }
+        return turns;
+    }
+
+    /**
+     * Captures the opening position of a seeded four-seat game.
+     *
+     * @param seed the seed of the game
+     * @param rules the rules of the game
+     * @return the state after the deal
+     */
+    private static GameState startState(long seed, CompiledRules rules) {
+        GameUnoModel game = new GameUnoModel(new Player("JUGADOR_HUMANO"), 3, new SplittableRandom(seed),
+                DrawMode.SHUFFLED, rules);
+        game.setSnapshotsEnabled(false);
+        game.startGame();
+        return game.captureState();
+    }
+}
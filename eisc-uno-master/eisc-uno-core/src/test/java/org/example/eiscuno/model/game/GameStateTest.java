@@ -0,0 +1,57 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that {@link GameState#executeTurn(int)} plays a turn exactly as {@link GameUnoModel} does.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class GameStateTest {
+
+    private static final int GAMES = 300;
+
+    @Test
+    void executeTurnMatchesTheModelStepByStep() {
+        int compared = 0;
+        int eliminations = 0;
+        for (int seed = 0; seed < GAMES; seed++) {
+            GameUnoModel game = new GameUnoModel(new Player("JUGADOR_HUMANO"), 3, seed);
+            game.setSnapshotsEnabled(false);
+            game.startGame();
+
+            while (!game.isGameOver()) {
+                GameState before = game.captureState();
+                Player player = game.getCurrentPlayer();
+                Card card = game.findPlayableCard(player);
+                int move = card != null
+                        ? Move.optimal(card.getId(), game.getCurrentSum(), game.getRules())
+                        : Move.NONE;
+
+                GameState expected = before.executeTurn(move);
+                TurnResult turn = game.executeTurn(player, move);
+                assertNotNull(expected, "state rejected a move the model played");
+                assertTrue(turn.isOk());
+
+                // A recycle shuffles with the model's own random stream, so only the other turns must match.
+                if (turn.getRecycledCards() == 0) {
+                    assertEquals(expected, game.captureState(), "game " + seed + ", " + turn);
+                    compared++;
+                    if (turn.isEliminated()) {
+                        eliminations++;
+                    }
+                }
+            }
+        }
+        assertTrue(compared > GAMES * 10, "too few turns compared: " + compared);
+        assertTrue(eliminations > GAMES, "too few eliminations compared: " + eliminations);
+    }
+}
@@ -0,0 +1,470 @@
+package org.example.eiscuno.model.game;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.DrawMode;
+import org.example.eiscuno.model.event.GameEvent;
+import org.example.eiscuno.model.event.GameEventListener;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.rules.CompiledRules;
+import org.example.eiscuno.model.rules.RuleVariant;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the turn API of {@link GameUnoModel}: the events published by
+ * {@link GameUnoModel#executeTurn(Player, int)}, legal move generation and the codes of the try methods.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class GameUnoModelTest {
+
+    private static final int GAMES = 200;
+
+    private static final int TWO = 0;
+    private static final int NINE = 7;
+    private static final int TEN = 8;
+    private static final int KING = 11;
+    private static final int ACE = 12;
+
+    /** Every seat active. */
+    private static final long ALL_SEATS = 0b1111L;
+
+    @Test
+    void turnBatchCarriesEliminationAndGameOver() {
+        for (int seed = 0; seed < GAMES; seed++) {
+            GameUnoModel game = newGame(seed, CompiledRules.STANDARD);
+            List<List<GameEvent>> batches = recordBatches(game);
+            game.startGame();
+            int eliminations = 0;
+
+            while (!game.isGameOver()) {
+                Player player = game.getCurrentPlayer();
+                int before = batches.size();
+                TurnResult turn = game.executeTurn(player, optimalMove(game, player));
+                assertEquals(before + 1, batches.size(), "a turn is delivered as one batch");
+
+                List<GameEvent> batch = batches.get(before);
+                List<GameEvent.Type> expected = new ArrayList<>(List.of(GameEvent.Type.TURN_PLAYED));
+                if (turn.isEliminated()) {
+                    expected.add(GameEvent.Type.PLAYER_ELIMINATED);
+                    assertEquals(turn.getSeat(), batch.get(1).getSeat());
+                    eliminations++;
+                }
+                if (turn.isGameOver()) {
+                    expected.add(GameEvent.Type.GAME_OVER);
+                    assertEquals(game.determineWinner().getSeat(), batch.get(batch.size() - 1).getSeat());
+                }
+                assertEquals(expected, types(batch));
+            }
+
+            assertEquals(3, eliminations);
+            assertEquals(1, batches.stream().flatMap(List::stream)
+                    .filter(event -> event.getType() == GameEvent.Type.GAME_OVER).count());
+        }
+    }
+
+    @Test
+    void turnPlayedCountsEveryDrawnCard() {
+        CompiledRules rules = RuleVariant.standard().withDrawCount(3).compile();
+        GameUnoModel game = newGame(7, rules);
+        List<List<GameEvent>> batches = recordBatches(game);
+        game.startGame();
+
+        Player player = game.getCurrentPlayer();
+        TurnResult turn = game.executeTurn(player, optimalMove(game, player));
+        GameEvent played = batches.get(batches.size() - 1).get(0);
+
+        assertEquals(GameEvent.Type.TURN_PLAYED, played.getType());
+        assertEquals(3, turn.getDrawnCards());
+        assertEquals(3, played.getCount());
+    }
+
+    @Test
+    void historyIsRefusedUpFrontForShoeGames() {
+        GameUnoModel game = new GameUnoModel(new Player("JUGADOR_HUMANO"), 31, new SplittableRandom(3L));
+        assertTrue(GameUnoModel.decksFor(32) > 1);
+
+        assertThrows(IllegalStateException.class, () -> game.setHistoryEnabled(true));
+        assertFalse(game.isHistoryEnabled());
+
+        game.startGame();
+        for (int turn = 0; turn < 500 && !game.isGameOver(); turn++) {
+            Player player = game.getCurrentPlayer();
+            assertTrue(game.executeTurn(player, optimalMove(game, player)).isOk());
+        }
+        assertFalse(game.canUndo());
+    }
+
+    @Test
+    void undoAndRedoWalkTheWholeGameThroughRecycles() {
+        int recycles = 0;
+        for (int seed = 0; seed < GAMES / 4; seed++) {
+            GameUnoModel game = newGame(seed, CompiledRules.STANDARD);
+            game.setHistoryEnabled(true);
+            game.startGame();
+            assertFalse(game.canUndo());
+
+            List<GameState> states = new ArrayList<>(List.of(game.captureState()));
+            while (!game.isGameOver()) {
+                Player player = game.getCurrentPlayer();
+                if (game.executeTurn(player, optimalMove(game, player)).getRecycledCards() > 0) {
+                    recycles++;
+                }
+                states.add(game.captureState());
+            }
+
+            for (int step = states.size() - 2; step >= 0; step--) {
+                assertTrue(game.undo());
+                assertEquals(states.get(step), game.captureState(), "undo to turn " + step);
+                assertTrue(game.canRedo());
+            }
+            assertFalse(game.canUndo());
+            assertFalse(game.undo());
+
+            for (int step = 1; step < states.size(); step++) {
+                assertTrue(game.redo());
+                assertEquals(states.get(step), game.captureState(), "redo to turn " + step);
+                assertTrue(game.canUndo());
+            }
+            assertFalse(game.canRedo());
+            assertFalse(game.redo());
+
+            for (int step = 0; step < states.size(); step++) {
+                game.restoreState(states.get(step));
+                assertEquals(states.get(step), game.captureState(), "restore of turn " + step);
+            }
+
+            game.restoreState(states.get(0));
+            game.undo();
+            Player player = game.getCurrentPlayer();
+            game.executeTurn(player, optimalMove(game, player));
+            assertFalse(game.canRedo(), "a new turn forgets the redo steps");
+        }
+        assertTrue(recycles >= GAMES / 8, "too few recycles: " + recycles);
+    }
+
+    @Test
+    void shoeHoldsTwiceTheOpeningDeal() {
+        assertEquals(1, GameUnoModel.decksFor(6));
+        assertEquals(2, GameUnoModel.decksFor(7));
+        assertEquals(5, GameUnoModel.decksFor(32));
+        assertEquals(10, GameUnoModel.decksFor(64));
+
+        for (int seats : new int[]{7, 32, 64}) {
+            GameUnoModel game = new GameUnoModel(new Player("JUGADOR_HUMANO"), seats - 1, new SplittableRandom(seats));
+            game.startGame();
+            int dealt = seats * 4 + 1;
+            assertEquals(52 * GameUnoModel.decksFor(seats), game.getDeck().getTotalCards());
+            assertTrue(dealt * 2 <= game.getDeck().getTotalCards(), seats + " seats");
+            assertEquals(game.getDeck().getTotalCards() - dealt, game.getDeck().size());
+        }
+    }
+
+    @Test
+    void shoeGamesConserveEveryCard() {
+        CompiledRules drawTwo = RuleVariant.standard().withDrawCount(2).compile();
+        int recycles = 0;
+        int eliminations = 0;
+        for (int seed = 0; seed < 10; seed++) {
+            GameUnoModel game = new GameUnoModel(new Player("JUGADOR_HUMANO"), 31, new SplittableRandom(seed),
+                    DrawMode.SHUFFLED, drawTwo);
+            game.startGame();
+            int decks = game.getDeck().getNumberOfDecks();
+            assertCopies(game, decks);
+
+            for (int turn = 0; turn < 2_000 && !game.isGameOver(); turn++) {
+                Player player = game.getCurrentPlayer();
+                TurnResult result = game.executeTurn(player, optimalMove(game, player));
+                assertTrue(result.isOk());
+                recycles += result.getRecycledCards() > 0 ? 1 : 0;
+                eliminations += result.isEliminated() ? 1 : 0;
+                assertCopies(game, decks);
+            }
+        }
+        assertTrue(recycles > 10, "too few recycles: " + recycles);
+        assertTrue(eliminations > 100, "too few eliminations: " + eliminations);
+    }
+
+    @Test
+    void eliminatingTheCurrentSeatPassesTheTurn() {
+        GameUnoModel game = newSixSeatGame();
+        assertEquals(0, game.getCurrentPlayerIndex());
+
+        game.eliminatePlayer(game.getPlayerAt(0));
+        assertEquals(1, game.getCurrentPlayerIndex());
+        assertEquals(5, game.getActivePlayerCount());
+        assertEquals(List.of(2, 3, 4, 5, 1, 2), turnOrder(game, 6));
+        assertTrue(game.isPlayerEliminated(game.getPlayerAt(0)));
+        assertTrue(game.determineWinner().getSeat() != 0, "an eliminated seat never wins");
+    }
+
+    @Test
+    void eliminatingTheSeatBeforeTheCurrentOneKeepsTheTurn() {
+        GameUnoModel game = newSixSeatGame();
+
+        game.eliminatePlayer(game.getPlayerAt(5));
+        assertEquals(0, game.getCurrentPlayerIndex());
+        assertEquals(5, game.getActivePlayerCount());
+        assertEquals(List.of(1, 2, 3, 4, 0, 1, 2, 3), turnOrder(game, 8));
+
+        game.eliminatePlayer(game.getPlayerAt(2));
+        assertEquals(3, game.getCurrentPlayerIndex());
+        assertEquals(4, game.getActivePlayerCount());
+        assertEquals(List.of(4, 0, 1, 3, 4), turnOrder(game, 5));
+        assertFalse(game.isGameOver());
+    }
+
+    @Test
+    void eliminatingDownToOneSeatLeavesTheWinner() {
+        GameUnoModel game = newSixSeatGame();
+        int[] order = {3, 0, 5, 1, 4};
+        for (int i = 0; i < order.length; i++) {
+            game.eliminatePlayer(game.getPlayerAt(order[i]));
+            assertEquals(5 - i, game.getActivePlayerCount());
+            assertFalse(game.isPlayerEliminated(game.getCurrentPlayer()), "the turn is on an active seat");
+            assertFalse(game.isPlayerEliminated(game.determineWinner()));
+        }
+
+        assertTrue(game.isGameOver());
+        assertEquals(2, game.determineWinner().getSeat());
+        assertEquals(2, game.getCurrentPlayerIndex());
+        assertEquals(List.of(2, 2), turnOrder(game, 2));
+
+        game.eliminatePlayer(game.getPlayerAt(2));
+        assertEquals(0, game.getActivePlayerCount());
+        assertNull(game.determineWinner());
+    }
+
+    @Test
+    void legalMovesListBothAceValuesWhileTheHighOneFits() {
+        GameUnoModel game = atPosition(30, ALL_SEATS, new int[]{20, 21}, TWO, ACE);
+        int[] moves = new int[Move.MAX_LEGAL_MOVES];
+
+        int count = game.legalMoves(game.getCurrentPlayer(), moves);
+        assertArrayEquals(new int[]{Move.of(TWO, 2), Move.of(ACE, 1), Move.of(ACE, 10)},
+                Arrays.copyOf(moves, count));
+
+        game = atPosition(45, ALL_SEATS, new int[]{20, 21}, TWO, ACE);
+        count = game.legalMoves(game.getCurrentPlayer(), moves);
+        assertArrayEquals(new int[]{Move.of(TWO, 2), Move.of(ACE, 1)}, Arrays.copyOf(moves, count));
+        assertEquals(0, game.legalMoves(game.getPlayerAt(1), moves), "only the current seat has moves");
+    }
+
+    @Test
+    void aceIsPlayedWithTheValueTheMoveGives() {
+        GameUnoModel game = atPosition(30, ALL_SEATS, new int[]{20, 21}, TWO, ACE);
+        assertEquals(MoveResult.OK, game.tryPlay(game.getCurrentPlayer(), Move.of(ACE, 1)));
+        assertEquals(31, game.getCurrentSum());
+
+        game = atPosition(30, ALL_SEATS, new int[]{20, 21}, TWO, ACE);
+        assertEquals(MoveResult.OK, game.tryPlay(game.getCurrentPlayer(), Move.of(ACE, 10)));
+        assertEquals(40, game.getCurrentSum());
+    }
+
+    @Test
+    void rejectedMovesReportTheirReasonAndChangeNothing() {
+        GameUnoModel game = atPosition(45, 0b1011L, new int[]{20, 21}, TEN, ACE, KING);
+        Player current = game.getCurrentPlayer();
+        Player next = game.getPlayerAt(1);
+        Player eliminated = game.getPlayerAt(2);
+        Card notHeld = next.getCard(0);
+        Card ten = current.getCardById(TEN);
+
+        assertRejected(game, MoveResult.NO_PLAYER, () -> game.tryPlay(null, Move.of(KING, -10)));
+        assertRejected(game, MoveResult.NOT_YOUR_TURN,
+                () -> game.tryPlay(next, Move.optimal(notHeld.getId(), 45, game.getRules())));
+        assertRejected(game, MoveResult.NOT_YOUR_TURN, () -> game.tryPlay(next, notHeld));
+        assertRejected(game, MoveResult.NOT_YOUR_TURN, () -> game.tryDraw(next));
+        assertRejected(game, MoveResult.PLAYER_ELIMINATED, () -> game.tryDraw(eliminated));
+        assertRejected(game, MoveResult.NO_CARD, () -> game.tryPlay(current, (Card) null));
+        assertRejected(game, MoveResult.CARD_NOT_IN_HAND, () -> game.tryPlay(current, notHeld));
+        assertRejected(game, MoveResult.CARD_NOT_IN_HAND, () -> game.tryPlay(current, Move.of(NINE, 0)));
+        assertRejected(game, MoveResult.EXCEEDS_LIMIT, () -> game.tryPlay(current, ten));
+        assertRejected(game, MoveResult.EXCEEDS_LIMIT, () -> game.tryPlay(current, Move.of(TEN, 10)));
+        assertRejected(game, MoveResult.EXCEEDS_LIMIT, () -> game.tryPlay(current, Move.of(ACE, 10)));
+        assertRejected(game, MoveResult.INVALID_VALUE, () -> game.tryPlay(current, Move.of(ACE, 5)));
+        assertRejected(game, MoveResult.INVALID_VALUE, () -> game.tryPlay(current, Move.of(KING, 10)));
+    }
+
+    @Test
+    void drawingFromAnEmptyDeckAndBareTableIsRefused() {
+        GameUnoModel game = atPosition(30, ALL_SEATS, new int[0], TWO, ACE);
+
+        assertRejected(game, MoveResult.DECK_EMPTY, () -> game.tryDraw(game.getCurrentPlayer()));
+    }
+
+    /**
+     * Creates a started six-seat game with the human seat to play.
+     *
+     * @return the game
+     */
+    private static GameUnoModel newSixSeatGame() {
+        GameUnoModel game = new GameUnoModel(new Player("JUGADOR_HUMANO"), 5, new SplittableRandom(8L));
+        game.startGame();
+        return game;
+    }
+
+    /**
+     * Advances the turn several times.
+     *
+     * @param game the game
+     * @param turns the number of turns to advance
+     * @return the seat to play after each advance
+     */
+    private static List<Integer> turnOrder(GameUnoModel game, int turns) {
+        List<Integer> seats = new ArrayList<>();
+        for (int i = 0; i < turns; i++) {
+            game.nextTurn();
+            seats.add(game.getCurrentPlayerIndex());
+        }
+        return seats;
+    }
+
+    /**
+     * Creates a started four-seat game restored to a hand-made position. Seat 0 is to play with the given
+     * hand, seats 1 to 3 hold one card each (none if eliminated) and the table holds a single card.
+     *
+     * @param sum the sum on the table
+     * @param activeMask the active seats; seat 0 must be one of them
+     * @param deck the deck card ids, bottom first
+     * @param hand the card ids held by seat 0
+     * @return the game at that position
+     */
+    private static GameUnoModel atPosition(int sum, long activeMask, int[] deck, int... hand) {
+        long[] hands = new long[4];
+        for (int cardId : hand) {
+            hands[0] |= 1L << cardId;
+        }
+        for (int seat = 1; seat < hands.length; seat++) {
+            hands[seat] = (activeMask & (1L << seat)) != 0L ? 1L << (13 + seat) : 0L;
+        }
+        byte[] deckIds = new byte[deck.length];
+        for (int i = 0; i < deck.length; i++) {
+            deckIds[i] = (byte) deck[i];
+        }
+        GameUnoModel game = newGame(1L, CompiledRules.STANDARD);
+        game.startGame();
+        game.restoreState(new GameState(hands, deckIds, deckIds.length, new byte[]{40}, 1, sum, activeMask, 0, 1L,
+                CompiledRules.STANDARD));
+        return game;
+    }
+
+    /**
+     * Asserts that the deck, the table and the hands together hold every card of the shoe, each id
+     * exactly once per deck.
+     *
+     * @param game the game
+     * @param decks the number of decks in the shoe
+     */
+    private static void assertCopies(GameUnoModel game, int decks) {
+        int[] copies = new int[52];
+        for (int i = 0; i < game.getDeck().size(); i++) {
+            copies[game.getDeck().getCardAt(i).getId()]++;
+        }
+        for (int i = 0; i < game.getTable().getNumberOfCards(); i++) {
+            copies[game.getTable().getCardAt(i).getId()]++;
+        }
+        int total = game.getDeck().size() + game.getTable().getNumberOfCards();
+        for (int seat = 0; seat < game.getTotalPlayers(); seat++) {
+            for (Card card : game.getPlayerAt(seat).getCardsPlayer()) {
+                copies[card.getId()]++;
+            }
+            total += game.getPlayerAt(seat).getCardsPlayer().size();
+        }
+        assertEquals(game.getDeck().getTotalCards(), total);
+        for (int id = 0; id < copies.length; id++) {
+            assertEquals(decks, copies[id], "copies of card " + id);
+        }
+    }
+
+    /**
+     * Asserts that a move is rejected with the given reason and leaves the game untouched and silent.
+     *
+     * @param game the game
+     * @param expected the expected reason
+     * @param move the move to attempt
+     */
+    private static void assertRejected(GameUnoModel game, MoveResult expected, Supplier<MoveResult> move) {
+        GameState before = game.captureState();
+        List<List<GameEvent>> batches = recordBatches(game);
+
+        assertEquals(expected, move.get());
+        assertEquals(before, game.captureState());
+        assertTrue(batches.isEmpty(), expected + " published events");
+    }
+
+    /**
+     * Creates a seeded four-seat game.
+     *
+     * @param seed the seed of the game
+     * @param rules the rules of the game
+     * @return the new game, not started
+     */
+    private static GameUnoModel newGame(long seed, CompiledRules rules) {
+        return new GameUnoModel(new Player("JUGADOR_HUMANO"), 3, new SplittableRandom(seed), DrawMode.SHUFFLED,
+                rules);
+    }
+
+    /**
+     * Enables per-action batching on a game and records a copy of every batch it delivers.
+     *
+     * @param game the game to listen to
+     * @return the delivered batches, in order
+     */
+    private static List<List<GameEvent>> recordBatches(GameUnoModel game) {
+        List<List<GameEvent>> batches = new ArrayList<>();
+        game.getEventBus().setBatchPerAction(true);
+        game.addGameEventListener(new GameEventListener() {
+            @Override
+            public void onEvent(GameEvent event) {
+                batches.add(List.of(event));
+            }
+
+            @Override
+            public void onEvents(List<GameEvent> events) {
+                batches.add(List.copyOf(events));
+            }
+        });
+        return batches;
+    }
+
+    /**
+     * Chooses the machine strategy's move for the current player.
+     *
+     * @param game the game
+     * @param player the current player
+     * @return the encoded move, or {@link Move#NONE} if no card is playable
+     */
+    private static int optimalMove(GameUnoModel game, Player player) {
+        Card card = game.findPlayableCard(player);
+        return card != null ? Move.optimal(card.getId(), game.getCurrentSum(), game.getRules()) : Move.NONE;
+    }
+
+    /**
+     * Lists the types of a batch of events.
+     *
+     * @param batch the events
+     * @return their types, in order
+     */
+    private static List<GameEvent.Type> types(List<GameEvent> batch) {
+        List<GameEvent.Type> types = new ArrayList<>();
+        for (GameEvent event : batch) {
+            types.add(event.getType());
+        }
+        return types;
+    }
+}
@@ -0,0 +1,171 @@
+package org.example.eiscuno.model.machine;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.clock.GameClock;
+import org.example.eiscuno.model.clock.PacingPolicy;
+import org.example.eiscuno.model.clock.VirtualClock;
+import org.example.eiscuno.model.engine.GameEngine;
+import org.example.eiscuno.model.game.GameState;
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link MachinePlayerScheduler} on a {@link VirtualClock} with instant pacing.
+ * The engine drains its commands on the calling thread, so every move runs when the test runs the clock.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class MachinePlayerSchedulerTest {
+
+    private static final int GAMES = 50;
+
+    @Test
+    void movesAreScheduledOnlyWhenAMachineTurnStarts() {
+        int machineTurns = 0;
+        for (int seed = 0; seed < GAMES; seed++) {
+            Table table = new Table(seed);
+            assertEquals(0, table.clock.liveMoves(), "the human opens the game");
+
+            while (!table.game.isGameOver()) {
+                int seat = table.game.getCurrentPlayerIndex();
+                if (seat == 0) {
+                    assertEquals(0, table.clock.runUntilIdle(), "nothing moves for the human");
+                    table.playHumanTurn();
+                } else {
+                    assertEquals(seat, table.clock.lastScheduledSeat);
+                    assertTrue(table.clock.runNext());
+                    machineTurns++;
+                }
+                boolean machineNext = !table.game.isGameOver() && table.game.getCurrentPlayerIndex() != 0;
+                assertEquals(machineNext ? 1 : 0, table.clock.liveMoves());
+            }
+            table.scheduler.stop();
+        }
+        assertTrue(machineTurns > GAMES * 10);
+    }
+
+    @Test
+    void stopCancelsThePendingMove() {
+        Table table = new Table(3L);
+        table.playHumanTurn();
+        assertEquals(1, table.clock.liveMoves());
+        GameState before = table.captureState();
+
+        table.scheduler.stop();
+        assertFalse(table.scheduler.isRunning());
+        assertEquals(0, table.clock.liveMoves());
+        assertEquals(0, table.clock.runUntilIdle());
+        assertEquals(before, table.captureState());
+    }
+
+    @Test
+    void restoredStateCancelsAMoveThatNoLongerApplies() {
+        Table table = new Table(3L);
+        GameState humanToPlay = table.captureState();
+        table.playHumanTurn();
+        assertTrue(table.clock.runNext());
+        assertEquals(2, table.game.getCurrentPlayerIndex());
+        GameState secondMachineToPlay = table.captureState();
+
+        table.restore(humanToPlay);
+        assertEquals(0, table.clock.liveMoves(), "the pending move is cancelled and the human is to play");
+        assertEquals(0, table.clock.runUntilIdle());
+        assertEquals(humanToPlay, table.captureState());
+
+        table.playHumanTurn();
+        assertEquals(1, table.clock.lastScheduledSeat);
+        table.restore(secondMachineToPlay);
+        assertEquals(1, table.clock.liveMoves(), "only the restored turn's move is left");
+        assertEquals(2, table.clock.lastScheduledSeat);
+        assertTrue(table.clock.runNext());
+        assertTrue(table.game.getCurrentPlayerIndex() != 2, "seat 2 played the restored turn");
+    }
+
+    /**
+     * A started four-seat game whose machine players are moved by a scheduler on a recording clock.
+     */
+    private static final class Table {
+        private final GameEngine engine;
+        private final GameUnoModel game;
+        private final RecordingClock clock;
+        private final MachinePlayerScheduler scheduler;
+
+        Table(long seed) {
+            game = new GameUnoModel(new Player("JUGADOR_HUMANO"), 3, new SplittableRandom(seed));
+            engine = new GameEngine(game, Runnable::run);
+            engine.start();
+            clock = new RecordingClock(game);
+            scheduler = new MachinePlayerScheduler(engine, clock, PacingPolicy.instant());
+            scheduler.start();
+            engine.submit(game -> {
+                game.startGame();
+                return null;
+            }).join();
+        }
+
+        void playHumanTurn() {
+            engine.submit(game -> {
+                Player human = game.getHumanPlayer();
+                Card card = game.findPlayableCard(human);
+                int move = card != null ? Move.optimal(card.getId(), game.getCurrentSum(), game.getRules()) : Move.NONE;
+                return game.executeTurn(human, move);
+            }).join();
+        }
+
+        GameState captureState() {
+            return engine.submit(GameUnoModel::captureState).join();
+        }
+
+        void restore(GameState state) {
+            engine.submit(game -> {
+                game.restoreState(state);
+                return null;
+            }).join();
+        }
+    }
+
+    /**
+     * Virtual clock that tracks which scheduled moves are still live and for which seat the last one was scheduled.
+     */
+    private static final class RecordingClock extends VirtualClock {
+        private final GameUnoModel game;
+        private int scheduled;
+        private int finished;
+        private int lastScheduledSeat = -1;
+
+        RecordingClock(GameUnoModel game) {
+            this.game = game;
+        }
+
+        @Override
+        public synchronized ScheduledTask schedule(Runnable task, long delayMillis) {
+            scheduled++;
+            lastScheduledSeat = game.getCurrentPlayerIndex();
+            ScheduledTask handle = super.schedule(() -> {
+                finished++;
+                task.run();
+            }, delayMillis);
+            return () -> {
+                boolean cancelled = handle.cancel();
+                if (cancelled) {
+                    finished++;
+                }
+                return cancelled;
+            };
+        }
+
+        int liveMoves() {
+            return scheduled - finished;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.eiscuno.model.player;
+
+import org.example.eiscuno.model.card.Card;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the id bookkeeping of a {@link Player}'s hand when a shoe deals several copies of one card.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class PlayerTest {
+
+    private static final int ID = 20;
+
+    @Test
+    void bitStaysUntilTheLastCopyLeaves() {
+        Player player = new Player("JUGADOR_HUMANO");
+        Card first = new Card(ID);
+        Card second = new Card(ID);
+        Card other = new Card(ID + 1);
+        player.addCard(first);
+        player.addCard(other);
+        player.addCard(second);
+        assertEquals(2, player.getCardCount(ID));
+        assertEquals((1L << ID) | (1L << (ID + 1)), player.getHandMask());
+
+        assertTrue(player.removeCard(first));
+        assertEquals(1, player.getCardCount(ID));
+        assertEquals((1L << ID) | (1L << (ID + 1)), player.getHandMask(), "one copy is still held");
+        assertSame(second, player.getCardById(ID), "the index points at the copy still held");
+        assertFalse(player.hasCard(first));
+        assertTrue(player.hasCard(second));
+        assertFalse(player.removeCard(first), "a copy that left cannot leave twice");
+
+        player.removeCard(player.getCardsPlayer().indexOf(second));
+        assertEquals(0, player.getCardCount(ID));
+        assertEquals(1L << (ID + 1), player.getHandMask());
+        assertNull(player.getCardById(ID));
+        assertFalse(player.hasCard(second));
+    }
+
+    @Test
+    void clearHandForgetsEveryCopy() {
+        Player player = new Player("JUGADOR_HUMANO");
+        player.addCard(new Card(ID));
+        player.addCard(new Card(ID));
+
+        player.clearHand();
+        assertEquals(0, player.getCardCount(ID));
+        assertEquals(0L, player.getHandMask());
+        assertTrue(player.getCardsPlayer().isEmpty());
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.eiscuno.model.rules;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of the lookup tables {@link CompiledRules} builds from a {@link RuleVariant}, against values
+ * worked out by hand. Card {@code id} has rank {@code id % 13} (2, 3, ..., 10, J, Q, K, A) and suit {@code id / 13}.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class CompiledRulesTest {
+
+    private static final int NINE = 7;
+    private static final int TEN = 8;
+    private static final int ACE = 12;
+
+    /** Every card of the deck. */
+    private static final long ALL_CARDS = (1L << 52) - 1;
+
+    /** 9, J, Q and K of every suit: the cards worth 0 or less under the standard rules. */
+    private static final long NINE_AND_FACES = everySuit(0b1110_1000_0000L);
+
+    /** J, Q and K of every suit. */
+    private static final long FACES = everySuit(0b1110_0000_0000L);
+
+    /** The 10 of every suit. */
+    private static final long TENS = everySuit(1L << TEN);
+
+    /** The 2 to 6 of every suit. */
+    private static final long TWO_TO_SIX = everySuit(0b1_1111L);
+
+    @Test
+    void standardPlayableMasks() {
+        CompiledRules rules = CompiledRules.STANDARD;
+
+        assertEquals(ALL_CARDS, rules.playableMask(0));
+        assertEquals(ALL_CARDS, rules.playableMask(40));
+        assertEquals(ALL_CARDS & ~TENS, rules.playableMask(41), "only a 10 overshoots 41");
+        assertEquals(NINE_AND_FACES | everySuit(1L << ACE), rules.playableMask(49), "an Ace still fits as 1");
+        assertEquals(NINE_AND_FACES, rules.playableMask(50));
+    }
+
+    @Test
+    void masksOutsideTheTableAreComputed() {
+        CompiledRules rules = CompiledRules.STANDARD;
+
+        assertEquals(ALL_CARDS, rules.playableMask(-10));
+        assertEquals(FACES, rules.playableMask(55));
+        assertEquals(FACES, rules.playableMask(60));
+        assertEquals(0L, rules.playableMask(61));
+    }
+
+    @Test
+    void standardChosenValues() {
+        CompiledRules rules = CompiledRules.STANDARD;
+
+        assertEquals(10, rules.chosenValue(ACE, 0));
+        assertEquals(10, rules.chosenValue(ACE, 40));
+        assertEquals(1, rules.chosenValue(ACE, 41));
+        assertEquals(1, rules.chosenValue(ACE + 13, 49));
+        assertEquals(2, rules.chosenValue(0, 30));
+        assertEquals(0, rules.chosenValue(NINE, 50));
+        assertEquals(-10, rules.chosenValue(ACE - 1, 50));
+        assertEquals(1, rules.chosenValue(ACE, 70), "beyond the table an Ace takes its low value");
+
+        assertTrue(rules.hasTwoValues(ACE));
+        assertFalse(rules.hasTwoValues(TEN));
+        assertTrue(rules.isValidValue(ACE, 1));
+        assertTrue(rules.isValidValue(ACE, 10));
+        assertFalse(rules.isValidValue(ACE, 5));
+        assertFalse(rules.isValidValue(TEN, 1));
+    }
+
+    @Test
+    void customVariantTables() {
+        CompiledRules rules = RuleVariant.standard()
+                .withTargetSum(30)
+                .withAceValues(1, 11, RuleVariant.AcePolicy.PREFER_HIGH)
+                .withRankValue(NINE, 9)
+                .compile();
+
+        assertEquals(11, rules.chosenValue(ACE, 19));
+        assertEquals(1, rules.chosenValue(ACE, 20));
+        assertEquals(9, rules.chosenValue(NINE, 0));
+        assertEquals(FACES, rules.playableMask(30));
+        assertEquals(FACES | everySuit(1L << ACE), rules.playableMask(29));
+        assertEquals(FACES | everySuit(1L << ACE) | TWO_TO_SIX, rules.playableMask(24));
+        assertEquals(ALL_CARDS & ~TENS & ~everySuit(1L << NINE), rules.playableMask(22));
+    }
+
+    @Test
+    void lowAcePolicyAndSingleValuedAce() {
+        CompiledRules low = RuleVariant.standard().withAceValues(1, 10, RuleVariant.AcePolicy.PREFER_LOW).compile();
+        assertEquals(1, low.chosenValue(ACE, 0));
+        assertTrue(low.hasTwoValues(ACE));
+
+        CompiledRules single = RuleVariant.standard().withAceValues(5, 5, RuleVariant.AcePolicy.PREFER_HIGH).compile();
+        assertEquals(5, single.chosenValue(ACE, 0));
+        assertFalse(single.hasTwoValues(ACE));
+        assertEquals(NINE_AND_FACES | everySuit(0b1111L) | everySuit(1L << ACE), single.playableMask(45));
+    }
+
+    @Test
+    void aceNeedsAPolicy() {
+        assertThrows(NullPointerException.class, () -> RuleVariant.standard().withAceValues(1, 10, null));
+    }
+
+    /**
+     * Repeats a mask of ranks in every suit.
+     *
+     * @param ranks the mask of one suit, bit {@code rank} for each rank
+     * @return the mask over the whole deck
+     */
+    private static long everySuit(long ranks) {
+        return ranks | ranks << 13 | ranks << 26 | ranks << 39;
+    }
+}
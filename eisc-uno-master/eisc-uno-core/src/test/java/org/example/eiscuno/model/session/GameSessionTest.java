@@ -0,0 +1,139 @@
+package org.example.eiscuno.model.session;
+
+import org.example.eiscuno.model.clock.PacingPolicy;
+import org.example.eiscuno.model.engine.GameRuntime;
+import org.example.eiscuno.model.event.GameEvent;
+import org.example.eiscuno.model.game.GameSnapshot;
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Soak test of {@link GameSession#reset()}: thousands of games played to the end and restarted on one
+ * session must not add threads, timers or listeners, nor leave the heap growing.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class GameSessionTest {
+
+    private static final int RESTARTS = 10_000;
+
+    /** Restarts played before the thread count and the heap are taken as the baseline. */
+    private static final int WARM_UP_RESTARTS = 1_000;
+
+    /** Room for the heap noise of a full collection; a leak of even 100 bytes per restart exceeds it. */
+    private static final long MAX_HEAP_GROWTH_BYTES = 512 * 1024;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @Test
+    void restartsKeepThreadsAndHeapFlat() throws InterruptedException {
+        GameRuntime runtime = new GameRuntime(1, 1);
+        GameUnoModel model = new GameUnoModel(new Player("JUGADOR_HUMANO"), 3, 42L);
+        GameSession session = new GameSession(runtime, model, PacingPolicy.instant());
+        try {
+            Semaphore gameOver = new Semaphore(0);
+            session.addGameEventListener(event -> {
+                if (event.getType() == GameEvent.Type.GAME_OVER) {
+                    gameOver.release();
+                } else if (isHumanTurn(event.getSnapshot())) {
+                    playHumanTurn(session);
+                }
+            });
+            session.scheduleAtFixedRate(() -> { }, 1);
+
+            session.start().join();
+            awaitGameOver(gameOver, 0);
+            int baselineThreads = 0;
+            long baselineHeap = 0L;
+            for (int restart = 1; restart <= RESTARTS; restart++) {
+                session.reset().join();
+                awaitGameOver(gameOver, restart);
+                if (restart == WARM_UP_RESTARTS) {
+                    baselineThreads = threads.getThreadCount();
+                    baselineHeap = usedHeapAfterGc();
+                }
+            }
+
+            assertEquals(baselineThreads, threads.getThreadCount(), "restarts added threads");
+            long growth = usedHeapAfterGc() - baselineHeap;
+            assertTrue(growth <= MAX_HEAP_GROWTH_BYTES, "heap grew by " + growth + " B over "
+                    + (RESTARTS - WARM_UP_RESTARTS) + " restarts");
+            assertEquals(1, session.getActiveTimerCount());
+        } finally {
+            session.close();
+            runtime.shutdown();
+        }
+        assertEquals(0, session.getActiveTimerCount());
+        assertFalse(model.getEventBus().hasListeners());
+        assertFalse(session.getEngine().isRunning());
+    }
+
+    /**
+     * Checks whether an event hands the turn to the human player, who has no scheduler of its own.
+     *
+     * @param snapshot the snapshot published with the event, or null
+     * @return true if the human player must move
+     */
+    private static boolean isHumanTurn(GameSnapshot snapshot) {
+        return snapshot != null && !snapshot.isGameOver() && snapshot.getCurrentPlayerIndex() == 0
+                && snapshot.isPlayerActive(0);
+    }
+
+    /**
+     * Plays the human player's turn on the engine with the machine strategy.
+     *
+     * @param session the session
+     */
+    private static void playHumanTurn(GameSession session) {
+        session.getEngine().submit(game -> {
+            Player human = game.getHumanPlayer();
+            if (game.getCurrentPlayer() != human || game.isPlayerEliminated(human)) {
+                return null;
+            }
+            long playable = game.getPlayableMask(human);
+            int move = playable == 0L ? Move.NONE
+                    : Move.optimal(Long.numberOfTrailingZeros(playable), game.getCurrentSum(), game.getRules());
+            return game.executeTurn(human, move);
+        });
+    }
+
+    /**
+     * Waits for the game in progress to end.
+     *
+     * @param gameOver the permits released on GAME_OVER
+     * @param restart the number of the game, for the failure message
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private static void awaitGameOver(Semaphore gameOver, int restart) throws InterruptedException {
+        assertTrue(gameOver.tryAcquire(30, TimeUnit.SECONDS), "game " + restart + " never ended");
+    }
+
+    /**
+     * Gets the heap in use after asking for full collections.
+     *
+     * @return the used heap in bytes
+     * @throws InterruptedException if interrupted while waiting for the collector
+     */
+    private long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.DrawMode;
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Allocation regression tests of the steady-state turn loop, measured with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} after a warm-up.
+ * A warmed-up turn (play, draw, check, advance) must allocate nothing, and a whole simulated game
+ * must stay within the bytes its setup needs.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class AllocationTest {
+
+    private static final int WARM_UP_GAMES = 20_000;
+    private static final int MEASURED_GAMES = 5_000;
+
+    /** Tolerance for bytes the JVM itself may attribute to the thread while measuring. */
+    private static final double MAX_BYTES_PER_TURN = 0.5;
+
+    /** Setup of a four-seat game (players, deck, table, rules, model) measured at about 5.6 KB. */
+    private static final double MAX_BYTES_PER_GAME = 6_500;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void warmTurnLoopAllocatesNothing() {
+        playGames(new SplittableRandom(1L), WARM_UP_GAMES);
+        long[] turnBytesAndTurns = playGames(new SplittableRandom(42L), MEASURED_GAMES);
+
+        double bytesPerTurn = (double) turnBytesAndTurns[0] / turnBytesAndTurns[1];
+        assertTrue(bytesPerTurn <= MAX_BYTES_PER_TURN, "turn loop allocated " + bytesPerTurn + " B/turn");
+    }
+
+    @Test
+    void simulatedGameAllocatesOnlyItsSetup() {
+        SimulationResult warmUp = new SimulationResult(4);
+        SplittableRandom warmUpRandom = new SplittableRandom(1L);
+        for (int i = 0; i < WARM_UP_GAMES; i++) {
+            GameSimulator.playGame(warmUpRandom.split(), 3, DrawMode.SHUFFLED, warmUp);
+        }
+
+        SimulationResult result = new SimulationResult(4);
+        SplittableRandom random = new SplittableRandom(42L);
+        long before = allocatedBytes();
+        for (int i = 0; i < MEASURED_GAMES; i++) {
+            GameSimulator.playGame(random.split(), 3, DrawMode.SHUFFLED, result);
+        }
+        double bytesPerGame = (double) (allocatedBytes() - before) / MEASURED_GAMES;
+
+        assertTrue(bytesPerGame <= MAX_BYTES_PER_GAME, "playGame allocated " + bytesPerGame + " B/game");
+    }
+
+    /**
+     * Plays four-seat games through the try API, measuring only the turns and not the setup.
+     *
+     * @param random the stream the games are split from
+     * @param games the number of games
+     * @return the bytes allocated by the turns and the number of turns played
+     */
+    private long[] playGames(SplittableRandom random, int games) {
+        long turnBytes = 0;
+        long turns = 0;
+        for (int g = 0; g < games; g++) {
+            GameUnoModel game = new GameUnoModel(new Player("JUGADOR_HUMANO"), 3, random.split());
+            game.setSnapshotsEnabled(false);
+            game.startGame();
+
+            long before = allocatedBytes();
+            while (!game.isGameOver()) {
+                Player player = game.getCurrentPlayer();
+                Card card = game.findPlayableCard(player);
+                if (card != null) {
+                    game.tryPlay(player, card);
+                }
+                game.tryDraw(player);
+                if (!game.canPlayerPlay(player)) {
+                    game.eliminatePlayer(player);
+                } else {
+                    game.nextTurn();
+                }
+                turns++;
+            }
+            turnBytes += allocatedBytes() - before;
+        }
+        return new long[] {turnBytes, turns};
+    }
+
+    /**
+     * Gets the bytes allocated so far by the current thread.
+     *
+     * @return the allocated bytes
+     */
+    private long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.deck.DrawMode;
+import org.example.eiscuno.model.rules.CompiledRules;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark of {@link BatchSimulator} against {@link GameSimulator} on the same seeded 4-seat games.
+ * It prints the speedup and splits the batch time into the shuffle floor and the turns themselves.
+ * The shuffle floor is the per-game stream splits plus every Fisher-Yates swap the game's deck stream
+ * must make (about 51 to deal and 25 more for the usual recycle), which identical outcomes require.
+ * That floor alone caps the batch at about 10-15x even if its turns were free; the printed bound shows
+ * it on the machine at hand. What is left is scalar work per lane and turn: without
+ * the incubating Vector API each lane still does its own mask lookup, branch on the play and draw
+ * from its own deck, which keeps the batch at a few times the speed of one game at a time.
+ * Tagged {@code performance}: run it with {@code mvn -Pperformance test}.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+@Tag("performance")
+class BatchSimulatorBenchmarkTest {
+
+    private static final int MACHINE_PLAYERS = 3;
+
+    private static final int GAMES = 200_000;
+
+    private static final int REPETITIONS = 4;
+
+    /** Shuffle swaps beyond the deal of a 4-seat game, measured over seed 42: its usual recycle. */
+    private static final int RECYCLE_SWAPS = 25;
+
+    /** Smallest speedup of the batch over one game at a time. */
+    private static final double MIN_SPEEDUP = 2.0;
+
+    /** Consumes the shuffled decks so the floor measurement is not optimized away. */
+    private static volatile int sink;
+
+    @Test
+    void batchIsFasterThanOneGameAtATime() {
+        SimulationResult expected = GameSimulator.simulate(42L, GAMES, MACHINE_PLAYERS);
+        assertEquals(expected, BatchSimulator.simulate(42L, GAMES, MACHINE_PLAYERS));
+
+        double oneAtATime = bestNanos(false);
+        double batch = bestNanos(true);
+        double floor = floorNanos();
+        double turnsPerGame = expected.getAverageTurns();
+
+        System.out.printf("one-at-a-time: games/s=%,11.0f ns/turn=%6.1f%n", GAMES / (oneAtATime / 1e9),
+                oneAtATime / GAMES / turnsPerGame);
+        System.out.printf("batch:         games/s=%,11.0f ns/turn=%6.1f%n", GAMES / (batch / 1e9),
+                batch / GAMES / turnsPerGame);
+        System.out.printf("shuffle floor: ns/game=%6.1f (%.0f%% of the batch)%n", floor / GAMES,
+                100 * floor / batch);
+        System.out.printf("batch turns:   ns/turn=%6.1f%n", (batch - floor) / GAMES / turnsPerGame);
+        System.out.printf("speedup=%.1fx bound with free turns=%.1fx%n", oneAtATime / batch, oneAtATime / floor);
+
+        assertTrue(oneAtATime / batch >= MIN_SPEEDUP, "batch is only " + oneAtATime / batch + "x faster");
+    }
+
+    /**
+     * Measures the best of several runs of one simulator.
+     *
+     * @param batched whether to run {@link BatchSimulator} rather than {@link GameSimulator}
+     * @return the best time in nanoseconds
+     */
+    private static double bestNanos(boolean batched) {
+        double best = Double.MAX_VALUE;
+        for (int repetition = 0; repetition < REPETITIONS; repetition++) {
+            long start = System.nanoTime();
+            if (batched) {
+                BatchSimulator.simulate(42L, GAMES, MACHINE_PLAYERS, DrawMode.SHUFFLED, CompiledRules.STANDARD);
+            } else {
+                GameSimulator.simulate(42L, GAMES, MACHINE_PLAYERS, DrawMode.SHUFFLED, CompiledRules.STANDARD);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * Measures only the randomness every seeded game needs: splitting its streams, shuffling a fresh
+     * deck with them and shuffling the usual recycle.
+     *
+     * @return the best time in nanoseconds for all the games
+     */
+    private static double floorNanos() {
+        byte[] deck = new byte[EISCUnoEnum.CARD_COUNT];
+        double best = Double.MAX_VALUE;
+        int sum = 0;
+        for (int repetition = 0; repetition < REPETITIONS; repetition++) {
+            SplittableRandom master = new SplittableRandom(42L);
+            long start = System.nanoTime();
+            for (int game = 0; game < GAMES; game++) {
+                SplittableRandom random = master.split().split();
+                for (int id = 0; id < deck.length; id++) {
+                    deck[id] = (byte) id;
+                }
+                for (int i = deck.length - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    byte card = deck[i];
+                    deck[i] = deck[j];
+                    deck[j] = card;
+                }
+                for (int i = RECYCLE_SWAPS; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    byte card = deck[i];
+                    deck[i] = deck[j];
+                    deck[j] = card;
+                }
+                sum += deck[0];
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        sink = sum;
+        return best;
+    }
+}
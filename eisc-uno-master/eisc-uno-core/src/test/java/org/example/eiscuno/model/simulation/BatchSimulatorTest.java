@@ -0,0 +1,69 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.deck.DrawMode;
+import org.example.eiscuno.model.rules.CompiledRules;
+import org.example.eiscuno.model.rules.RuleVariant;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/**
+ * Tests that {@link BatchSimulator} returns exactly what {@link GameSimulator} returns for the same master seed.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class BatchSimulatorTest {
+
+    private static final long MASTER_SEED = 7L;
+
+    /** Spans several chunks and several batches of lanes per chunk. */
+    private static final int GAMES = 5_000;
+
+    /** Games of a variant that never ends, each played to the turn limit. */
+    private static final int ENDLESS_GAMES = 300;
+
+    @TestFactory
+    Stream<DynamicTest> batchMatchesOneGameAtATime() {
+        return Stream.of(
+                sameResult(1, DrawMode.SHUFFLED, CompiledRules.STANDARD, GAMES),
+                sameResult(3, DrawMode.SHUFFLED, CompiledRules.STANDARD, GAMES),
+                sameResult(5, DrawMode.SHUFFLED, CompiledRules.STANDARD, GAMES),
+                sameResult(3, DrawMode.LAZY_RANDOM, CompiledRules.STANDARD, GAMES),
+                sameResult(3, DrawMode.SHUFFLED, RuleVariant.standard().withTargetSum(30).withHandSize(3).compile(),
+                        GAMES),
+                sameResult(2, DrawMode.SHUFFLED, RuleVariant.standard().withDrawCount(2).compile(), ENDLESS_GAMES),
+                sameResult(3, DrawMode.SHUFFLED, RuleVariant.standard().withDrawCount(0).compile(), GAMES),
+                sameResult(3, DrawMode.SHUFFLED, RuleVariant.standard().withTargetSum(5).compile(), GAMES),
+                sameResult(2, DrawMode.SHUFFLED, RuleVariant.standard().withTargetSum(100)
+                        .withAceValues(1, 11, RuleVariant.AcePolicy.PREFER_LOW).compile(), GAMES));
+    }
+
+    @Test
+    void multiDeckTablesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> BatchSimulator.simulate(MASTER_SEED, 10, 6));
+    }
+
+    /**
+     * Creates a test comparing both simulators on one configuration.
+     *
+     * @param numberOfMachinePlayers the number of machine players besides seat 0
+     * @param drawMode how the decks randomize drawn cards
+     * @param rules the rules of every game
+     * @param games the number of games
+     * @return the test
+     */
+    private static DynamicTest sameResult(int numberOfMachinePlayers, DrawMode drawMode, CompiledRules rules,
+                                          int games) {
+        return dynamicTest((numberOfMachinePlayers + 1) + " seats, " + drawMode + ", " + rules.getVariant(), () ->
+                assertEquals(GameSimulator.simulate(MASTER_SEED, games, numberOfMachinePlayers, drawMode, rules),
+                        BatchSimulator.simulate(MASTER_SEED, games, numberOfMachinePlayers, drawMode, rules)));
+    }
+}
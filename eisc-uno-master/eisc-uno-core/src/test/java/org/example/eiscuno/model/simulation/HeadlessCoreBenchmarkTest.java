@@ -0,0 +1,119 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.game.Move;
+import org.example.eiscuno.model.player.Player;
+import org.example.eiscuno.model.unoenum.EISCUnoEnum;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Startup and throughput of the headless core against the cost the coupled model paid before the split.
+ * The coupled {@code Card} decoded its JavaFX image when it was built, so every {@code Deck} decoded the
+ * 52 card images and could not be built at all without a running FX toolkit. That path cannot run in a
+ * test, so this benchmark measures its floor instead: decoding the app's 52 card images with
+ * {@link ImageIO}, cold and warm. It compares that with the first bot-only game this test plays through
+ * the public {@link GameUnoModel} API, class loading included, and with the steady-state games per second
+ * on one thread.
+ * Tagged {@code performance}: run it with {@code mvn -Pperformance test}.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+@Tag("performance")
+class HeadlessCoreBenchmarkTest {
+
+    /** The app's resources, seen from the core module's directory, where the tests run. */
+    private static final Path APP_RESOURCES = Path.of("..", "eisc-uno-app", "src", "main", "resources");
+
+    private static final int WARM_DECKS = 5;
+
+    private static final int GAMES = 200_000;
+
+    /** How much faster a whole headless game must be than decoding one coupled deck. */
+    private static final double MIN_STARTUP_RATIO = 10.0;
+
+    @Test
+    void headlessGameCostsLessThanDecodingOneCoupledDeck() throws IOException {
+        long start = System.nanoTime();
+        int firstGameTurns = playGame(new SplittableRandom(0L));
+        double firstGameMillis = (System.nanoTime() - start) / 1e6;
+
+        assumeTrue(Files.isDirectory(APP_RESOURCES), "the app module's card images are not available");
+        start = System.nanoTime();
+        decodeDeck();
+        double coldDeckMillis = (System.nanoTime() - start) / 1e6;
+        double warmDeckMillis = Double.MAX_VALUE;
+        for (int deck = 0; deck < WARM_DECKS; deck++) {
+            start = System.nanoTime();
+            decodeDeck();
+            warmDeckMillis = Math.min(warmDeckMillis, (System.nanoTime() - start) / 1e6);
+        }
+
+        SplittableRandom random = new SplittableRandom(42L);
+        long turns = 0;
+        start = System.nanoTime();
+        for (int game = 0; game < GAMES; game++) {
+            turns += playGame(random.split());
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("coupled floor: 52 images decoded in %.0f ms cold, %.0f ms warm%n",
+                coldDeckMillis, warmDeckMillis);
+        System.out.printf("headless core: first game %.1f ms (%d turns, class loading included)%n",
+                firstGameMillis, firstGameTurns);
+        System.out.printf("headless core: %,.0f games/s, %.1f turns/game%n", GAMES / seconds,
+                (double) turns / GAMES);
+
+        assertTrue(warmDeckMillis / firstGameMillis >= MIN_STARTUP_RATIO, "the first headless game took "
+                + firstGameMillis + " ms, decoding one deck " + warmDeckMillis + " ms");
+    }
+
+    /**
+     * Plays a four-seat bot-only game through the public model API: every seat plays its lowest legal card
+     * with its best value, or only draws.
+     *
+     * @param random the game's random stream
+     * @return the number of turns played
+     */
+    private static int playGame(SplittableRandom random) {
+        GameUnoModel game = new GameUnoModel(new Player("JUGADOR_HUMANO"), 3, random);
+        game.setSnapshotsEnabled(false);
+        game.startGame();
+        int turns = 0;
+        while (!game.isGameOver() && turns < GameSimulator.MAX_TURNS) {
+            Player player = game.getCurrentPlayer();
+            Card card = game.findPlayableCard(player);
+            int move = card != null ? Move.optimal(card.getId(), game.getCurrentSum(), game.getRules()) : Move.NONE;
+            game.executeTurn(player, move);
+            turns++;
+        }
+        return turns;
+    }
+
+    /**
+     * Decodes the image of every card, as the coupled deck did when it built its cards.
+     *
+     * @throws IOException if an image cannot be read
+     */
+    private static void decodeDeck() throws IOException {
+        for (int id = 0; id < EISCUnoEnum.CARD_COUNT; id++) {
+            Path image = APP_RESOURCES.resolve(EISCUnoEnum.fromId(id).getFilePath().substring(1));
+            BufferedImage decoded = ImageIO.read(image.toFile());
+            assertNotNull(decoded, image.toString());
+        }
+    }
+}
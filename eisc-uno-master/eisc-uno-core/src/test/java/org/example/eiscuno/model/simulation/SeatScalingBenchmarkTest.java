@@ -0,0 +1,90 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.deck.DrawMode;
+import org.example.eiscuno.model.game.GameUnoModel;
+import org.example.eiscuno.model.player.Player;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark of table size: plays seeded games with {@link GameSimulator#playGame} at 4, 16 and 32 seats
+ * and prints the time per turn and the time to build and deal a table.
+ * The turn, hand and recycle structures are O(1) per operation, so the time per turn must stay flat
+ * as the seats grow; only the deal grows with the table.
+ * Tagged {@code performance}: run it with {@code mvn -Pperformance test}.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+@Tag("performance")
+class SeatScalingBenchmarkTest {
+
+    private static final int[] SEATS = {4, 16, 32};
+
+    /** Seat-games per measurement, so every table size plays about the same number of turns. */
+    private static final int SEAT_GAMES = 800_000;
+
+    private static final int REPETITIONS = 4;
+
+    /** Allowed growth of the time per turn from the smallest to the largest table. */
+    private static final double MAX_TURN_COST_GROWTH = 2.0;
+
+    /** Consumes the dealt tables so their setup is not optimized away. */
+    private static volatile int sink;
+
+    @Test
+    void turnCostStaysFlatAsSeatsGrow() {
+        double[] nanosPerTurn = new double[SEATS.length];
+        for (int i = 0; i < SEATS.length; i++) {
+            int seats = SEATS[i];
+            int games = SEAT_GAMES / seats;
+            double bestNanos = Double.MAX_VALUE;
+            long turns = 0;
+            for (int repetition = 0; repetition < REPETITIONS; repetition++) {
+                SimulationResult result = new SimulationResult(seats);
+                SplittableRandom master = new SplittableRandom(42L);
+                long start = System.nanoTime();
+                for (int game = 0; game < games; game++) {
+                    GameSimulator.playGame(master.split(), seats - 1, DrawMode.SHUFFLED, result);
+                }
+                bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+                turns = result.getTotalTurns();
+            }
+            nanosPerTurn[i] = bestNanos / turns;
+
+            System.out.printf("seats=%2d decks=%2d games/s=%,9.0f turns/game=%6.1f ns/turn=%6.1f "
+                            + "setup+deal=%6.2f us%n", seats, GameUnoModel.decksFor(seats), games / (bestNanos / 1e9),
+                    (double) turns / games, nanosPerTurn[i], setupMicros(seats));
+        }
+
+        double growth = nanosPerTurn[SEATS.length - 1] / nanosPerTurn[0];
+        assertTrue(growth <= MAX_TURN_COST_GROWTH, "time per turn grew " + growth + "x from " + SEATS[0]
+                + " to " + SEATS[SEATS.length - 1] + " seats");
+    }
+
+    /**
+     * Measures building a table and dealing its opening hands.
+     *
+     * @param seats the number of seats
+     * @return the microseconds per table
+     */
+    private static double setupMicros(int seats) {
+        int tables = SEAT_GAMES / seats;
+        int sum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < tables; i++) {
+            GameUnoModel game = new GameUnoModel(new Player("JUGADOR_HUMANO"), seats - 1, new SplittableRandom(i));
+            game.setSnapshotsEnabled(false);
+            game.startGame();
+            sum += game.getCurrentSum();
+        }
+        double micros = (System.nanoTime() - start) / 1e3 / tables;
+        sink = sum;
+        return micros;
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.eiscuno.model.simulation;
+
+import org.example.eiscuno.model.deck.DrawMode;
+import org.example.eiscuno.model.rules.RuleVariant;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests of {@link VariantSweep} and {@link VariantReport}.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class VariantSweepTest {
+
+    private static final long MASTER_SEED = 5L;
+
+    /** Spans more than one chunk per variant. */
+    private static final int GAMES = 3_000;
+
+    @Test
+    void gridCoversEveryCombinationInOrder() {
+        RuleVariant base = RuleVariant.standard().withAceValues(1, 10, RuleVariant.AcePolicy.PREFER_LOW);
+        List<RuleVariant> grid = VariantSweep.grid(base, new int[]{40, 50}, new int[]{1, 11}, new int[]{3},
+                new int[]{1, 2});
+
+        assertEquals(8, grid.size());
+        assertEquals(base.withTargetSum(40).withAceValues(1, 1, RuleVariant.AcePolicy.PREFER_LOW).withHandSize(3),
+                grid.get(0));
+        assertEquals(base.withTargetSum(40).withAceValues(1, 1, RuleVariant.AcePolicy.PREFER_LOW).withHandSize(3)
+                .withDrawCount(2), grid.get(1));
+        assertEquals(base.withAceValues(1, 11, RuleVariant.AcePolicy.PREFER_LOW).withHandSize(3).withDrawCount(2),
+                grid.get(7));
+    }
+
+    @Test
+    void sweepIsDeterministicForAMasterSeed() {
+        List<RuleVariant> variants = VariantSweep.grid(RuleVariant.standard(), new int[]{30, 50}, new int[]{10},
+                new int[]{3, 4}, new int[]{1});
+
+        List<VariantReport> first = VariantSweep.run(variants, MASTER_SEED, GAMES, 3);
+        List<VariantReport> second = VariantSweep.run(variants, MASTER_SEED, GAMES, 3);
+
+        assertEquals(variants.size(), first.size());
+        for (int i = 0; i < variants.size(); i++) {
+            RuleVariant variant = variants.get(i);
+            assertEquals(variant, first.get(i).getVariant());
+            assertEquals(first.get(i).getResult(), second.get(i).getResult());
+            assertEquals(GameSimulator.simulate(MASTER_SEED, GAMES, 3, DrawMode.SHUFFLED, variant.compile()),
+                    first.get(i).getResult(), "a sweep plays each variant as the simulator does");
+        }
+    }
+
+    @Test
+    void reportSummarizesItsResult() {
+        SimulationResult result = new SimulationResult(4);
+        result.record(0, 10);
+        result.record(0, 20);
+        result.record(0, 30);
+        result.record(2, 40);
+        result.record(-1, 500);
+        VariantReport report = new VariantReport(RuleVariant.standard(), result);
+
+        assertEquals(120.0, report.getAverageTurns(), 1e-9);
+        assertEquals(3.0 / 4 - 1.0 / 4, report.getFirstSeatAdvantage(), 1e-9);
+
+        SimulationResult undecided = new SimulationResult(2);
+        undecided.record(-1, 500);
+        assertEquals(0.0, new VariantReport(RuleVariant.standard(), undecided).getFirstSeatAdvantage());
+    }
+}
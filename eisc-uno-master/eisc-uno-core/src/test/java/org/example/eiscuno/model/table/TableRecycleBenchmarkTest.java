@@ -0,0 +1,97 @@
+package org.example.eiscuno.model.table;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.deck.DrawMode;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Before/after benchmark of recycling the discard pile: the list path
+ * ({@link Table#getAllCardsExceptLast()} then {@link Deck#recycleCards(java.util.List)}) against
+ * {@link Table#recycleInto(Deck)}, which moves the cards straight out of the table's buffer.
+ * Each cycle empties the deck, plays 40 cards onto the table and recycles them into the lazy deck, so
+ * neither draws nor shuffles hide the cost of the move itself. The two paths alternate within every
+ * repetition; the test prints the best time and the bytes allocated per cycle of each.
+ * Tagged {@code performance}: run it with {@code mvn -Pperformance test}.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+@Tag("performance")
+class TableRecycleBenchmarkTest {
+
+    private static final int CARDS_PER_CYCLE = 40;
+
+    private static final int CYCLES = 500_000;
+
+    private static final int REPETITIONS = 6;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void inPlaceRecycleAllocatesNothingAndIsFaster() {
+        Card[] pile = new Card[CARDS_PER_CYCLE];
+        for (int i = 0; i < pile.length; i++) {
+            pile[i] = new Card(i);
+        }
+        double[] listPath = {Double.MAX_VALUE, 0};
+        double[] inPlace = {Double.MAX_VALUE, 0};
+        for (int repetition = 0; repetition < REPETITIONS; repetition++) {
+            measure(pile, false, listPath);
+            measure(pile, true, inPlace);
+        }
+
+        System.out.printf("list path: %6.1f ns/cycle %7.1f B/cycle%n", listPath[0], listPath[1]);
+        System.out.printf("in place:  %6.1f ns/cycle %7.1f B/cycle%n", inPlace[0], inPlace[1]);
+        System.out.printf("speedup=%.2fx%n", listPath[0] / inPlace[0]);
+
+        assertEquals(0.0, inPlace[1], 0.5, "recycleInto allocated");
+        assertTrue(listPath[1] > 0.0);
+        assertTrue(inPlace[0] < listPath[0], "recycleInto is not faster");
+    }
+
+    /**
+     * Runs play-and-recycle cycles through one path and keeps its best time.
+     *
+     * @param pile the cards played in every cycle
+     * @param inPlace whether to recycle with {@link Table#recycleInto(Deck)} rather than the list path
+     * @param best the best nanoseconds per cycle so far and the bytes allocated per cycle, updated in place
+     */
+    private void measure(Card[] pile, boolean inPlace, double[] best) {
+        Deck deck = new Deck(new SplittableRandom(1L), DrawMode.LAZY_RANDOM);
+        Table table = new Table();
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        for (int cycle = 0; cycle < CYCLES; cycle++) {
+            deck.restore(pile, 0);
+            for (Card card : pile) {
+                table.addCardOnTheTable(card, 0);
+            }
+            if (inPlace) {
+                table.recycleInto(deck);
+            } else {
+                deck.recycleCards(table.getAllCardsExceptLast());
+            }
+        }
+        best[0] = Math.min(best[0], (double) (System.nanoTime() - start) / CYCLES);
+        best[1] = (double) (allocatedBytes() - allocated) / CYCLES;
+    }
+
+    /**
+     * Gets the bytes allocated so far by the calling thread.
+     *
+     * @return the allocated bytes
+     */
+    private long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
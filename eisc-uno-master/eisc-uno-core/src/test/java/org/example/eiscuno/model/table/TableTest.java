@@ -0,0 +1,112 @@
+package org.example.eiscuno.model.table;
+
+import org.example.eiscuno.model.card.Card;
+import org.example.eiscuno.model.deck.Deck;
+import org.example.eiscuno.model.deck.DrawMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests of {@link Table#recycleInto(Deck)}.
+ *
+ * @author Jairo Andrés Tegue
+ * @version 1.0
+ * @since 2025
+ */
+class TableTest {
+
+    @Test
+    void recycleKeepsTheTopCardAndTheSum() {
+        Deck deck = new Deck(new SplittableRandom(1L), DrawMode.LAZY_RANDOM);
+        Table table = new Table();
+        List<Card> played = play(deck, table, 10);
+        int sum = table.getCurrentSum();
+
+        assertEquals(9, table.recycleInto(deck));
+        assertEquals(1, table.getNumberOfCards());
+        assertSame(played.get(9), table.getCurrentCardOnTheTable());
+        assertEquals(sum, table.getCurrentSum());
+        assertEquals(0, table.recycleInto(deck), "a lone top card is never recycled");
+    }
+
+    @Test
+    void recycledCardsGoUnderTheDeckInTableOrder() {
+        Deck deck = new Deck(new SplittableRandom(2L), DrawMode.LAZY_RANDOM);
+        Table table = new Table();
+        for (int round = 0; round < 3; round++) {
+            play(deck, table, 12);
+            List<Card> pile = cardsOf(table);
+            List<Card> deckBefore = new ArrayList<>();
+            for (int i = 0; i < deck.size(); i++) {
+                deckBefore.add(deck.getCardAt(i));
+            }
+
+            table.recycleInto(deck);
+            List<Card> expected = new ArrayList<>(pile.subList(0, pile.size() - 1));
+            expected.addAll(deckBefore);
+            assertEquals(expected.size(), deck.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i), deck.getCardAt(i), "round " + round + ", position " + i);
+            }
+            assertSame(pile.get(pile.size() - 1), table.getCardAt(0));
+        }
+    }
+
+    @Test
+    void shuffledRecycleMatchesTheListPath() {
+        for (long seed = 0; seed < 100; seed++) {
+            Deck inPlace = new Deck(new SplittableRandom(seed));
+            Deck viaList = new Deck(new SplittableRandom(seed));
+            Table inPlaceTable = new Table();
+            Table viaListTable = new Table();
+            play(inPlace, inPlaceTable, 30);
+            play(viaList, viaListTable, 30);
+
+            inPlaceTable.recycleInto(inPlace);
+            viaList.recycleCards(viaListTable.getAllCardsExceptLast());
+            assertEquals(viaList.size(), inPlace.size());
+            for (int i = 0; i < inPlace.size(); i++) {
+                assertEquals(viaList.getCardAt(i).getId(), inPlace.getCardAt(i).getId(), "seed " + seed);
+            }
+            assertEquals(viaListTable.getCurrentSum(), inPlaceTable.getCurrentSum());
+        }
+    }
+
+    /**
+     * Moves cards from the top of a deck onto a table, each with the value it takes on the current sum.
+     *
+     * @param deck the deck to draw from
+     * @param table the table to play on
+     * @param count the number of cards to play
+     * @return the cards played, in order
+     */
+    private static List<Card> play(Deck deck, Table table, int count) {
+        List<Card> played = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Card card = deck.takeCard();
+            table.addCardOnTheTable(card, card.getGameValue(table.getCurrentSum()));
+            played.add(card);
+        }
+        return played;
+    }
+
+    /**
+     * Lists the cards of a table, bottom first.
+     *
+     * @param table the table
+     * @return its cards
+     */
+    private static List<Card> cardsOf(Table table) {
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < table.getNumberOfCards(); i++) {
+            cards.add(table.getCardAt(i));
+        }
+        return cards;
+    }
+}